@@ -122,6 +122,51 @@ public class JavaFxViewIntegrationTest extends ApplicationTest {
         Assert.assertEquals(Arrays.asList(0), triggeredCells);
     }
 
+    @Test
+    public void displayBoard_withSameLayout_shouldUpdateExistingCellTextAndHandler() {
+        List<Integer> firstTriggeredCells = new ArrayList<>();
+        List<Integer> secondTriggeredCells = new ArrayList<>();
+        view.displayBoard(createBoardWithTriggerHandlerCells(firstTriggeredCells));
+        waitForFxEvents();
+        GridPane firstBoardGrid = lookup("#board").query();
+        Label firstCell = lookup("#cell-4").query();
+
+        DisplayBoard secondBoard = createBoardWithTriggerHandlerCells(secondTriggeredCells);
+        secondBoard.cells.set(4, new DisplayCell("X", 4, xPos(4), yPos(4)));
+        view.displayBoard(secondBoard);
+        waitForFxEvents();
+        clickOn("#cell-4");
+        clickOn("#cell-0");
+
+        Assert.assertSame(firstBoardGrid, lookup("#board").query());
+        Assert.assertSame(firstCell, lookup("#cell-4").query());
+        verifyThat("#cell-4", NodeMatchers.hasText("X"));
+        Assert.assertTrue(firstTriggeredCells.isEmpty());
+        Assert.assertEquals(Arrays.asList(0), secondTriggeredCells);
+    }
+
+    @Test
+    public void displayBoard_withDifferentLayout_shouldRebuildGrid() {
+        view.displayBoard(createBoard(
+                " ", " ", " ",
+                " ", " ", " ",
+                " ", " ", " "));
+        waitForFxEvents();
+        GridPane firstBoardGrid = lookup("#board").query();
+
+        DisplayBoard largerBoard = new DisplayBoard();
+        for (int i = 0; i < 16; i++)
+            largerBoard.cells.add(new DisplayCell(i == 15 ? "O" : " ", i, i % 4, i / 4));
+        view.displayBoard(largerBoard);
+        waitForFxEvents();
+
+        GridPane secondBoardGrid = lookup("#board").query();
+        Assert.assertNotSame(firstBoardGrid, secondBoardGrid);
+        Assert.assertEquals(16, secondBoardGrid.getChildren().size());
+        verifyThat("#cell-15", NodeMatchers.hasText("O"));
+        assertGridPosition("#cell-15", 3, 3);
+    }
+
     @Test
     public void displayBoard_shouldSwitchSceneRootToGame() {
         DisplayBoard board = new DisplayBoard();
@@ -0,0 +1,66 @@
+package boards;
+
+import game.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ThreeByThreeBoardBenchmark {
+	private static final int EMPTY_POSITION = 2;
+	private Board board;
+	private int[] moves;
+
+	@Setup
+	public void setUp() {
+		board = new ThreeByThreeBoard();
+		board.mark(0, 'X');
+		board.mark(4, 'O');
+		board.mark(8, 'X');
+		board.mark(1, 'O');
+		moves = new int[9];
+	}
+
+	@Benchmark
+	public boolean markAndUnmark() {
+		board.mark(EMPTY_POSITION, 'X');
+		boolean hasEnded = board.hasEnded();
+		board.unmark(EMPTY_POSITION);
+		return hasEnded;
+	}
+
+	@Benchmark
+	public Board copy() {
+		return board.copy();
+	}
+
+	@Benchmark
+	public List<Integer> possibleMoves() {
+		return board.possibleMoves();
+	}
+
+	@Benchmark
+	public int possibleMovesIntoArray() {
+		return board.possibleMoves(moves);
+	}
+
+	@Benchmark
+	public boolean hasEnded() {
+		return board.hasEnded();
+	}
+}
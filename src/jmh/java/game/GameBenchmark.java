@@ -0,0 +1,39 @@
+package game;
+
+import boards.ThreeByThreeBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import players.DefaultPlayerFactory;
+import simulation.HeadlessGame;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+	@Param({"computer", "alphaBetaComputer", "parallelComputer", "perfectComputer"})
+	public String playerType;
+
+	private final DefaultPlayerFactory playerFactory = new DefaultPlayerFactory(null, null, null, null, null, false);
+
+	@Benchmark
+	public Board computerVsComputer() {
+		Board board = new ThreeByThreeBoard();
+		Player playerOne = playerFactory.createPlayer(playerType, 'X', board, 'O');
+		Player playerTwo = playerFactory.createPlayer(playerType, 'O', board, 'X');
+		new HeadlessGame(board, playerOne, playerTwo).start();
+		return board;
+	}
+}
@@ -0,0 +1,86 @@
+package players;
+
+import boards.ThreeByThreeBoard;
+import game.Board;
+import game.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ComputerPlayerBenchmark {
+    private static final int THREE_BY_THREE_TABLE_CAPACITY = 1 << 13;
+
+    @Param({"computer", "alphaBetaComputer", "parallelComputer", "perfectComputer"})
+    public String playerType;
+
+    @Param({"empty", "midGame"})
+    public String position;
+
+    private Board board;
+    private Player player;
+    private boolean[] markedAtStart;
+    private TranspositionTable transpositionTable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        board = new ThreeByThreeBoard();
+        if ("midGame".equals(position)) {
+            board.mark(0, 'X');
+            board.mark(4, 'O');
+            board.mark(8, 'X');
+        }
+        markedAtStart = markedCellsOf(board);
+        char marker = "midGame".equals(position) ? 'O' : 'X';
+        char opponentMarker = marker == 'X' ? 'O' : 'X';
+        player = createPlayer(marker, opponentMarker);
+    }
+
+    private Player createPlayer(char marker, char opponentMarker) {
+        if ("alphaBetaComputer".equals(playerType)) {
+            transpositionTable = new TranspositionTable(THREE_BY_THREE_TABLE_CAPACITY);
+            return new AlphaBetaComputerPlayer(marker, board, opponentMarker, transpositionTable);
+        }
+        return new DefaultPlayerFactory(null, null, null, null, null, false)
+                .createPlayer(playerType, marker, board, opponentMarker);
+    }
+
+    private boolean[] markedCellsOf(Board board) {
+        boolean[] marked = new boolean[board.getStatus().length];
+        for (int position = 0; position < marked.length; position++)
+            marked[position] = board.isMarked(position);
+        return marked;
+    }
+
+    @Benchmark
+    public Board makeMove() {
+        player.makeMove();
+        resetBoard();
+        if (transpositionTable != null)
+            transpositionTable.clear();
+        return board;
+    }
+
+    private void resetBoard() {
+        for (int position = 0; position < markedAtStart.length; position++) {
+            if (!markedAtStart[position] && board.isMarked(position))
+                board.unmark(position);
+        }
+    }
+}
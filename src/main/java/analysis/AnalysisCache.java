@@ -0,0 +1,64 @@
+package analysis;
+
+import players.SearchResult;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class AnalysisCache {
+    public static final int DEFAULT_CAPACITY = 10000;
+    private static final float LOAD_FACTOR = 0.75f;
+    private final int capacity;
+    private final Map<String, SearchResult> results;
+    private long hits;
+    private long misses;
+
+    public AnalysisCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public AnalysisCache(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Invalid cache capacity: " + capacity);
+        this.capacity = capacity;
+        this.results = new LinkedHashMap<String, SearchResult>(16, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SearchResult> eldest) {
+                return size() > AnalysisCache.this.capacity;
+            }
+        };
+    }
+
+    public synchronized SearchResult get(String key) {
+        SearchResult result = results.get(key);
+        if (result == null)
+            misses++;
+        else
+            hits++;
+        return result;
+    }
+
+    public synchronized SearchResult peek(String key) {
+        return results.get(key);
+    }
+
+    public synchronized void put(String key, SearchResult result) {
+        results.put(key, result);
+    }
+
+    public synchronized int size() {
+        return results.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+}
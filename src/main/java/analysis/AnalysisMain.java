@@ -0,0 +1,15 @@
+package analysis;
+
+import java.io.IOException;
+
+public class AnalysisMain {
+    private static final int DEFAULT_PORT = 8080;
+
+    public static void main(String[] args) throws IOException {
+        int port = Integer.getInteger("port", DEFAULT_PORT);
+        int cacheCapacity = Integer.getInteger("cacheCapacity", AnalysisCache.DEFAULT_CAPACITY);
+        AnalysisServer server = new AnalysisServer(port, new PositionAnalyzer(new AnalysisCache(cacheCapacity)));
+        server.start();
+        System.out.println("Analysis server listening on port " + server.port() + AnalysisServer.ANALYZE_PATH);
+    }
+}
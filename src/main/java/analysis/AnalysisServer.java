@@ -0,0 +1,155 @@
+package analysis;
+
+import boards.DefaultBoardFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import game.Board;
+import players.SearchResult;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class AnalysisServer implements Closeable {
+    public static final String ANALYZE_PATH = "/analyze";
+    private static final char EMPTY_CELL = '.';
+    private static final int MAX_CELLS = 64;
+    private static final int OK = 200;
+    private static final int BAD_REQUEST = 400;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int CONFLICT = 409;
+    private static final int INTERNAL_SERVER_ERROR = 500;
+    private final HttpServer httpServer;
+    private final ExecutorService executor;
+    private final PositionAnalyzer analyzer;
+
+    public AnalysisServer(int port, PositionAnalyzer analyzer) throws IOException {
+        this.httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+        this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        this.analyzer = analyzer;
+        httpServer.createContext(ANALYZE_PATH, this::handleAnalyze);
+        httpServer.setExecutor(executor);
+    }
+
+    public void start() {
+        httpServer.start();
+    }
+
+    public int port() {
+        return httpServer.getAddress().getPort();
+    }
+
+    private void handleAnalyze(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, METHOD_NOT_ALLOWED, errorJson("Only POST is supported."));
+                return;
+            }
+            Map<String, String> parameters = parseForm(readBody(exchange.getRequestBody()));
+            SearchResult result = analyze(parameters);
+            respond(exchange, OK, "{\"move\":" + result.move + ",\"score\":" + result.score + "}");
+        } catch (IllegalStateException e) {
+            respond(exchange, CONFLICT, errorJson(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            respond(exchange, BAD_REQUEST, errorJson(e.getMessage()));
+        } catch (RuntimeException e) {
+            respond(exchange, INTERNAL_SERVER_ERROR, errorJson("Analysis failed: " + e));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private SearchResult analyze(Map<String, String> parameters) {
+        String cells = required(parameters, "board");
+        if (cells.length() > MAX_CELLS)
+            throw new IllegalArgumentException("Board of " + cells.length() + " cells exceeds limit of " + MAX_CELLS + ".");
+        char marker = markerOf(required(parameters, "player"));
+        char opponentMarker = marker == 'X' ? 'O' : 'X';
+        int width = parameters.containsKey("width") ? Integer.parseInt(parameters.get("width")) : squareWidthOf(cells);
+        if (width <= 0)
+            throw new IllegalArgumentException("Invalid width: " + width);
+        if (cells.length() % width != 0)
+            throw new IllegalArgumentException("Board of " + cells.length() + " cells does not fit width " + width);
+        int height = cells.length() / width;
+        int winLength = parameters.containsKey("winLength")
+                ? Integer.parseInt(parameters.get("winLength")) : Math.min(width, height);
+        if (winLength <= 0 || winLength > Math.max(width, height))
+            throw new IllegalArgumentException("Invalid win length for " + width + "x" + height + " board: " + winLength);
+        Board board = new DefaultBoardFactory(width, height, winLength).createBoard();
+        for (int position = 0; position < cells.length(); position++) {
+            char cell = cells.charAt(position);
+            if (cell != EMPTY_CELL)
+                board.mark(position, markerOf(String.valueOf(cell)));
+        }
+        return analyzer.analyze(board, marker, opponentMarker);
+    }
+
+    private String required(Map<String, String> parameters, String name) {
+        String value = parameters.get(name);
+        if (value == null || value.isEmpty())
+            throw new IllegalArgumentException("Missing parameter: " + name);
+        return value;
+    }
+
+    private char markerOf(String value) {
+        if (!"X".equals(value) && !"O".equals(value))
+            throw new IllegalArgumentException("Invalid marker: " + value);
+        return value.charAt(0);
+    }
+
+    private int squareWidthOf(String cells) {
+        int width = (int) Math.round(Math.sqrt(cells.length()));
+        if (width * width != cells.length())
+            throw new IllegalArgumentException("Board of " + cells.length() + " cells is not square, width is required.");
+        return width;
+    }
+
+    private String readBody(InputStream requestBody) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = requestBody.read(buffer)) != -1)
+            body.write(buffer, 0, read);
+        return body.toString(StandardCharsets.UTF_8.name());
+    }
+
+    private Map<String, String> parseForm(String body) throws UnsupportedEncodingException {
+        Map<String, String> parameters = new HashMap<>();
+        for (String pair : body.trim().split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0)
+                parameters.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8.name()),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8.name()));
+        }
+        return parameters;
+    }
+
+    private String errorJson(String message) {
+        return "{\"error\":\"" + message.replace("\\", "\\\\").replace("\"", "\\\"") + "\"}";
+    }
+
+    private void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] response = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, response.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(response);
+        }
+    }
+
+    @Override
+    public void close() {
+        httpServer.stop(0);
+        executor.shutdownNow();
+    }
+}
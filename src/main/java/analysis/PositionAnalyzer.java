@@ -0,0 +1,98 @@
+package analysis;
+
+import boards.BoardSymmetry;
+import boards.BoardSymmetry.CanonicalPosition;
+import game.Board;
+import players.AlphaBetaSearch;
+import players.SearchResult;
+import players.TranspositionTable;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class PositionAnalyzer {
+    public static final int MAX_EMPTY_CELLS = 16;
+    private final AnalysisCache cache;
+    private final ConcurrentMap<String, CompletableFuture<SearchResult>> inFlight = new ConcurrentHashMap<>();
+    private final Queue<TranspositionTable> idleTables = new ConcurrentLinkedQueue<>();
+    private final LongAdder searches = new LongAdder();
+
+    public PositionAnalyzer(AnalysisCache cache) {
+        this.cache = cache;
+    }
+
+    public SearchResult analyze(Board board, char marker, char opponentMarker) {
+        if (board.hasEnded())
+            throw new IllegalStateException("Unable to analyze: board has already ended.");
+        int emptyCells = board.possibleMoves().size();
+        if (emptyCells > MAX_EMPTY_CELLS)
+            throw new IllegalArgumentException("Unable to analyze: " + emptyCells + " empty cells exceeds limit of "
+                    + MAX_EMPTY_CELLS + ".");
+        CanonicalPosition canonical = BoardSymmetry.of(board).canonicalize(board.getStatus());
+        String key = keyOf(board, canonical, marker, opponentMarker);
+        SearchResult canonicalResult = cache.get(key);
+        if (canonicalResult == null)
+            canonicalResult = searchOnce(key, board, canonical, marker, opponentMarker);
+        return new SearchResult(canonical.fromCanonical(canonicalResult.move), canonicalResult.score);
+    }
+
+    public long searches() {
+        return searches.sum();
+    }
+
+    private SearchResult searchOnce(String key, Board board, CanonicalPosition canonical, char marker,
+                                    char opponentMarker) {
+        CompletableFuture<SearchResult> search = new CompletableFuture<>();
+        CompletableFuture<SearchResult> existingSearch = inFlight.putIfAbsent(key, search);
+        if (existingSearch != null)
+            return awaitResult(existingSearch);
+        try {
+            SearchResult canonicalResult = cache.peek(key);
+            if (canonicalResult == null) {
+                SearchResult result = search(board, marker, opponentMarker);
+                canonicalResult = new SearchResult(canonical.toCanonical(result.move), result.score);
+                cache.put(key, canonicalResult);
+            }
+            search.complete(canonicalResult);
+            return canonicalResult;
+        } catch (RuntimeException e) {
+            search.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, search);
+        }
+    }
+
+    private SearchResult search(Board board, char marker, char opponentMarker) {
+        TranspositionTable table = idleTables.poll();
+        if (table == null)
+            table = new TranspositionTable();
+        else
+            table.newGeneration();
+        try {
+            searches.increment();
+            return new AlphaBetaSearch(marker, opponentMarker, table).search(board);
+        } finally {
+            idleTables.add(table);
+        }
+    }
+
+    private SearchResult awaitResult(CompletableFuture<SearchResult> search) {
+        try {
+            return search.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+
+    private String keyOf(Board board, CanonicalPosition canonical, char marker, char opponentMarker) {
+        return board.size() + "x" + board.winLength() + ":" + marker + opponentMarker + ":" + new String(canonical.cells);
+    }
+}
@@ -0,0 +1,7 @@
+package application;
+
+import game.Board;
+
+public interface BoardFactory {
+    Board createBoard();
+}
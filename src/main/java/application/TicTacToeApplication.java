@@ -5,11 +5,14 @@ import game.Game;
 import game.Player;
 
 public abstract class TicTacToeApplication {
+    private static final int FULL_SEARCH_MAX_CELLS = 9;
 
     protected final PlayerFactory playerFactory;
+    protected final BoardFactory boardFactory;
 
-    public TicTacToeApplication(PlayerFactory playerFactory) {
+    public TicTacToeApplication(PlayerFactory playerFactory, BoardFactory boardFactory) {
         this.playerFactory = playerFactory;
+        this.boardFactory = boardFactory;
     }
 
     public void run() {
@@ -33,6 +36,10 @@ public abstract class TicTacToeApplication {
 
     protected abstract Player configurePlayer(PlayerNumber playerNumber, Board board);
 
+    protected String computerPlayerTypeFor(Board board) {
+        return board.getStatus().length <= FULL_SEARCH_MAX_CELLS ? "computer" : "timedComputer";
+    }
+
     protected abstract Game createGame(Board board, Player playerOne, Player playerTwo);
 
     protected abstract boolean playAgain();
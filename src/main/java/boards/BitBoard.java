@@ -0,0 +1,224 @@
+package boards;
+
+import game.Board;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BitBoard implements Board {
+	private static final int BOARD_SIZE = 3;
+	private static final int NUM_CELLS = BOARD_SIZE * BOARD_SIZE;
+	private static final int ALL_MARKED_MASK = (1 << NUM_CELLS) - 1;
+	private static final int[] WINNING_MASKS = {
+			0b000_000_111, 0b000_111_000, 0b111_000_000,
+			0b001_001_001, 0b010_010_010, 0b100_100_100,
+			0b100_010_001, 0b001_010_100
+	};
+	private static final int[][] WINNING_MASKS_THROUGH_CELL = generateWinningMasksThroughCells();
+	private final int[] playerMasks;
+	private final char[] playerMarks;
+	private char winner;
+	private long hash;
+
+	public BitBoard() {
+		this.playerMasks = new int[2];
+		this.playerMarks = new char[2];
+	}
+
+	private BitBoard(BitBoard other) {
+		this.playerMasks = other.playerMasks.clone();
+		this.playerMarks = other.playerMarks.clone();
+		this.winner = other.winner;
+		this.hash = other.hash;
+	}
+
+	private static int[][] generateWinningMasksThroughCells() {
+		int[][] masksThroughCells = new int[NUM_CELLS][];
+		for (int cell = 0; cell < NUM_CELLS; cell++) {
+			masksThroughCells[cell] = winningMasksThrough(cell);
+		}
+		return masksThroughCells;
+	}
+
+	private static int[] winningMasksThrough(int cell) {
+		List<Integer> masks = new ArrayList<>();
+		for (int mask : WINNING_MASKS) {
+			if ((mask & bitOf(cell)) != 0)
+				masks.add(mask);
+		}
+		return masks.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private static int bitOf(int position) {
+		return 1 << position;
+	}
+
+	@Override
+	public char[] getStatus() {
+		char[] cells = new char[NUM_CELLS];
+		for (int player = 0; player < playerMasks.length; player++) {
+			for (int i = 0; i < NUM_CELLS; i++) {
+				if ((playerMasks[player] & bitOf(i)) != 0)
+					cells[i] = playerMarks[player];
+			}
+		}
+		return cells;
+	}
+
+	@Override
+	public void mark(int position, char playerMark) {
+		validate(position);
+		int player = playerIndexOf(playerMark);
+		playerMasks[player] |= bitOf(position);
+		hash ^= Zobrist.keyOf(position, playerMark);
+		if (!hasWinner() && hasWinningLineThrough(position, playerMasks[player]))
+			winner = playerMark;
+	}
+
+	private void validate(int position) {
+		if (isOutOfRange(position))
+			throw new IllegalArgumentException("Invalid position: " + position);
+		if (isMarked(position))
+			throw new IllegalArgumentException("Position " + position + " is already marked.");
+	}
+
+	private boolean isOutOfRange(int position) {
+		return position < 0 || position >= NUM_CELLS;
+	}
+
+	@Override
+	public void unmark(int position) {
+		validateMarked(position);
+		int player = playerIndexAt(position);
+		playerMasks[player] &= ~bitOf(position);
+		hash ^= Zobrist.keyOf(position, playerMarks[player]);
+		if (hasWinner())
+			winner = determineWinnerIfPresent();
+	}
+
+	private void validateMarked(int position) {
+		if (isOutOfRange(position))
+			throw new IllegalArgumentException("Invalid position: " + position);
+		if (!isMarked(position))
+			throw new IllegalArgumentException("Position " + position + " is not marked.");
+	}
+
+	private int playerIndexAt(int position) {
+		return (playerMasks[0] & bitOf(position)) != 0 ? 0 : 1;
+	}
+
+	private char determineWinnerIfPresent() {
+		if (hasWinningLine(playerMasks[playerIndexOf(winner)]))
+			return winner;
+		for (int player = 0; player < playerMasks.length; player++) {
+			if (hasWinningLine(playerMasks[player]))
+				return playerMarks[player];
+		}
+		return 0;
+	}
+
+	private boolean hasWinningLine(int playerMask) {
+		for (int winningMask : WINNING_MASKS) {
+			if ((playerMask & winningMask) == winningMask)
+				return true;
+		}
+		return false;
+	}
+
+	private int playerIndexOf(char playerMark) {
+		for (int player = 0; player < playerMarks.length; player++) {
+			if (playerMarks[player] == playerMark)
+				return player;
+			if (playerMarks[player] == 0) {
+				playerMarks[player] = playerMark;
+				return player;
+			}
+		}
+		throw new IllegalArgumentException("Board already has two markers, unable to mark with: " + playerMark);
+	}
+
+	private boolean hasWinningLineThrough(int position, int playerMask) {
+		for (int winningMask : WINNING_MASKS_THROUGH_CELL[position]) {
+			if ((playerMask & winningMask) == winningMask)
+				return true;
+		}
+		return false;
+	}
+
+	@Override
+	public boolean hasWinner() {
+		return winner != 0;
+	}
+
+	@Override
+	public char getWinner() {
+		return winner;
+	}
+
+	@Override
+	public boolean hasEnded() {
+		return hasWinner() || markedMask() == ALL_MARKED_MASK;
+	}
+
+	private int markedMask() {
+		return playerMasks[0] | playerMasks[1];
+	}
+
+	@Override
+	public int size() {
+		return BOARD_SIZE;
+	}
+
+	@Override
+	public int winLength() {
+		return BOARD_SIZE;
+	}
+
+	@Override
+	public boolean isValid(int position) {
+		return !isOutOfRange(position) && !isMarked(position);
+	}
+
+	@Override
+	public boolean isMarked(int position) {
+		return (markedMask() & bitOf(position)) != 0;
+	}
+
+	@Override
+	public Board copy() {
+		return new BitBoard(this);
+	}
+
+	@Override
+	public List<Integer> possibleMoves() {
+		List<Integer> possibleMoves = new ArrayList<>();
+		int emptyMask = ~markedMask() & ALL_MARKED_MASK;
+		while (emptyMask != 0) {
+			possibleMoves.add(Integer.numberOfTrailingZeros(emptyMask));
+			emptyMask &= emptyMask - 1;
+		}
+		return possibleMoves;
+	}
+
+	@Override
+	public int possibleMoves(int[] moves) {
+		int emptyMask = ~markedMask() & ALL_MARKED_MASK;
+		validateCapacity(moves, Integer.bitCount(emptyMask));
+		int count = 0;
+		while (emptyMask != 0) {
+			moves[count++] = Integer.numberOfTrailingZeros(emptyMask);
+			emptyMask &= emptyMask - 1;
+		}
+		return count;
+	}
+
+	private void validateCapacity(int[] moves, int moveCount) {
+		if (moves.length < moveCount)
+			throw new IllegalArgumentException("Moves array too small: " + moves.length + " < " + moveCount);
+	}
+
+	@Override
+	public long hash() {
+		return hash;
+	}
+}
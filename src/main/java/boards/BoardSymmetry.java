@@ -0,0 +1,152 @@
+package boards;
+
+import game.Board;
+
+public class BoardSymmetry {
+	private static final int SQUARE_TRANSFORM_COUNT = 8;
+	private static final int RECTANGLE_TRANSFORM_COUNT = 4;
+	private final int width;
+	private final int height;
+	private final int[][] transforms;
+	private final int[][] inverses;
+
+	public BoardSymmetry(int width, int height) {
+		if (width <= 0 || height <= 0)
+			throw new IllegalArgumentException("Invalid board dimensions: " + width + "x" + height);
+		this.width = width;
+		this.height = height;
+		this.transforms = generateTransforms();
+		this.inverses = generateInverses(transforms);
+	}
+
+	public static BoardSymmetry of(Board board) {
+		return new BoardSymmetry(board.size(), board.getStatus().length / board.size());
+	}
+
+	private int[][] generateTransforms() {
+		int transformCount = width == height ? SQUARE_TRANSFORM_COUNT : RECTANGLE_TRANSFORM_COUNT;
+		int[][] generated = new int[transformCount][width * height];
+		for (int position = 0; position < width * height; position++) {
+			int x = position % width;
+			int y = position / width;
+			int flippedX = width - 1 - x;
+			int flippedY = height - 1 - y;
+			generated[0][position] = positionOf(x, y);
+			generated[1][position] = positionOf(flippedX, y);
+			generated[2][position] = positionOf(x, flippedY);
+			generated[3][position] = positionOf(flippedX, flippedY);
+			if (transformCount == SQUARE_TRANSFORM_COUNT) {
+				generated[4][position] = positionOf(y, x);
+				generated[5][position] = positionOf(flippedY, x);
+				generated[6][position] = positionOf(y, flippedX);
+				generated[7][position] = positionOf(flippedY, flippedX);
+			}
+		}
+		return generated;
+	}
+
+	private int positionOf(int x, int y) {
+		return x + y * width;
+	}
+
+	private static int[][] generateInverses(int[][] transforms) {
+		int[][] generated = new int[transforms.length][];
+		for (int t = 0; t < transforms.length; t++) {
+			generated[t] = new int[transforms[t].length];
+			for (int position = 0; position < transforms[t].length; position++)
+				generated[t][transforms[t][position]] = position;
+		}
+		return generated;
+	}
+
+	public int transformCount() {
+		return transforms.length;
+	}
+
+	public int width() {
+		return width;
+	}
+
+	public int cellCount() {
+		return width * height;
+	}
+
+	public int transform(int transform, int position) {
+		return transforms[transform][position];
+	}
+
+	public int inverse(int transform, int position) {
+		return inverses[transform][position];
+	}
+
+	public char[] apply(int transform, char[] cells) {
+		validate(cells);
+		char[] transformed = new char[cells.length];
+		for (int position = 0; position < cells.length; position++)
+			transformed[transforms[transform][position]] = cells[position];
+		return transformed;
+	}
+
+	public CanonicalPosition canonicalize(char[] cells) {
+		validate(cells);
+		int canonicalTransform = 0;
+		for (int t = 1; t < transforms.length; t++) {
+			if (compareTransformed(t, canonicalTransform, cells) < 0)
+				canonicalTransform = t;
+		}
+		return new CanonicalPosition(apply(canonicalTransform, cells), canonicalTransform, this);
+	}
+
+	private int compareTransformed(int transformOne, int transformTwo, char[] cells) {
+		for (int position = 0; position < cells.length; position++) {
+			char cellOne = cells[inverses[transformOne][position]];
+			char cellTwo = cells[inverses[transformTwo][position]];
+			if (cellOne != cellTwo)
+				return Character.compare(cellOne, cellTwo);
+		}
+		return 0;
+	}
+
+	public long canonicalHash(char[] cells) {
+		validate(cells);
+		long canonicalHash = Long.MAX_VALUE;
+		for (int t = 0; t < transforms.length; t++)
+			canonicalHash = Math.min(hashOf(t, cells), canonicalHash);
+		return canonicalHash;
+	}
+
+	public long hashOf(int transform, char[] cells) {
+		validate(cells);
+		long hash = 0;
+		for (int position = 0; position < cells.length; position++) {
+			if (cells[position] != 0)
+				hash ^= Zobrist.keyOf(transforms[transform][position], cells[position]);
+		}
+		return hash;
+	}
+
+	private void validate(char[] cells) {
+		if (cells.length != width * height)
+			throw new IllegalArgumentException("Expected " + width * height + " cells but was: " + cells.length);
+	}
+
+	public static class CanonicalPosition {
+		public final char[] cells;
+		public final int transform;
+		private final BoardSymmetry symmetry;
+
+		CanonicalPosition(char[] cells, int transform, BoardSymmetry symmetry) {
+			this.cells = cells;
+			this.transform = transform;
+			this.symmetry = symmetry;
+		}
+
+		public int toCanonical(int position) {
+			return symmetry.transform(transform, position);
+		}
+
+		public int fromCanonical(int canonicalPosition) {
+			return symmetry.inverse(transform, canonicalPosition);
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package boards;
+
+import application.BoardFactory;
+import game.Board;
+
+import java.util.List;
+
+public class DefaultBoardFactory implements BoardFactory {
+	private static final int DEFAULT_SIZE = 3;
+	private final int width;
+	private final int height;
+	private final int winLength;
+
+	public DefaultBoardFactory() {
+		this(DEFAULT_SIZE, DEFAULT_SIZE, DEFAULT_SIZE);
+	}
+
+	public DefaultBoardFactory(int width, int height, int winLength) {
+		NByNBoard.validateDimensions(width, height, winLength);
+		this.width = width;
+		this.height = height;
+		this.winLength = winLength;
+	}
+
+	public static DefaultBoardFactory fromArguments(List<String> arguments) {
+		if (arguments.isEmpty())
+			return new DefaultBoardFactory();
+		if (arguments.size() != 3)
+			throw new IllegalArgumentException("Expected board arguments: width height winLength, but was: " + arguments);
+		try {
+			return new DefaultBoardFactory(Integer.parseInt(arguments.get(0)), Integer.parseInt(arguments.get(1)),
+					Integer.parseInt(arguments.get(2)));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid board arguments: " + arguments, e);
+		}
+	}
+
+	@Override
+	public Board createBoard() {
+		if (width == DEFAULT_SIZE && height == DEFAULT_SIZE && winLength == DEFAULT_SIZE)
+			return new ThreeByThreeBoard();
+		else
+			return new NByNBoard(width, height, winLength);
+	}
+}
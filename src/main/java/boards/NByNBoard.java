@@ -0,0 +1,226 @@
+package boards;
+
+import game.Board;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class NByNBoard implements Board {
+	private static final int[][] LINE_DIRECTIONS = {{1, 0}, {0, 1}, {1, 1}, {1, -1}};
+	private static final int NO_POSITION = -1;
+	private final int width;
+	private final int height;
+	private final int winLength;
+	private final char[] cells;
+	private int markedCount;
+	private char winner;
+	private int winningPosition;
+	private int winningMarkedCount;
+	private long hash;
+
+	public NByNBoard(int width, int height, int winLength) {
+		validateDimensions(width, height, winLength);
+		this.width = width;
+		this.height = height;
+		this.winLength = winLength;
+		this.cells = new char[width * height];
+		this.winningPosition = NO_POSITION;
+	}
+
+	private NByNBoard(NByNBoard other) {
+		this.width = other.width;
+		this.height = other.height;
+		this.winLength = other.winLength;
+		this.cells = other.cells.clone();
+		this.markedCount = other.markedCount;
+		this.winner = other.winner;
+		this.winningPosition = other.winningPosition;
+		this.winningMarkedCount = other.winningMarkedCount;
+		this.hash = other.hash;
+	}
+
+	static void validateDimensions(int width, int height, int winLength) {
+		if (width <= 0 || height <= 0)
+			throw new IllegalArgumentException("Invalid board dimensions: " + width + "x" + height);
+		if (winLength <= 0 || winLength > Math.max(width, height))
+			throw new IllegalArgumentException("Invalid win length for " + width + "x" + height + " board: " + winLength);
+	}
+
+	public int width() {
+		return width;
+	}
+
+	public int height() {
+		return height;
+	}
+
+	@Override
+	public int winLength() {
+		return winLength;
+	}
+
+	@Override
+	public char[] getStatus() {
+		return cells.clone();
+	}
+
+	@Override
+	public void mark(int position, char playerMark) {
+		validate(position);
+		cells[position] = playerMark;
+		markedCount++;
+		hash ^= Zobrist.keyOf(position, playerMark);
+		if (!hasWinner() && completesLineThrough(position))
+			recordWinner(position);
+	}
+
+	private void validate(int position) {
+		if (isOutOfRange(position))
+			throw new IllegalArgumentException("Invalid position: " + position);
+		if (isMarked(position))
+			throw new IllegalArgumentException("Position " + position + " is already marked.");
+	}
+
+	private boolean isOutOfRange(int position) {
+		return position < 0 || position >= cells.length;
+	}
+
+	private void recordWinner(int position) {
+		winner = cells[position];
+		winningPosition = position;
+		winningMarkedCount = markedCount;
+	}
+
+	private boolean completesLineThrough(int position) {
+		for (int[] direction : LINE_DIRECTIONS) {
+			int lineLength = 1
+					+ countSameMarks(position, direction[0], direction[1])
+					+ countSameMarks(position, -direction[0], -direction[1]);
+			if (lineLength >= winLength)
+				return true;
+		}
+		return false;
+	}
+
+	private int countSameMarks(int position, int xStep, int yStep) {
+		char mark = cells[position];
+		int x = position % width + xStep;
+		int y = position / width + yStep;
+		int count = 0;
+		while (count < winLength - 1 && isOnBoard(x, y) && cells[x + y * width] == mark) {
+			count++;
+			x += xStep;
+			y += yStep;
+		}
+		return count;
+	}
+
+	private boolean isOnBoard(int x, int y) {
+		return x >= 0 && x < width && y >= 0 && y < height;
+	}
+
+	@Override
+	public void unmark(int position) {
+		validateMarked(position);
+		boolean isUndoingWinningMove = position == winningPosition && markedCount == winningMarkedCount;
+		hash ^= Zobrist.keyOf(position, cells[position]);
+		cells[position] = 0;
+		markedCount--;
+		if (isUndoingWinningMove)
+			clearWinner();
+		else if (hasWinner())
+			determineWinnerIfPresent();
+	}
+
+	private void validateMarked(int position) {
+		if (isOutOfRange(position))
+			throw new IllegalArgumentException("Invalid position: " + position);
+		if (!isMarked(position))
+			throw new IllegalArgumentException("Position " + position + " is not marked.");
+	}
+
+	private void clearWinner() {
+		winner = 0;
+		winningPosition = NO_POSITION;
+	}
+
+	private void determineWinnerIfPresent() {
+		if (winningPosition != NO_POSITION && isMarked(winningPosition) && completesLineThrough(winningPosition))
+			return;
+		clearWinner();
+		for (int position = 0; position < cells.length; position++) {
+			if (isMarked(position) && completesLineThrough(position)) {
+				winner = cells[position];
+				winningPosition = position;
+				winningMarkedCount = NO_POSITION;
+				return;
+			}
+		}
+	}
+
+	@Override
+	public boolean hasWinner() {
+		return winner != 0;
+	}
+
+	@Override
+	public char getWinner() {
+		return winner;
+	}
+
+	@Override
+	public boolean hasEnded() {
+		return hasWinner() || markedCount == cells.length;
+	}
+
+	@Override
+	public int size() {
+		return width;
+	}
+
+	@Override
+	public boolean isValid(int position) {
+		return !isOutOfRange(position) && !isMarked(position);
+	}
+
+	@Override
+	public boolean isMarked(int position) {
+		return cells[position] != 0;
+	}
+
+	@Override
+	public Board copy() {
+		return new NByNBoard(this);
+	}
+
+	@Override
+	public List<Integer> possibleMoves() {
+		List<Integer> possibleMoves = new ArrayList<>();
+		for (int i = 0; i < cells.length; i++) {
+			if (!isMarked(i))
+				possibleMoves.add(i);
+		}
+		return possibleMoves;
+	}
+
+	@Override
+	public int possibleMoves(int[] moves) {
+		validateCapacity(moves, cells.length - markedCount);
+		int count = 0;
+		for (int i = 0; i < cells.length; i++) {
+			if (!isMarked(i))
+				moves[count++] = i;
+		}
+		return count;
+	}
+
+	private void validateCapacity(int[] moves, int moveCount) {
+		if (moves.length < moveCount)
+			throw new IllegalArgumentException("Moves array too small: " + moves.length + " < " + moveCount);
+	}
+
+	@Override
+	public long hash() {
+		return hash;
+	}
+}
@@ -0,0 +1,74 @@
+package boards;
+
+import java.util.Arrays;
+
+public class SymmetricHash {
+	private static final int MAX_CACHED_MARKERS = 2;
+	private final BoardSymmetry symmetry;
+	private final long[] hashes;
+	private final char[] cachedMarkers;
+	private final long[][][] cachedKeys;
+
+	public SymmetricHash(BoardSymmetry symmetry, char[] cells) {
+		this.symmetry = symmetry;
+		this.hashes = new long[symmetry.transformCount()];
+		this.cachedMarkers = new char[MAX_CACHED_MARKERS];
+		this.cachedKeys = new long[MAX_CACHED_MARKERS][][];
+		reset(cells);
+	}
+
+	public void reset(char[] cells) {
+		if (cells.length != symmetry.cellCount())
+			throw new IllegalArgumentException("Expected " + symmetry.cellCount() + " cells, but was: " + cells.length);
+		Arrays.fill(hashes, 0);
+		for (int position = 0; position < cells.length; position++) {
+			if (cells[position] != 0)
+				toggle(position, cells[position]);
+		}
+	}
+
+	public void toggle(int position, char marker) {
+		long[][] keys = keysOf(marker);
+		for (int t = 0; t < hashes.length; t++)
+			hashes[t] ^= keys[t][position];
+	}
+
+	private long[][] keysOf(char marker) {
+		for (int i = 0; i < MAX_CACHED_MARKERS; i++) {
+			if (cachedKeys[i] != null && cachedMarkers[i] == marker)
+				return cachedKeys[i];
+			if (cachedKeys[i] == null) {
+				cachedMarkers[i] = marker;
+				cachedKeys[i] = generateKeys(marker);
+				return cachedKeys[i];
+			}
+		}
+		return generateKeys(marker);
+	}
+
+	private long[][] generateKeys(char marker) {
+		long[][] keys = new long[symmetry.transformCount()][symmetry.cellCount()];
+		for (int t = 0; t < keys.length; t++) {
+			for (int position = 0; position < keys[t].length; position++)
+				keys[t][position] = Zobrist.keyOf(symmetry.transform(t, position), marker);
+		}
+		return keys;
+	}
+
+	public long canonicalHash() {
+		return hashes[canonicalTransform()];
+	}
+
+	public int canonicalTransform() {
+		int canonicalTransform = 0;
+		for (int t = 1; t < hashes.length; t++) {
+			if (hashes[t] < hashes[canonicalTransform])
+				canonicalTransform = t;
+		}
+		return canonicalTransform;
+	}
+
+	public BoardSymmetry symmetry() {
+		return symmetry;
+	}
+}
@@ -3,29 +3,76 @@ package boards;
 import game.Board;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 public class ThreeByThreeBoard implements Board {
 	private static final int BOARD_SIZE = 3;
+	private static final int NUM_CELLS = BOARD_SIZE * BOARD_SIZE;
+	private static final int[][] WINNING_PATHS = generateWinningPaths().toArray(new int[0][]);
+	private static final int[][] WINNING_PATHS_THROUGH_CELL = generateWinningPathsThroughCell();
+	private static final int INITIAL_MARKER_SLOTS = 2;
+	private static final int NO_SLOT = -1;
 	private char[] cells;
 	private char winner;
-	private Set<int[]> winningPaths;
+	private long hash;
+	private int markedCount;
+	private char[] slotMarkers;
+	private int[][] pathCounts;
+	private int[] completedPathCounts;
 
 	public ThreeByThreeBoard() {
-		this.cells = new char[9];
-		generateWinningPaths();
+		this.cells = new char[NUM_CELLS];
+		this.slotMarkers = new char[INITIAL_MARKER_SLOTS];
+		this.pathCounts = new int[INITIAL_MARKER_SLOTS][WINNING_PATHS.length];
+		this.completedPathCounts = new int[INITIAL_MARKER_SLOTS];
 	}
 
-	private void generateWinningPaths() {
-		winningPaths = new HashSet<>();
+	private ThreeByThreeBoard(ThreeByThreeBoard other) {
+		this.cells = other.cells.clone();
+		this.winner = other.winner;
+		this.hash = other.hash;
+		this.markedCount = other.markedCount;
+		this.slotMarkers = other.slotMarkers.clone();
+		this.pathCounts = new int[other.pathCounts.length][];
+		for (int slot = 0; slot < pathCounts.length; slot++)
+			this.pathCounts[slot] = other.pathCounts[slot].clone();
+		this.completedPathCounts = other.completedPathCounts.clone();
+	}
+
+	private static Set<int[]> generateWinningPaths() {
+		Set<int[]> winningPaths = new HashSet<>();
 		winningPaths.addAll(generateHorizontalWinningPaths());
 		winningPaths.addAll(generateVerticalWinningPaths());
 		winningPaths.addAll(generateDiagonalWinningPaths());
+		return winningPaths;
+	}
+
+	private static int[][] generateWinningPathsThroughCell() {
+		int[][] pathsThroughCell = new int[NUM_CELLS][];
+		for (int position = 0; position < NUM_CELLS; position++) {
+			int[] paths = new int[WINNING_PATHS.length];
+			int count = 0;
+			for (int path = 0; path < WINNING_PATHS.length; path++) {
+				if (contains(WINNING_PATHS[path], position))
+					paths[count++] = path;
+			}
+			pathsThroughCell[position] = Arrays.copyOf(paths, count);
+		}
+		return pathsThroughCell;
 	}
 
-	private Set<int[]> generateHorizontalWinningPaths() {
+	private static boolean contains(int[] path, int position) {
+		for (int cell : path) {
+			if (cell == position)
+				return true;
+		}
+		return false;
+	}
+
+	private static Set<int[]> generateHorizontalWinningPaths() {
 		Set<int[]> paths = new HashSet<>();
 		for (int rowStep = 0; rowStep < BOARD_SIZE; rowStep++) {
 			int[] winningPath = new int[BOARD_SIZE];
@@ -37,7 +84,7 @@ public class ThreeByThreeBoard implements Board {
 		return paths;
 	}
 
-	private Set<int[]> generateVerticalWinningPaths() {
+	private static Set<int[]> generateVerticalWinningPaths() {
 		Set<int[]> paths = new HashSet<>();
 		for (int colStep = 0; colStep < BOARD_SIZE; colStep++) {
 			int[] winningPath = new int[BOARD_SIZE];
@@ -49,14 +96,14 @@ public class ThreeByThreeBoard implements Board {
 		return paths;
 	}
 
-	private Set<int[]> generateDiagonalWinningPaths() {
+	private static Set<int[]> generateDiagonalWinningPaths() {
 		Set<int[]> paths = new HashSet<>();
 		addFirstDiagonalWinningPath(paths);
 		addSecondDiagonalWinningPath(paths);
 		return paths;
 	}
 
-	private void addFirstDiagonalWinningPath(Set<int[]> paths) {
+	private static void addFirstDiagonalWinningPath(Set<int[]> paths) {
 		int[] winningPath = new int[BOARD_SIZE];
 		for (int i = 0; i < BOARD_SIZE; i++) {
 			winningPath[i] = i + i * BOARD_SIZE;
@@ -64,7 +111,7 @@ public class ThreeByThreeBoard implements Board {
 		paths.add(winningPath);
 	}
 
-	private void addSecondDiagonalWinningPath(Set<int[]> paths) {
+	private static void addSecondDiagonalWinningPath(Set<int[]> paths) {
 		int[] winningPath = new int[BOARD_SIZE];
 		for (int i = 0; i < BOARD_SIZE; i++) {
 			winningPath[i] = BOARD_SIZE - 1 - i + i * BOARD_SIZE;
@@ -86,7 +133,37 @@ public class ThreeByThreeBoard implements Board {
 	public void mark(int position, char playerMark) {
 		validate(position);
 		cells[position] = playerMark;
-		winner = determineWinnerIfPresent();
+		markedCount++;
+		hash ^= Zobrist.keyOf(position, playerMark);
+		int slot = slotOf(playerMark);
+		for (int path : WINNING_PATHS_THROUGH_CELL[position]) {
+			if (++pathCounts[slot][path] == BOARD_SIZE)
+				completedPathCounts[slot]++;
+		}
+		if (!hasWinner() && completedPathCounts[slot] > 0)
+			winner = playerMark;
+	}
+
+	private int slotOf(char playerMark) {
+		for (int slot = 0; slot < slotMarkers.length; slot++) {
+			if (slotMarkers[slot] == playerMark)
+				return slot;
+			if (slotMarkers[slot] == 0) {
+				slotMarkers[slot] = playerMark;
+				return slot;
+			}
+		}
+		return addSlot(playerMark);
+	}
+
+	private int addSlot(char playerMark) {
+		int slot = slotMarkers.length;
+		slotMarkers = Arrays.copyOf(slotMarkers, slot + 1);
+		pathCounts = Arrays.copyOf(pathCounts, slot + 1);
+		completedPathCounts = Arrays.copyOf(completedPathCounts, slot + 1);
+		slotMarkers[slot] = playerMark;
+		pathCounts[slot] = new int[WINNING_PATHS.length];
+		return slot;
 	}
 
 	private void validate(int position) {
@@ -96,15 +173,38 @@ public class ThreeByThreeBoard implements Board {
 			throw new IllegalArgumentException("Position " + position + " is already marked.");
 	}
 
+	@Override
+	public void unmark(int position) {
+		validateMarked(position);
+		hash ^= Zobrist.keyOf(position, cells[position]);
+		int slot = slotOf(cells[position]);
+		cells[position] = 0;
+		markedCount--;
+		for (int path : WINNING_PATHS_THROUGH_CELL[position]) {
+			if (pathCounts[slot][path]-- == BOARD_SIZE)
+				completedPathCounts[slot]--;
+		}
+		if (hasWinner())
+			winner = determineWinnerIfPresent();
+	}
+
+	private void validateMarked(int position) {
+		if (isOutOfRange(position))
+			throw new IllegalArgumentException("Invalid position: " + position);
+		if (!isMarked(position))
+			throw new IllegalArgumentException("Position " + position + " is not marked.");
+	}
+
 	private boolean isOutOfRange(int position) {
-		return position < 0 || position >= BOARD_SIZE * BOARD_SIZE;
+		return position < 0 || position >= NUM_CELLS;
 	}
 
 	private char determineWinnerIfPresent() {
-		for (int[] winningPath : winningPaths) {
-			if (hasWinnerOn(winningPath)) {
-				return cells[winningPath[0]];
-			}
+		if (completedPathCounts[slotOf(winner)] > 0)
+			return winner;
+		for (int slot = 0; slot < slotMarkers.length; slot++) {
+			if (completedPathCounts[slot] > 0)
+				return slotMarkers[slot];
 		}
 		return 0;
 	}
@@ -114,28 +214,13 @@ public class ThreeByThreeBoard implements Board {
 		return winner != 0;
 	}
 
-	private boolean hasWinnerOn(int[] winningPath) {
-		for (int i = 1; i < winningPath.length; i++) {
-			if (!isMarked(winningPath[i]) || !isSameMark(winningPath[i - 1], winningPath[i]))
-				return false;
-		}
-		return true;
-	}
-
 	public boolean isMarked(int position) {
 		return cells[position] != 0;
 	}
 
 	@Override
 	public Board copy() {
-		Board copy = new ThreeByThreeBoard();
-		for (int i = 0; i < this.cells.length; i++)
-			copy.mark(i, this.cells[i]);
-		return copy;
-	}
-
-	private boolean isSameMark(int positionOne, int positionTwo) {
-		return cells[positionOne] == cells[positionTwo];
+		return new ThreeByThreeBoard(this);
 	}
 
 	@Override
@@ -145,18 +230,16 @@ public class ThreeByThreeBoard implements Board {
 
 	@Override
 	public boolean hasEnded() {
-		return hasWinner() || isAllMarked();
+		return hasWinner() || markedCount == NUM_CELLS;
 	}
 
-	private boolean isAllMarked() {
-		for (char cell : cells)
-			if (cell == 0)
-				return false;
-		return true;
+	@Override
+	public int size() {
+		return BOARD_SIZE;
 	}
 
 	@Override
-	public int size() {
+	public int winLength() {
 		return BOARD_SIZE;
 	}
 
@@ -169,4 +252,25 @@ public class ThreeByThreeBoard implements Board {
         }
         return possibleMoves;
     }
+
+	@Override
+	public int possibleMoves(int[] moves) {
+		validateCapacity(moves, NUM_CELLS - markedCount);
+		int count = 0;
+		for (int i = 0; i < NUM_CELLS; i++) {
+			if (!isMarked(i))
+				moves[count++] = i;
+		}
+		return count;
+	}
+
+	private void validateCapacity(int[] moves, int moveCount) {
+		if (moves.length < moveCount)
+			throw new IllegalArgumentException("Moves array too small: " + moves.length + " < " + moveCount);
+	}
+
+	@Override
+	public long hash() {
+		return hash;
+	}
 }
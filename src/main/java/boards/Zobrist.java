@@ -0,0 +1,26 @@
+package boards;
+
+public class Zobrist {
+	private static final long SEED = 0x9E3779B97F4A7C15L;
+	private static final int SIDE_TO_MOVE_POSITION = -1;
+	private static final int DIMENSIONS_POSITION = -2;
+	private static final int WIN_LENGTH_POSITION = -3;
+
+	private Zobrist() {
+	}
+
+	public static long keyOf(int position, char marker) {
+		long z = SEED * ((((long) position) << Character.SIZE | marker) + 1);
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	public static long sideToMoveKeyOf(char marker) {
+		return keyOf(SIDE_TO_MOVE_POSITION, marker);
+	}
+
+	public static long dimensionKeyOf(int width, int height, int winLength) {
+		return keyOf(DIMENSIONS_POSITION, (char) (width << 8 | height)) ^ keyOf(WIN_LENGTH_POSITION, (char) winLength);
+	}
+}
@@ -2,82 +2,128 @@ package console;
 
 import game.Board;
 import game.Game;
+import game.GameEvent;
 import game.Player;
 
 import java.io.PrintStream;
+import java.util.concurrent.Executor;
 
 public class ConsoleGame extends Game {
 	static final String ANSI_CLEAR_SCREEN = "\033[H\033[2J";
+	private static final String CELL_SEPARATOR = " | ";
+	private static final String NEW_LINE = System.lineSeparator();
 	private PrintStream outputStream;
+	private char[] frame = new char[0];
+	private int frameCellCount;
+	private int frameWidth;
+	private int cellWidth;
+	private int rowStride;
 
 	public ConsoleGame(PrintStream outputStream, Board board, Player playerOne, Player playerTwo) {
 		super(board, playerOne, playerTwo);
 		this.outputStream = outputStream;
+		subscribe(this::display);
 	}
 
-	@Override
-	protected void displayBoardStatus() {
-		clearScreen();
-		printBoard();
+	public ConsoleGame(PrintStream outputStream, Board board, Player playerOne, Player playerTwo,
+			Executor displayExecutor) {
+		super(board, playerOne, playerTwo);
+		this.outputStream = outputStream;
+		subscribeAsync(this::display, displayExecutor);
 	}
 
-	private void clearScreen() {
+	void display(GameEvent event) {
+		if (event.type == GameEvent.Type.TURN_CHANGED) {
+			displayBoardStatus(event);
+			displayCurrentTurn(event.marker);
+		} else if (event.type == GameEvent.Type.GAME_ENDED) {
+			displayEndStatus(event);
+		}
+	}
+
+	private void displayBoardStatus(GameEvent event) {
 		outputStream.print(ANSI_CLEAR_SCREEN);
-		outputStream.flush();
+		printBoard(event.cells, event.width);
 	}
 
-	private void printBoard() {
-		String boardString = "";
-		char[] cells = board.getStatus();
-		for (int i = 0; i < cells.length; i++) {
-			boardString += cellAt(i, cells);
-			if (!isLastCellInRow(i))
-				boardString += " | ";
-			if (isLastCellButNotLastRow(cells.length, i))
-				boardString += String.format("%n---------%n");
-		}
-		outputStream.println(boardString);
+	private void printBoard(char[] cells, int width) {
+		if (cells.length != frameCellCount || width != frameWidth)
+			layOutFrame(cells.length, width);
+		for (int i = 0; i < cells.length; i++)
+			writeCell(i, cells[i]);
+		outputStream.print(frame);
 	}
 
-	private String cellAt(int i, char[] cells) {
-		if (cellIsEmpty(i, cells))
-			return String.valueOf(i + 1);
-		else
-			return String.valueOf(cells[i]);
+	private void layOutFrame(int numCells, int width) {
+		int height = numCells / width;
+		cellWidth = String.valueOf(numCells).length();
+		int rowLength = width * (cellWidth + CELL_SEPARATOR.length()) - CELL_SEPARATOR.length();
+		StringBuilder layout = new StringBuilder(2 * height * (rowLength + NEW_LINE.length()));
+		for (int y = 0; y < height; y++) {
+			if (y > 0)
+				appendRepeated(layout, '-', rowLength).append(NEW_LINE);
+			for (int x = 0; x < width; x++) {
+				if (x > 0)
+					layout.append(CELL_SEPARATOR);
+				appendRepeated(layout, ' ', cellWidth);
+			}
+			layout.append(NEW_LINE);
+		}
+		frame = layout.toString().toCharArray();
+		frameCellCount = numCells;
+		frameWidth = width;
+		rowStride = 2 * (rowLength + NEW_LINE.length());
 	}
 
-	private boolean cellIsEmpty(int i, char[] cells) {
-		return cells[i] == 0;
+	private StringBuilder appendRepeated(StringBuilder builder, char c, int count) {
+		for (int i = 0; i < count; i++)
+			builder.append(c);
+		return builder;
 	}
 
-	private boolean isLastCellButNotLastRow(int numCells, int i) {
-		return isLastCellInRow(i) && isNotLastCell(numCells, i);
+	private void writeCell(int i, char cell) {
+		int offset = i / frameWidth * rowStride + i % frameWidth * (cellWidth + CELL_SEPARATOR.length());
+		int end = offset + cellWidth - 1;
+		if (cellIsEmpty(cell))
+			end = writeNumber(i + 1, end);
+		else
+			frame[end--] = cell;
+		while (end >= offset)
+			frame[end--] = ' ';
 	}
 
-	private boolean isLastCellInRow(int i) {
-		return i % board.size() == board.size() - 1;
+	private int writeNumber(int number, int end) {
+		do {
+			frame[end--] = (char) ('0' + number % 10);
+			number /= 10;
+		} while (number > 0);
+		return end;
 	}
 
-	private boolean isNotLastCell(int numCells, int i) {
-		return i != numCells - 1;
+	private boolean cellIsEmpty(char cell) {
+		return cell == 0;
 	}
 
-	@Override
-	protected void displayEndStatus() {
-		clearScreen();
-		printBoard();
-		printGameOutcome();
+	private void displayEndStatus(GameEvent event) {
+		displayBoardStatus(event);
+		printGameOutcome(event);
 	}
 
-	private void printGameOutcome() {
-		if (board.hasWinner())
-			outputStream.println(board.getWinner() + " has Won!");
-		else
-			outputStream.println("The game is a Draw!");
+	private void printGameOutcome(GameEvent event) {
+		if (event.hasWinner()) {
+			outputStream.print(event.marker);
+			outputStream.print(" has Won!");
+		} else {
+			outputStream.print("The game is a Draw!");
+		}
+		outputStream.print(NEW_LINE);
+		outputStream.flush();
 	}
 
-	@Override
-	protected void displayCurrentTurn(Player currentPlayer) {
-		outputStream.println(currentPlayer.getMarker() + " Turn");
+	private void displayCurrentTurn(char marker) {
+		outputStream.print(marker);
+		outputStream.print(" Turn");
+		outputStream.print(NEW_LINE);
+		outputStream.flush();
 	}
 }
@@ -1,11 +1,20 @@
 package console;
 
+import application.BoardFactory;
 import application.PlayerFactory;
+import boards.DefaultBoardFactory;
 import players.DefaultPlayerFactory;
+import players.OpeningBook;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
 
 public class ConsoleMain {
     public static void main(String[] args) {
-        PlayerFactory playerFactory = new DefaultPlayerFactory(System.in, System.out);
-        new ConsoleTicTacToeApplication(System.in, System.out, playerFactory).run();
+        String openingBookPath = System.getProperty("openingBook");
+        OpeningBook openingBook = openingBookPath == null ? null : OpeningBook.open(Paths.get(openingBookPath));
+        PlayerFactory playerFactory = new DefaultPlayerFactory(System.in, System.out, null, openingBook);
+        BoardFactory boardFactory = DefaultBoardFactory.fromArguments(Arrays.asList(args));
+        new ConsoleTicTacToeApplication(System.in, System.out, playerFactory, boardFactory).run();
     }
 }
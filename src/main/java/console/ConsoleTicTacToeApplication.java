@@ -1,28 +1,39 @@
 package console;
 
+import application.BoardFactory;
 import application.PlayerFactory;
 import application.PlayerNumber;
 import application.TicTacToeApplication;
-import boards.ThreeByThreeBoard;
+import boards.DefaultBoardFactory;
 import game.Board;
 import game.Game;
 import game.Player;
+import players.ConsoleHumanPlayer;
 
 import java.io.InputStream;
 import java.io.PrintStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 import static console.ConsoleGame.ANSI_CLEAR_SCREEN;
 
 public class ConsoleTicTacToeApplication extends TicTacToeApplication {
     private static final List<Integer> VALID_PLAYER_TYPE_INPUTS = Arrays.asList(1, 2);
+    private static final Executor DISPLAY_EXECUTOR = Executors.newCachedThreadPool(
+            ConsoleTicTacToeApplication::newDisplayThread);
     private final Scanner scanner;
     private final PrintStream printStream;
 
     public ConsoleTicTacToeApplication(InputStream inputStream, PrintStream printStream, PlayerFactory playerFactory) {
-        super(playerFactory);
+        this(inputStream, printStream, playerFactory, new DefaultBoardFactory());
+    }
+
+    public ConsoleTicTacToeApplication(InputStream inputStream, PrintStream printStream, PlayerFactory playerFactory,
+                                       BoardFactory boardFactory) {
+        super(playerFactory, boardFactory);
         this.scanner = new Scanner(inputStream);
         this.printStream = printStream;
     }
@@ -40,22 +51,22 @@ public class ConsoleTicTacToeApplication extends TicTacToeApplication {
 
     @Override
     protected Board configureBoard() {
-        return new ThreeByThreeBoard();
+        return boardFactory.createBoard();
     }
 
     @Override
     protected Player configurePlayer(PlayerNumber playerNumber, Board board) {
-        String selectedType = selectPlayerTypeFor(playerNumber);
+        String selectedType = selectPlayerTypeFor(playerNumber, board);
         return playerFactory.createPlayer(selectedType, playerNumber.marker, board, playerNumber.opponentMarker);
     }
 
-    private String selectPlayerTypeFor(PlayerNumber playerNumber) {
+    private String selectPlayerTypeFor(PlayerNumber playerNumber, Board board) {
         Integer selectedTypeNum = null;
         while (selectedTypeNum == null){
             displayPlayerTypeRequestFor(playerNumber);
             selectedTypeNum = trySelectPlayerType();
         }
-        return toTypeString(selectedTypeNum);
+        return toTypeString(selectedTypeNum, board);
     }
 
     private void displayPlayerTypeRequestFor(PlayerNumber playerNumber) {
@@ -81,18 +92,30 @@ public class ConsoleTicTacToeApplication extends TicTacToeApplication {
         return input;
     }
 
-    private String toTypeString(int selectedType) {
+    private String toTypeString(int selectedType, Board board) {
         if (selectedType == 1)
             return "consoleHuman";
         else if (selectedType == 2)
-            return "computer";
+            return computerPlayerTypeFor(board);
         else
             throw new IllegalArgumentException("Invalid selectedType: " + selectedType);
     }
 
     @Override
     protected Game createGame(Board board, Player playerOne, Player playerTwo) {
-        return new ConsoleGame(printStream, board, playerOne, playerTwo);
+        if (isInteractive(playerOne) || isInteractive(playerTwo))
+            return new ConsoleGame(printStream, board, playerOne, playerTwo);
+        return new ConsoleGame(printStream, board, playerOne, playerTwo, DISPLAY_EXECUTOR);
+    }
+
+    private boolean isInteractive(Player player) {
+        return player instanceof ConsoleHumanPlayer;
+    }
+
+    private static Thread newDisplayThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "console-display");
+        thread.setDaemon(true);
+        return thread;
     }
 
     @Override
@@ -0,0 +1,34 @@
+package game;
+
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncGame {
+	private final Board board;
+	private final AsyncPlayer[] players = new AsyncPlayer[2];
+	private int currentPlayerIdx;
+
+	public AsyncGame(Board board, AsyncPlayer playerOne, AsyncPlayer playerTwo) {
+		this.board = board;
+		this.players[0] = playerOne;
+		this.players[1] = playerTwo;
+	}
+
+	public CompletableFuture<Board> start() {
+		return nextTurn();
+	}
+
+	private CompletableFuture<Board> nextTurn() {
+		if (board.hasEnded())
+			return CompletableFuture.completedFuture(board);
+		AsyncPlayer currentPlayer = players[currentPlayerIdx];
+		return currentPlayer.selectMove().thenCompose(move -> {
+			board.mark(move, currentPlayer.getMarker());
+			currentPlayerIdx = nextPlayerIdx();
+			return nextTurn();
+		});
+	}
+
+	private int nextPlayerIdx() {
+		return (currentPlayerIdx + 1) % players.length;
+	}
+}
@@ -0,0 +1,9 @@
+package game;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncPlayer {
+	char getMarker();
+
+	CompletableFuture<Integer> selectMove();
+}
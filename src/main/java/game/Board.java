@@ -1,6 +1,5 @@
 package game;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public interface Board {
@@ -8,6 +7,8 @@ public interface Board {
 
 	void mark(int position, char playerMark);
 
+	void unmark(int position);
+
 	boolean hasWinner();
 
 	char getWinner();
@@ -16,6 +17,8 @@ public interface Board {
 
 	int size();
 
+	int winLength();
+
 	boolean isValid(int position);
 
 	boolean isMarked(int i);
@@ -23,4 +26,8 @@ public interface Board {
 	Board copy();
 
 	List<Integer> possibleMoves();
+
+	int possibleMoves(int[] moves);
+
+	long hash();
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package game;
 
-public abstract class Game {
+import java.util.concurrent.Executor;
+
+public class Game {
 	protected Board board;
 	private Player[] players = new Player[2];
+	private final GameEventBus eventBus = new GameEventBus();
 	private int currentPlayerIdx;
 
 	public Game(Board board, Player playerOne, Player playerTwo) {
@@ -11,31 +14,77 @@ public abstract class Game {
 		this.players[1] = playerTwo;
 	}
 
+	public void subscribe(GameEventSubscriber subscriber) {
+		eventBus.subscribe(subscriber);
+	}
+
+	public void subscribeAsync(GameEventSubscriber subscriber, Executor executor) {
+		eventBus.subscribeAsync(subscriber, executor);
+	}
+
+	public void addGameListener(GameListener listener) {
+		subscribe(event -> {
+			if (event.type == GameEvent.Type.MOVE_MADE)
+				listener.moveMade(event.position, event.marker);
+			else if (event.type == GameEvent.Type.GAME_ENDED)
+				listener.gameEnded(board);
+		});
+	}
+
 	public void start() {
 		while (!board.hasEnded()) {
-			displayBoardStatus();
-			displayCurrentTurn(getCurrentPlayer());
+			publishTurnChanged();
 			makeCurrentPlayerMove();
 		}
-		displayEndStatus();
+		publishGameEnded();
+		awaitEventDelivery();
 	}
 
 	private Player getCurrentPlayer() {
 		return players[currentPlayerIdx];
 	}
 
+	private void publishTurnChanged() {
+		if (eventBus.hasSubscribers())
+			eventBus.publish(GameEvent.turnChanged(getCurrentPlayer().getMarker(), board.getStatus(), board.size()));
+	}
+
 	private void makeCurrentPlayerMove() {
-		players[currentPlayerIdx].makeMove();
+		Player currentPlayer = getCurrentPlayer();
+		char[] cellsBeforeMove = eventBus.hasSubscribers() ? board.getStatus() : null;
+		currentPlayer.makeMove();
+		if (cellsBeforeMove != null)
+			publishMoveMade(cellsBeforeMove, currentPlayer.getMarker());
 		currentPlayerIdx = nextPlayerIdx();
 	}
 
-	private int nextPlayerIdx() {
-		return (currentPlayerIdx + 1) % players.length;
+	private void publishMoveMade(char[] cellsBeforeMove, char marker) {
+		char[] cells = board.getStatus();
+		for (int position = 0; position < cells.length; position++) {
+			if (cellsBeforeMove[position] == 0 && cells[position] != 0) {
+				eventBus.publish(GameEvent.moveMade(position, marker, cells, board.size()));
+				return;
+			}
+		}
 	}
 
-	protected abstract void displayBoardStatus();
+	private void publishGameEnded() {
+		if (eventBus.hasSubscribers()) {
+			char winner = board.hasWinner() ? board.getWinner() : 0;
+			eventBus.publish(GameEvent.gameEnded(winner, board.getStatus(), board.size()));
+		}
+	}
 
-	protected abstract void displayCurrentTurn(Player currentPlayer);
+	private void awaitEventDelivery() {
+		try {
+			eventBus.awaitDelivery();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while delivering game events.", e);
+		}
+	}
 
-	protected abstract void displayEndStatus();
+	private int nextPlayerIdx() {
+		return (currentPlayerIdx + 1) % players.length;
+	}
 }
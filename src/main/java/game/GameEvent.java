@@ -0,0 +1,38 @@
+package game;
+
+public class GameEvent {
+	public static final int NO_POSITION = -1;
+	public final Type type;
+	public final char marker;
+	public final int position;
+	public final int width;
+	public final char[] cells;
+
+	private GameEvent(Type type, char marker, int position, int width, char[] cells) {
+		this.type = type;
+		this.marker = marker;
+		this.position = position;
+		this.width = width;
+		this.cells = cells;
+	}
+
+	public static GameEvent turnChanged(char marker, char[] cells, int width) {
+		return new GameEvent(Type.TURN_CHANGED, marker, NO_POSITION, width, cells);
+	}
+
+	public static GameEvent moveMade(int position, char marker, char[] cells, int width) {
+		return new GameEvent(Type.MOVE_MADE, marker, position, width, cells);
+	}
+
+	public static GameEvent gameEnded(char winner, char[] cells, int width) {
+		return new GameEvent(Type.GAME_ENDED, winner, NO_POSITION, width, cells);
+	}
+
+	public boolean hasWinner() {
+		return type == Type.GAME_ENDED && marker != 0;
+	}
+
+	public enum Type {
+		TURN_CHANGED, MOVE_MADE, GAME_ENDED
+	}
+}
@@ -0,0 +1,90 @@
+package game;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class GameEventBus {
+	private final List<GameEventSubscriber> subscribers = new CopyOnWriteArrayList<>();
+	private final List<AsyncSubscription> asyncSubscriptions = new CopyOnWriteArrayList<>();
+
+	public void subscribe(GameEventSubscriber subscriber) {
+		if (subscriber == null)
+			throw new IllegalArgumentException("Subscriber must not be null.");
+		subscribers.add(subscriber);
+	}
+
+	public void subscribeAsync(GameEventSubscriber subscriber, Executor executor) {
+		if (subscriber == null || executor == null)
+			throw new IllegalArgumentException("Subscriber and executor must not be null.");
+		AsyncSubscription subscription = new AsyncSubscription(subscriber, executor);
+		asyncSubscriptions.add(subscription);
+		subscribers.add(subscription);
+	}
+
+	public boolean hasSubscribers() {
+		return !subscribers.isEmpty();
+	}
+
+	public void publish(GameEvent event) {
+		for (GameEventSubscriber subscriber : subscribers)
+			subscriber.onEvent(event);
+	}
+
+	public void awaitDelivery() throws InterruptedException {
+		for (AsyncSubscription subscription : asyncSubscriptions)
+			subscription.awaitDelivery();
+	}
+
+	private static class AsyncSubscription implements GameEventSubscriber {
+		private final GameEventSubscriber subscriber;
+		private final Executor executor;
+		private final Queue<GameEvent> pending = new ConcurrentLinkedQueue<>();
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+
+		AsyncSubscription(GameEventSubscriber subscriber, Executor executor) {
+			this.subscriber = subscriber;
+			this.executor = executor;
+		}
+
+		@Override
+		public void onEvent(GameEvent event) {
+			pending.add(event);
+			scheduleDrain();
+		}
+
+		private void scheduleDrain() {
+			if (!scheduled.compareAndSet(false, true))
+				return;
+			try {
+				executor.execute(this::drain);
+			} catch (RejectedExecutionException e) {
+				drain();
+			}
+		}
+
+		private void drain() {
+			try {
+				GameEvent event;
+				while ((event = pending.poll()) != null)
+					subscriber.onEvent(event);
+			} finally {
+				scheduled.set(false);
+				synchronized (this) {
+					notifyAll();
+				}
+				if (!pending.isEmpty())
+					scheduleDrain();
+			}
+		}
+
+		synchronized void awaitDelivery() throws InterruptedException {
+			while (scheduled.get() || !pending.isEmpty())
+				wait();
+		}
+	}
+}
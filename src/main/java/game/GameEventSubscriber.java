@@ -0,0 +1,5 @@
+package game;
+
+public interface GameEventSubscriber {
+	void onEvent(GameEvent event);
+}
@@ -0,0 +1,7 @@
+package game;
+
+public interface GameListener {
+	void moveMade(int position, char marker);
+
+	void gameEnded(Board board);
+}
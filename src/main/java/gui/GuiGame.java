@@ -2,6 +2,7 @@ package gui;
 
 import game.Board;
 import game.Game;
+import game.GameEvent;
 import game.Player;
 import gui.DisplayBoard.DisplayCell;
 
@@ -15,27 +16,35 @@ public class GuiGame extends Game {
         super(board, playerOne, playerTwo);
         this.view = view;
         this.moveQueue = moveQueue;
+        subscribe(this::display);
     }
 
-    @Override
-    protected void displayBoardStatus() {
+    void display(GameEvent event) {
+        if (event.type == GameEvent.Type.TURN_CHANGED) {
+            displayBoardStatus(event);
+            displayCurrentTurn(event.marker);
+        } else if (event.type == GameEvent.Type.GAME_ENDED) {
+            displayEndStatus(event);
+        }
+    }
+
+    private void displayBoardStatus(GameEvent event) {
         moveQueue.clear();
-        DisplayBoard displayBoard = toDisplayBoard(board);
+        DisplayBoard displayBoard = toDisplayBoard(event.cells, event.width);
         view.displayBoard(displayBoard);
     }
 
-    private DisplayBoard toDisplayBoard(Board board) {
+    private DisplayBoard toDisplayBoard(char[] cells, int width) {
         DisplayBoard displayBoard = new DisplayBoard();
-        char[] cells = board.getStatus();
         for (int i = 0; i < cells.length; i++) {
-            displayBoard.cells.add(newDisplayCell(i, cells));
+            displayBoard.cells.add(newDisplayCell(i, cells, width));
         }
         return displayBoard;
     }
 
-    private DisplayCell newDisplayCell(int i, char[] cells) {
-        DisplayCell displayCell = new DisplayCell(cellAt(i, cells), i, xPos(i), yPos(i));
-        displayCell.actionHandler = board.isMarked(i) ? null : cellHandlerFor(i);
+    private DisplayCell newDisplayCell(int i, char[] cells, int width) {
+        DisplayCell displayCell = new DisplayCell(cellAt(i, cells), i, i % width, i / width);
+        displayCell.actionHandler = cells[i] != '\0' ? null : cellHandlerFor(i);
         return displayCell;
     }
 
@@ -46,14 +55,6 @@ public class GuiGame extends Game {
             return String.valueOf(cells[i]);
     }
 
-    private int xPos(int i) {
-        return i % board.size();
-    }
-
-    private int yPos(int i) {
-        return i / board.size();
-    }
-
     private Runnable cellHandlerFor(int position) {
         return () -> tryAddMoveToQueue(position);
     }
@@ -66,20 +67,18 @@ public class GuiGame extends Game {
         }
     }
 
-    @Override
-    protected void displayCurrentTurn(Player currentPlayer) {
-        view.displayCurrentMarker(String.valueOf(currentPlayer.getMarker()));
+    private void displayCurrentTurn(char marker) {
+        view.displayCurrentMarker(String.valueOf(marker));
     }
 
-    @Override
-    protected void displayEndStatus() {
-        displayBoardStatus();
-        displayEndStatusMessage();
+    private void displayEndStatus(GameEvent event) {
+        displayBoardStatus(event);
+        displayEndStatusMessage(event);
     }
 
-    private void displayEndStatusMessage() {
-        if (board.hasWinner())
-            view.displayWinner(String.valueOf(board.getWinner()));
+    private void displayEndStatusMessage(GameEvent event) {
+        if (event.hasWinner())
+            view.displayWinner(String.valueOf(event.marker));
         else
             view.displayDraw();
     }
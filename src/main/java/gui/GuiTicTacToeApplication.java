@@ -1,9 +1,10 @@
 package gui;
 
+import application.BoardFactory;
 import application.PlayerFactory;
 import application.PlayerNumber;
 import application.TicTacToeApplication;
-import boards.ThreeByThreeBoard;
+import boards.DefaultBoardFactory;
 import game.Board;
 import game.Game;
 import game.Player;
@@ -21,7 +22,13 @@ public class GuiTicTacToeApplication extends TicTacToeApplication {
 
     public GuiTicTacToeApplication(BlockingQueue<String> playerTypeQueue, BlockingQueue<Boolean> playAgainQueue,
                                    BlockingQueue<Integer> moveQueue, View view, PlayerFactory playerFactory) {
-        super(playerFactory);
+        this(playerTypeQueue, playAgainQueue, moveQueue, view, playerFactory, new DefaultBoardFactory());
+    }
+
+    public GuiTicTacToeApplication(BlockingQueue<String> playerTypeQueue, BlockingQueue<Boolean> playAgainQueue,
+                                   BlockingQueue<Integer> moveQueue, View view, PlayerFactory playerFactory,
+                                   BoardFactory boardFactory) {
+        super(playerFactory, boardFactory);
         this.playerTypeQueue = playerTypeQueue;
         this.playAgainQueue = playAgainQueue;
         this.moveQueue = moveQueue;
@@ -69,13 +76,13 @@ public class GuiTicTacToeApplication extends TicTacToeApplication {
 
     @Override
     protected Board configureBoard() {
-        return new ThreeByThreeBoard();
+        return boardFactory.createBoard();
     }
 
     @Override
     protected Player configurePlayer(PlayerNumber playerNumber, Board board) {
         try {
-            String selectedPlayerType = playerTypeQueue.take();
+            String selectedPlayerType = forBoard(playerTypeQueue.take(), board);
             return playerFactory.createPlayer(selectedPlayerType, playerNumber.marker, board, playerNumber.opponentMarker);
         } catch (InterruptedException e) {
             System.out.println("Interrupted while waiting for player type selection. Game Exiting...");
@@ -84,6 +91,12 @@ public class GuiTicTacToeApplication extends TicTacToeApplication {
         }
     }
 
+    private String forBoard(String playerType, Board board) {
+        if ("computer".equals(playerType))
+            return computerPlayerTypeFor(board);
+        return playerType;
+    }
+
     @Override
     protected Game createGame(Board board, Player playerOne, Player playerTwo) {
         return new GuiGame(board, playerOne, playerTwo, view, moveQueue);
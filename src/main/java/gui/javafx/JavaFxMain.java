@@ -1,6 +1,8 @@
 package gui.javafx;
 
+import application.BoardFactory;
 import application.PlayerFactory;
+import boards.DefaultBoardFactory;
 import gui.GuiTicTacToeApplication;
 import gui.View;
 import javafx.application.Application;
@@ -45,7 +47,8 @@ public class JavaFxMain extends Application {
         ArrayBlockingQueue<Boolean> playAgainQueue = new ArrayBlockingQueue<>(1);
         ArrayBlockingQueue<Integer> moveQueue = new ArrayBlockingQueue<>(1);
         PlayerFactory playerFactory = new DefaultPlayerFactory(System.in, System.out, moveQueue);
-        return new GuiTicTacToeApplication(playerTypeQueue, playAgainQueue, moveQueue, view, playerFactory);
+        BoardFactory boardFactory = DefaultBoardFactory.fromArguments(getParameters().getRaw());
+        return new GuiTicTacToeApplication(playerTypeQueue, playAgainQueue, moveQueue, view, playerFactory, boardFactory);
     }
 
     private void setupAndShow(Stage stage, Scene scene) {
@@ -28,6 +28,10 @@ public class JavaFxView implements View {
     private final GameScene gameScene;
     private final WelcomeScene welcomeScene;
     private Map<PlayerNumber, GameConfigSection> gameConfigSectionMap;
+    private Label[] cells;
+    private Runnable[] cellHandlers;
+    private int lastXPos;
+    private int lastYPos;
 
     public JavaFxView(Scene scene) {
         this.scene = scene;
@@ -38,34 +42,56 @@ public class JavaFxView implements View {
     @Override
     public void displayBoard(final DisplayBoard displayBoard) {
         executeOnUiThread(() -> {
-            GridPane boardGrid = convertToBoardGrid(displayBoard);
-            gameScene.setBoard(boardGrid);
-            scene.setRoot(gameScene);
+            if (!hasLayoutOf(displayBoard))
+                gameScene.setBoard(convertToBoardGrid(displayBoard));
+            updateCells(displayBoard);
+            if (scene.getRoot() != gameScene)
+                scene.setRoot(gameScene);
         });
     }
 
+    private boolean hasLayoutOf(DisplayBoard displayBoard) {
+        return cells != null
+                && cells.length == displayBoard.cells.size()
+                && lastXPos == lastXPosOf(displayBoard)
+                && lastYPos == lastYPosOf(displayBoard);
+    }
+
     private GridPane convertToBoardGrid(DisplayBoard displayBoard) {
         GridPane boardGrid = createBoardGrid();
+        lastXPos = lastXPosOf(displayBoard);
+        lastYPos = lastYPosOf(displayBoard);
+        cells = new Label[displayBoard.cells.size()];
+        cellHandlers = new Runnable[cells.length];
         for (DisplayCell displayCell : displayBoard.cells) {
-            Label cell = convertToCell(displayCell);
+            Label cell = convertToCell(displayCell, lastXPos, lastYPos);
+            cells[displayCell.idxPos] = cell;
             boardGrid.add(cell, displayCell.xPos, displayCell.yPos);
         }
         return boardGrid;
     }
 
+    private int lastXPosOf(DisplayBoard displayBoard) {
+        return displayBoard.cells.stream().mapToInt(cell -> cell.xPos).max().orElse(0);
+    }
+
+    private int lastYPosOf(DisplayBoard displayBoard) {
+        return displayBoard.cells.stream().mapToInt(cell -> cell.yPos).max().orElse(0);
+    }
+
     private GridPane createBoardGrid() {
         GridPane boardGrid = new GridPane();
         boardGrid.setId("board");
         return boardGrid;
     }
 
-    private Label convertToCell(DisplayCell displayCell) {
-        Label cell = createCell(displayCell);
-        addHandler(cell, displayCell.actionHandler);
+    private Label convertToCell(DisplayCell displayCell, int lastXPos, int lastYPos) {
+        Label cell = createCell(displayCell, lastXPos, lastYPos);
+        addHandler(cell, displayCell.idxPos);
         return cell;
     }
 
-    private Label createCell(DisplayCell displayCell) {
+    private Label createCell(DisplayCell displayCell, int lastXPos, int lastYPos) {
         Label cell = new Label(displayCell.marker);
         cell.setId("cell-" + displayCell.idxPos);
         cell.getStyleClass().add("cell");
@@ -73,23 +99,34 @@ public class JavaFxView implements View {
             cell.getStyleClass().add("left-edge-cell");
         if (displayCell.yPos == 0)
             cell.getStyleClass().add("top-edge-cell");
-        if (displayCell.xPos == 2)
+        if (displayCell.xPos == lastXPos)
             cell.getStyleClass().add("right-edge-cell");
-        if (displayCell.yPos == 2)
+        if (displayCell.yPos == lastYPos)
             cell.getStyleClass().add("bottom-edge-cell");
         return cell;
     }
 
-    private void addHandler(Label cell, Runnable handler) {
-        if (handler != null)
-            cell.setOnMousePressed(event -> {
+    private void addHandler(Label cell, int idxPos) {
+        cell.setOnMousePressed(event -> {
+            Runnable handler = cellHandlers[idxPos];
+            if (handler != null) {
                 removeHandlerFromAllCells();
                 handler.run();
-            });
+            }
+        });
+    }
+
+    private void updateCells(DisplayBoard displayBoard) {
+        for (DisplayCell displayCell : displayBoard.cells) {
+            Label cell = cells[displayCell.idxPos];
+            if (!cell.getText().equals(displayCell.marker))
+                cell.setText(displayCell.marker);
+            cellHandlers[displayCell.idxPos] = displayCell.actionHandler;
+        }
     }
 
     private void removeHandlerFromAllCells() {
-        gameScene.lookupAll(".cell").forEach(cell -> cell.setOnMousePressed(null));
+        Arrays.fill(cellHandlers, null);
     }
 
     @Override
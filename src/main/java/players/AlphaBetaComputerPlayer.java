@@ -0,0 +1,64 @@
+package players;
+
+import game.Board;
+import game.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AlphaBetaComputerPlayer implements Player {
+    private final char marker;
+    private final Board board;
+    private final AlphaBetaSearch search;
+    private final OpeningBook openingBook;
+    private final List<SearchListener> searchListeners = new ArrayList<>();
+
+    public AlphaBetaComputerPlayer(char marker, Board board, char opponentMarker) {
+        this(marker, board, opponentMarker, null);
+    }
+
+    public AlphaBetaComputerPlayer(char marker, Board board, char opponentMarker,
+                                   TranspositionTable transpositionTable) {
+        this(marker, board, opponentMarker, transpositionTable, null);
+    }
+
+    public AlphaBetaComputerPlayer(char marker, Board board, char opponentMarker,
+                                   TranspositionTable transpositionTable, OpeningBook openingBook) {
+        this(marker, board, opponentMarker, transpositionTable, openingBook, null);
+    }
+
+    public AlphaBetaComputerPlayer(char marker, Board board, char opponentMarker, TranspositionTable transpositionTable,
+                                   OpeningBook openingBook, EvaluationCache evaluationCache) {
+        this.marker = marker;
+        this.board = board;
+        this.search = new AlphaBetaSearch(marker, opponentMarker, transpositionTable, evaluationCache);
+        this.openingBook = openingBook;
+    }
+
+    @Override
+    public char getMarker() {
+        return this.marker;
+    }
+
+    public void addSearchListener(SearchListener listener) {
+        searchListeners.add(listener);
+    }
+
+    @Override
+    public void makeMove() {
+        long start = System.nanoTime();
+        int bookMove = openingBook == null ? OpeningBook.NO_MOVE : openingBook.bestMove(board, this.getMarker());
+        if (bookMove != OpeningBook.NO_MOVE) {
+            board.mark(bookMove, this.getMarker());
+            notifySearchCompleted(new SearchStatistics(marker, bookMove, 0, 0, 0, 0, 0, 0, System.nanoTime() - start));
+        } else {
+            board.mark(search.search(board).move, this.getMarker());
+            notifySearchCompleted(search.lastStatistics());
+        }
+    }
+
+    private void notifySearchCompleted(SearchStatistics statistics) {
+        for (SearchListener listener : searchListeners)
+            listener.searchCompleted(statistics);
+    }
+}
@@ -0,0 +1,291 @@
+package players;
+
+import boards.BoardSymmetry;
+import boards.SymmetricHash;
+import boards.Zobrist;
+import game.Board;
+
+import static players.ComputerPlayer.DRAW_VALUE;
+import static players.ComputerPlayer.LOSE_VALUE;
+import static players.ComputerPlayer.STARTING_DEPTH;
+import static players.ComputerPlayer.WIN_VALUE;
+import static players.TranspositionTable.EXACT;
+import static players.TranspositionTable.LOWER_BOUND;
+import static players.TranspositionTable.NOT_FOUND;
+import static players.TranspositionTable.NO_MOVE;
+import static players.TranspositionTable.UPPER_BOUND;
+
+public class AlphaBetaSearch {
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private final char marker;
+    private final char opponentMarker;
+    private final TranspositionTable transpositionTable;
+    private final EvaluationCache evaluationCache;
+    private final long sideToMoveKey;
+    private final long opponentSideToMoveKey;
+    private BoardSymmetry symmetry;
+    private SymmetricHash positionHash;
+    private int lastBestMove;
+    private int[][] movesAtDepth;
+    private long dimensionKey;
+    private long nodes;
+    private long terminalNodes;
+    private long cutoffs;
+    private int maxDepth;
+    private long cacheHits;
+    private long cacheMisses;
+    private SearchStatistics lastStatistics;
+
+    public AlphaBetaSearch(char marker, char opponentMarker) {
+        this(marker, opponentMarker, null);
+    }
+
+    public AlphaBetaSearch(char marker, char opponentMarker, TranspositionTable transpositionTable) {
+        this(marker, opponentMarker, transpositionTable, null);
+    }
+
+    public AlphaBetaSearch(char marker, char opponentMarker, TranspositionTable transpositionTable,
+                           EvaluationCache evaluationCache) {
+        this.marker = marker;
+        this.opponentMarker = opponentMarker;
+        this.transpositionTable = transpositionTable;
+        this.evaluationCache = evaluationCache;
+        this.sideToMoveKey = Zobrist.sideToMoveKeyOf(marker);
+        this.opponentSideToMoveKey = Zobrist.sideToMoveKeyOf(opponentMarker);
+    }
+
+    public SearchResult search(Board board) {
+        long start = System.nanoTime();
+        resetStatistics();
+        char[] cells = board.getStatus();
+        movesAtDepth = movesBufferFor(cells.length);
+        int[] moves = movesAtDepth[0];
+        int moveCount = board.possibleMoves(moves);
+        if (board.hasEnded() || moveCount == 0)
+            throw new IllegalStateException("Unable to search: board has already ended.");
+
+        positionHash = new SymmetricHash(symmetryOf(board), cells);
+        prepareEvaluationCache(board);
+        long[] searchedPositions = new long[moveCount];
+        int searchedCount = 0;
+        int bestMoveSoFar = moves[0];
+        int bestValueSoFar = -INFINITY;
+        for (int i = 0; i < moveCount; i++) {
+            int move = moves[i];
+            long canonicalHash = canonicalHashAfter(move, marker);
+            if (contains(searchedPositions, searchedCount, canonicalHash))
+                continue;
+            searchedPositions[searchedCount++] = canonicalHash;
+            int currValue = -valueOfDraftMove(board, move, marker, opponentMarker, STARTING_DEPTH, -INFINITY, -bestValueSoFar);
+            if (currValue > bestValueSoFar) {
+                bestValueSoFar = currValue;
+                bestMoveSoFar = move;
+            }
+        }
+        lastStatistics = new SearchStatistics(marker, bestMoveSoFar, nodes, terminalNodes, cutoffs, maxDepth,
+                cacheHits, cacheMisses, System.nanoTime() - start);
+        return new SearchResult(bestMoveSoFar, bestValueSoFar);
+    }
+
+    public SearchStatistics lastStatistics() {
+        return lastStatistics;
+    }
+
+    private void resetStatistics() {
+        nodes = 0;
+        terminalNodes = 0;
+        cutoffs = 0;
+        maxDepth = 0;
+        cacheHits = 0;
+        cacheMisses = 0;
+    }
+
+    int valueOf(Board board, int depth, int alpha, int beta) {
+        resetStatistics();
+        char[] cells = board.getStatus();
+        movesAtDepth = movesBufferFor(cells.length);
+        positionHash = new SymmetricHash(symmetryOf(board), cells);
+        prepareEvaluationCache(board);
+        return negaMaxValue(board, depth, marker, opponentMarker, alpha, beta);
+    }
+
+    private void prepareEvaluationCache(Board board) {
+        if (evaluationCache != null)
+            dimensionKey = EvaluationCache.dimensionKeyOf(board);
+    }
+
+    private int[][] movesBufferFor(int numCells) {
+        if (movesAtDepth == null || movesAtDepth[0].length != numCells)
+            return new int[numCells + 1][numCells];
+        return movesAtDepth;
+    }
+
+    private BoardSymmetry symmetryOf(Board board) {
+        if (symmetry == null || symmetry.width() != board.size() || symmetry.cellCount() != board.getStatus().length)
+            symmetry = BoardSymmetry.of(board);
+        return symmetry;
+    }
+
+    private long canonicalHashAfter(int move, char playerMarker) {
+        positionHash.toggle(move, playerMarker);
+        long canonicalHash = positionHash.canonicalHash();
+        positionHash.toggle(move, playerMarker);
+        return canonicalHash;
+    }
+
+    private boolean contains(long[] values, int count, long value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value)
+                return true;
+        }
+        return false;
+    }
+
+    private boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value)
+                return true;
+        }
+        return false;
+    }
+
+    private int valueOfDraftMove(Board board, int move, char playerMarker, char nextPlayerMarker,
+                                 int depth, int alpha, int beta) {
+        board.mark(move, playerMarker);
+        togglePositionHash(move, playerMarker);
+        try {
+            return negaMaxValue(board, depth, nextPlayerMarker, playerMarker, alpha, beta);
+        } finally {
+            board.unmark(move);
+            togglePositionHash(move, playerMarker);
+        }
+    }
+
+    private void togglePositionHash(int move, char playerMarker) {
+        if (transpositionTable != null)
+            positionHash.toggle(move, playerMarker);
+    }
+
+    private int negaMaxValue(Board board, int depth, char playerMarker, char nextPlayerMarker, int alpha, int beta) {
+        nodes++;
+        maxDepth = Math.max(depth + 1, maxDepth);
+        if (board.hasEnded()) {
+            terminalNodes++;
+            return finalValueOf(board, depth, playerMarker);
+        }
+        if (evaluationCache == null)
+            return searchedValue(board, depth, playerMarker, nextPlayerMarker, alpha, beta);
+
+        long key = EvaluationCache.keyOf(board, sideToMoveKeyOf(playerMarker), dimensionKey);
+        int cachedValue = evaluationCache.probe(key, depth);
+        if (cachedValue != EvaluationCache.NOT_FOUND) {
+            cacheHits++;
+            return cachedValue;
+        }
+        cacheMisses++;
+        int value = searchedValue(board, depth, playerMarker, nextPlayerMarker, alpha, beta);
+        if (boundOf(value, alpha, beta) == EXACT)
+            evaluationCache.store(key, value, depth);
+        return value;
+    }
+
+    private int searchedValue(Board board, int depth, char playerMarker, char nextPlayerMarker, int alpha, int beta) {
+        int[] moves = movesAtDepth[depth + 1];
+        int moveCount = board.possibleMoves(moves);
+        if (transpositionTable == null)
+            return bestValueOfMoves(board, moves, moveCount, NO_MOVE, depth, playerMarker, nextPlayerMarker, alpha, beta);
+
+        int canonicalTransform = positionHash.canonicalTransform();
+        long key = positionHash.canonicalHash() ^ sideToMoveKeyOf(playerMarker);
+        long entry = transpositionTable.probe(key);
+        int firstMove = NO_MOVE;
+        if (entry != NOT_FOUND && TranspositionTable.draftOf(entry) >= moveCount) {
+            int value = fromTableValue(TranspositionTable.valueOf(entry), depth);
+            int bound = TranspositionTable.boundOf(entry);
+            if (bound == EXACT
+                    || (bound == LOWER_BOUND && value >= beta)
+                    || (bound == UPPER_BOUND && value <= alpha)) {
+                cacheHits++;
+                return value;
+            }
+        }
+        cacheMisses++;
+        if (entry != NOT_FOUND && TranspositionTable.bestMoveOf(entry) != NO_MOVE)
+            firstMove = symmetry.inverse(canonicalTransform, TranspositionTable.bestMoveOf(entry));
+
+        int value = bestValueOfMoves(board, moves, moveCount, firstMove, depth, playerMarker, nextPlayerMarker, alpha, beta);
+        transpositionTable.store(key, toTableValue(value, depth), moveCount, boundOf(value, alpha, beta),
+                toCanonicalMove(canonicalTransform, lastBestMove));
+        return value;
+    }
+
+    private int toCanonicalMove(int canonicalTransform, int move) {
+        return move == NO_MOVE ? NO_MOVE : symmetry.transform(canonicalTransform, move);
+    }
+
+    private long sideToMoveKeyOf(char playerMarker) {
+        return playerMarker == marker ? sideToMoveKey : opponentSideToMoveKey;
+    }
+
+    private int bestValueOfMoves(Board board, int[] moves, int moveCount, int firstMove, int depth,
+                                 char playerMarker, char nextPlayerMarker, int alpha, int beta) {
+        int maxSoFar = -INFINITY;
+        int bestMove = NO_MOVE;
+        if (firstMove != NO_MOVE && contains(moves, moveCount, firstMove)) {
+            maxSoFar = -valueOfDraftMove(board, firstMove, playerMarker, nextPlayerMarker, depth + 1, -beta, -alpha);
+            bestMove = firstMove;
+            alpha = Math.max(maxSoFar, alpha);
+        }
+        for (int i = 0; i < moveCount && alpha < beta; i++) {
+            int move = moves[i];
+            if (move == firstMove)
+                continue;
+            int currValue = -valueOfDraftMove(board, move, playerMarker, nextPlayerMarker, depth + 1, -beta, -alpha);
+            if (currValue > maxSoFar) {
+                maxSoFar = currValue;
+                bestMove = move;
+            }
+            alpha = Math.max(maxSoFar, alpha);
+        }
+        if (alpha >= beta)
+            cutoffs++;
+        lastBestMove = bestMove;
+        return maxSoFar;
+    }
+
+    private int boundOf(int value, int alpha, int beta) {
+        if (value <= alpha)
+            return UPPER_BOUND;
+        else if (value >= beta)
+            return LOWER_BOUND;
+        else
+            return EXACT;
+    }
+
+    private int toTableValue(int value, int depth) {
+        if (value > DRAW_VALUE)
+            return value + depth;
+        else if (value < DRAW_VALUE)
+            return value - depth;
+        else
+            return value;
+    }
+
+    private int fromTableValue(int tableValue, int depth) {
+        if (tableValue > DRAW_VALUE)
+            return tableValue - depth;
+        else if (tableValue < DRAW_VALUE)
+            return tableValue + depth;
+        else
+            return tableValue;
+    }
+
+    private int finalValueOf(Board board, int depth, char playerMarker) {
+        if (board.hasWinner() && board.getWinner() == playerMarker)
+            return WIN_VALUE - depth;
+        else if (board.hasWinner())
+            return LOSE_VALUE + depth;
+        else
+            return DRAW_VALUE;
+    }
+}
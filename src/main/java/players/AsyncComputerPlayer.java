@@ -0,0 +1,33 @@
+package players;
+
+import game.AsyncPlayer;
+import game.Board;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public class AsyncComputerPlayer implements AsyncPlayer {
+    private final char marker;
+    private final Board board;
+    private final char opponentMarker;
+    private final Executor executor;
+
+    public AsyncComputerPlayer(char marker, Board board, char opponentMarker, Executor executor) {
+        this.marker = marker;
+        this.board = board;
+        this.opponentMarker = opponentMarker;
+        this.executor = executor;
+    }
+
+    @Override
+    public char getMarker() {
+        return this.marker;
+    }
+
+    @Override
+    public CompletableFuture<Integer> selectMove() {
+        Board position = board.copy();
+        return CompletableFuture.supplyAsync(
+                () -> new AlphaBetaSearch(marker, opponentMarker).search(position).move, executor);
+    }
+}
@@ -0,0 +1,47 @@
+package players;
+
+import game.AsyncPlayer;
+import game.Board;
+
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncHumanPlayer implements AsyncPlayer {
+    private final char marker;
+    private final Board board;
+    private CompletableFuture<Integer> pendingMove;
+
+    public AsyncHumanPlayer(char marker, Board board) {
+        this.marker = marker;
+        this.board = board;
+    }
+
+    @Override
+    public char getMarker() {
+        return this.marker;
+    }
+
+    @Override
+    public synchronized CompletableFuture<Integer> selectMove() {
+        if (pendingMove != null)
+            throw new IllegalStateException("A move has already been requested from " + marker + ".");
+        pendingMove = new CompletableFuture<>();
+        return pendingMove;
+    }
+
+    public synchronized boolean isAwaitingMove() {
+        return pendingMove != null;
+    }
+
+    public void submitMove(int position) {
+        CompletableFuture<Integer> move;
+        synchronized (this) {
+            if (pendingMove == null)
+                throw new IllegalStateException("No move has been requested from " + marker + ".");
+            if (!board.isValid(position))
+                throw new IllegalArgumentException("Invalid move: " + position);
+            move = pendingMove;
+            pendingMove = null;
+        }
+        move.complete(position);
+    }
+}
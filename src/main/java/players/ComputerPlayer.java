@@ -1,8 +1,12 @@
 package players;
 
+import boards.BoardSymmetry;
+import boards.SymmetricHash;
+import boards.Zobrist;
 import game.Board;
 import game.Player;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class ComputerPlayer implements Player {
@@ -13,11 +17,38 @@ public class ComputerPlayer implements Player {
     private final char marker;
     private final Board board;
     private final char opponentMarker;
+    private final OpeningBook openingBook;
+    private final EvaluationCache evaluationCache;
+    private final long sideToMoveKey;
+    private final long opponentSideToMoveKey;
+    private final List<SearchListener> searchListeners = new ArrayList<>();
+    private long dimensionKey;
+    private int[][] movesAtDepth;
+    private long[] searchedPositions;
+    private SymmetricHash positionHash;
+    private long nodes;
+    private long terminalNodes;
+    private int maxDepth;
+    private long cacheHits;
+    private long cacheMisses;
 
     public ComputerPlayer(char marker, Board board, char opponentMarker) {
+        this(marker, board, opponentMarker, null);
+    }
+
+    public ComputerPlayer(char marker, Board board, char opponentMarker, OpeningBook openingBook) {
+        this(marker, board, opponentMarker, openingBook, null);
+    }
+
+    public ComputerPlayer(char marker, Board board, char opponentMarker, OpeningBook openingBook,
+                          EvaluationCache evaluationCache) {
         this.marker = marker;
         this.board = board;
         this.opponentMarker = opponentMarker;
+        this.openingBook = openingBook;
+        this.evaluationCache = evaluationCache;
+        this.sideToMoveKey = Zobrist.sideToMoveKeyOf(marker);
+        this.opponentSideToMoveKey = Zobrist.sideToMoveKeyOf(opponentMarker);
     }
 
     @Override
@@ -25,18 +56,57 @@ public class ComputerPlayer implements Player {
         return this.marker;
     }
 
+    public void addSearchListener(SearchListener listener) {
+        searchListeners.add(listener);
+    }
+
     @Override
     public void makeMove() {
-        board.mark(miniMaxDecision(), this.getMarker());
+        long start = System.nanoTime();
+        resetStatistics();
+        int bookMove = openingBook == null ? OpeningBook.NO_MOVE : openingBook.bestMove(board, this.getMarker());
+        int move = bookMove != OpeningBook.NO_MOVE ? bookMove : miniMaxDecision();
+        board.mark(move, this.getMarker());
+        if (!searchListeners.isEmpty())
+            notifySearchCompleted(new SearchStatistics(marker, move, nodes, terminalNodes, 0, maxDepth,
+                    cacheHits, cacheMisses, System.nanoTime() - start));
+    }
+
+    private void resetStatistics() {
+        nodes = 0;
+        terminalNodes = 0;
+        maxDepth = 0;
+        cacheHits = 0;
+        cacheMisses = 0;
+    }
+
+    private void notifySearchCompleted(SearchStatistics statistics) {
+        for (SearchListener listener : searchListeners)
+            listener.searchCompleted(statistics);
     }
 
     private int miniMaxDecision() {
-        List<Integer> moves = board.possibleMoves();
-        int bestMoveSoFar = moves.get(0);
+        char[] cells = board.getStatus();
+        int numCells = cells.length;
+        if (movesAtDepth == null || movesAtDepth[0].length != numCells) {
+            movesAtDepth = new int[numCells + 1][numCells];
+            searchedPositions = new long[numCells];
+        }
+        if (evaluationCache != null)
+            dimensionKey = EvaluationCache.dimensionKeyOf(board);
+        int[] moves = movesAtDepth[numCells];
+        int moveCount = board.possibleMoves(moves);
+        resetPositionHash(cells);
+        int searchedCount = 0;
+        int bestMoveSoFar = moves[0];
         int bestValueSoFar = Integer.MIN_VALUE;
-        for (int move : moves) {
-            Board draftBoard = playDraftMove(board, move, this.getMarker());
-            int currValue = miniMaxValue(draftBoard, STARTING_DEPTH, opponentMarker);
+        for (int i = 0; i < moveCount; i++) {
+            int move = moves[i];
+            long canonicalHash = canonicalHashAfter(move);
+            if (contains(searchedPositions, searchedCount, canonicalHash))
+                continue;
+            searchedPositions[searchedCount++] = canonicalHash;
+            int currValue = valueOfDraftMove(board, move, this.getMarker(), STARTING_DEPTH, opponentMarker);
             if (currValue > bestValueSoFar) {
                 bestValueSoFar = currValue;
                 bestMoveSoFar = move;
@@ -45,17 +115,59 @@ public class ComputerPlayer implements Player {
         return bestMoveSoFar;
     }
 
-    private Board playDraftMove(Board board, int move, char marker) {
-        Board draftBoard = board.copy();
-        draftBoard.mark(move, marker);
-        return draftBoard;
+    private void resetPositionHash(char[] cells) {
+        BoardSymmetry symmetry = positionHash == null ? null : positionHash.symmetry();
+        if (symmetry == null || symmetry.width() != board.size() || symmetry.cellCount() != cells.length)
+            positionHash = new SymmetricHash(BoardSymmetry.of(board), cells);
+        else
+            positionHash.reset(cells);
+    }
+
+    private long canonicalHashAfter(int move) {
+        positionHash.toggle(move, this.getMarker());
+        long canonicalHash = positionHash.canonicalHash();
+        positionHash.toggle(move, this.getMarker());
+        return canonicalHash;
+    }
+
+    private boolean contains(long[] values, int count, long value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value)
+                return true;
+        }
+        return false;
+    }
+
+    private int valueOfDraftMove(Board board, int move, char marker, int depth, char nextPlayerMarker) {
+        board.mark(move, marker);
+        try {
+            return miniMaxValue(board, depth, nextPlayerMarker);
+        } finally {
+            board.unmark(move);
+        }
     }
 
     private int miniMaxValue(Board board, int depth, char playerMarker) {
-        if (board.hasEnded())
+        nodes++;
+        maxDepth = Math.max(depth + 1, maxDepth);
+        if (board.hasEnded()) {
+            terminalNodes++;
             return finalValueOf(board, depth);
-
-        return bestValueForPlayer(board, depth, playerMarker);
+        }
+        if (evaluationCache == null)
+            return bestValueForPlayer(board, depth, playerMarker);
+
+        long key = EvaluationCache.keyOf(board,
+                isThisPlayer(playerMarker) ? sideToMoveKey : opponentSideToMoveKey, dimensionKey);
+        int sideToMoveValue = evaluationCache.probe(key, depth);
+        if (sideToMoveValue != EvaluationCache.NOT_FOUND) {
+            cacheHits++;
+            return isThisPlayer(playerMarker) ? sideToMoveValue : -sideToMoveValue;
+        }
+        cacheMisses++;
+        int value = bestValueForPlayer(board, depth, playerMarker);
+        evaluationCache.store(key, isThisPlayer(playerMarker) ? value : -value, depth);
+        return value;
     }
 
     private int finalValueOf(Board board, int depth) {
@@ -88,18 +200,22 @@ public class ComputerPlayer implements Player {
 
     private int thisPlayerBestValue(Board board, int depth) {
         int maxSoFar = Integer.MIN_VALUE;
-        for (Integer move : board.possibleMoves()) {
-            Board draftBoard = playDraftMove(board, move, this.getMarker());
-            maxSoFar = Math.max(miniMaxValue(draftBoard, depth + 1, opponentMarker), maxSoFar);
+        int[] moves = movesAtDepth[depth];
+        int moveCount = board.possibleMoves(moves);
+        for (int i = 0; i < moveCount; i++) {
+            int move = moves[i];
+            maxSoFar = Math.max(valueOfDraftMove(board, move, this.getMarker(), depth + 1, opponentMarker), maxSoFar);
         }
         return maxSoFar;
     }
 
     private int opponentBestValue(Board board, int depth) {
         int minSoFar = Integer.MAX_VALUE;
-        for (Integer move : board.possibleMoves()) {
-            Board draftBoard = playDraftMove(board, move, opponentMarker);
-            minSoFar = Math.min(miniMaxValue(draftBoard, depth + 1, this.getMarker()), minSoFar);
+        int[] moves = movesAtDepth[depth];
+        int moveCount = board.possibleMoves(moves);
+        for (int i = 0; i < moveCount; i++) {
+            int move = moves[i];
+            minSoFar = Math.min(valueOfDraftMove(board, move, opponentMarker, depth + 1, this.getMarker()), minSoFar);
         }
         return minSoFar;
     }
@@ -6,21 +6,50 @@ import game.Player;
 
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
 
 public class DefaultPlayerFactory implements PlayerFactory {
+    private static final String TIMED_COMPUTER = "timedComputer";
+    private static final String MCTS_COMPUTER = "mctsComputer";
+    private static final String BUDGET_SEPARATOR = ":";
     private final InputStream inputStream;
     private final PrintStream printStream;
     private final BlockingQueue<Integer> moveQueue;
+    private final OpeningBook openingBook;
+    private final Supplier<EvaluationCache> evaluationCache;
+    private final boolean publishSearchStatistics;
 
     public DefaultPlayerFactory(InputStream inputStream, PrintStream printStream) {
         this(inputStream, printStream, null);
     }
 
     public DefaultPlayerFactory(InputStream inputStream, PrintStream printStream, BlockingQueue<Integer> moveQueue) {
+        this(inputStream, printStream, moveQueue, null);
+    }
+
+    public DefaultPlayerFactory(InputStream inputStream, PrintStream printStream, BlockingQueue<Integer> moveQueue,
+                                OpeningBook openingBook) {
+        this(inputStream, printStream, moveQueue, openingBook, EvaluationCache::shared, true);
+    }
+
+    public DefaultPlayerFactory(InputStream inputStream, PrintStream printStream, BlockingQueue<Integer> moveQueue,
+                                OpeningBook openingBook, EvaluationCache evaluationCache,
+                                boolean publishSearchStatistics) {
+        this(inputStream, printStream, moveQueue, openingBook, () -> evaluationCache, publishSearchStatistics);
+    }
+
+    private DefaultPlayerFactory(InputStream inputStream, PrintStream printStream, BlockingQueue<Integer> moveQueue,
+                                 OpeningBook openingBook, Supplier<EvaluationCache> evaluationCache,
+                                 boolean publishSearchStatistics) {
         this.inputStream = inputStream;
         this.printStream = printStream;
         this.moveQueue = moveQueue;
+        this.openingBook = openingBook;
+        this.evaluationCache = evaluationCache;
+        this.publishSearchStatistics = publishSearchStatistics;
     }
 
     @Override
@@ -29,12 +58,59 @@ public class DefaultPlayerFactory implements PlayerFactory {
             return new ConsoleHumanPlayer(marker, board, this.inputStream, this.printStream);
         else if ("guiHuman".equals(type))
             return createGuiHumanPlayer(marker, board, moveQueue);
+        else if ("random".equals(type))
+            return new RandomPlayer(marker, board);
         else if ("computer".equals(type))
-            return new ComputerPlayer(marker, board, opponentMarker);
+            return createComputerPlayer(type, marker, board, opponentMarker);
+        else if ("alphaBetaComputer".equals(type))
+            return createAlphaBetaComputerPlayer(type, marker, board, opponentMarker);
+        else if ("parallelComputer".equals(type))
+            return new ParallelComputerPlayer(marker, board, opponentMarker);
+        else if (TIMED_COMPUTER.equals(type))
+            return new TimedComputerPlayer(marker, board, opponentMarker);
+        else if (type != null && type.startsWith(TIMED_COMPUTER + BUDGET_SEPARATOR))
+            return new TimedComputerPlayer(marker, board, opponentMarker, budgetMillisOf(type, TIMED_COMPUTER));
+        else if (MCTS_COMPUTER.equals(type))
+            return new MctsComputerPlayer(marker, board, opponentMarker);
+        else if (type != null && type.startsWith(MCTS_COMPUTER + BUDGET_SEPARATOR))
+            return new MctsComputerPlayer(marker, board, opponentMarker, budgetMillisOf(type, MCTS_COMPUTER));
+        else if ("perfectComputer".equals(type))
+            return new PerfectPlayComputerPlayer(marker, board);
         else
             throw new IllegalArgumentException("Invalid player type: " + type);
     }
 
+    private ComputerPlayer createComputerPlayer(String type, char marker, Board board, char opponentMarker) {
+        ComputerPlayer player = new ComputerPlayer(marker, board, opponentMarker, openingBook, evaluationCache.get());
+        searchListenersFor(type).forEach(player::addSearchListener);
+        return player;
+    }
+
+    private AlphaBetaComputerPlayer createAlphaBetaComputerPlayer(String type, char marker, Board board,
+                                                                  char opponentMarker) {
+        AlphaBetaComputerPlayer player = new AlphaBetaComputerPlayer(marker, board, opponentMarker,
+                new TranspositionTable(), openingBook, evaluationCache.get());
+        searchListenersFor(type).forEach(player::addSearchListener);
+        return player;
+    }
+
+    private List<SearchListener> searchListenersFor(String type) {
+        List<SearchListener> listeners = new ArrayList<>();
+        if (!publishSearchStatistics)
+            return listeners;
+        listeners.add(SearchMetrics.forPlayerType(type));
+        if (JfrSearchEvents.isAvailable())
+            listeners.add(new JfrSearchEvents(type));
+        return listeners;
+    }
+
+    private long budgetMillisOf(String type, String prefix) {
+        String budget = type.substring(prefix.length() + BUDGET_SEPARATOR.length());
+        if (!budget.matches("\\d{1,9}"))
+            throw new IllegalArgumentException("Invalid player type: " + type);
+        return Long.parseLong(budget);
+    }
+
     private GuiHumanPlayer createGuiHumanPlayer(char marker, Board board, BlockingQueue<Integer> moveQueue) {
         if (moveQueue == null)
             throw new IllegalStateException("Unable to create Gui Human: moveQueue is not set for Factory.");
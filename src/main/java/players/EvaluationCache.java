@@ -0,0 +1,110 @@
+package players;
+
+import boards.Zobrist;
+import game.Board;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static players.ComputerPlayer.DRAW_VALUE;
+
+public class EvaluationCache {
+    public static final int DEFAULT_CAPACITY = 1 << 20;
+    public static final int NOT_FOUND = Integer.MIN_VALUE;
+    private static final long VALID_FLAG = 1L << 32;
+    private final AtomicLongArray slots;
+    private final int indexMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public EvaluationCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public EvaluationCache(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 29)
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        int entries = Integer.highestOneBit(capacity);
+        if (entries < capacity)
+            entries <<= 1;
+        this.slots = new AtomicLongArray(entries * 2);
+        this.indexMask = entries - 1;
+    }
+
+    public static EvaluationCache shared() {
+        return Holder.INSTANCE;
+    }
+
+    private static class Holder {
+        private static final EvaluationCache INSTANCE =
+                new EvaluationCache(Integer.getInteger("evaluationCacheCapacity", DEFAULT_CAPACITY));
+    }
+
+    public static long dimensionKeyOf(Board board) {
+        int width = board.size();
+        return Zobrist.dimensionKeyOf(width, board.getStatus().length / width, board.winLength());
+    }
+
+    public static long keyOf(Board board, long sideToMoveKey, long dimensionKey) {
+        return board.hash() ^ sideToMoveKey ^ dimensionKey;
+    }
+
+    public int probe(long key, int depth) {
+        int slot = slotOf(key);
+        long data = slots.get(slot + 1);
+        if (data != 0 && (slots.get(slot) ^ data) == key) {
+            hits.increment();
+            return fromCacheValue((int) data, depth);
+        }
+        misses.increment();
+        return NOT_FOUND;
+    }
+
+    public void store(long key, int value, int depth) {
+        int slot = slotOf(key);
+        long data = (toCacheValue(value, depth) & 0xFFFFFFFFL) | VALID_FLAG;
+        slots.set(slot, key ^ data);
+        slots.set(slot + 1, data);
+    }
+
+    private int slotOf(long key) {
+        return ((int) (key ^ (key >>> 32)) & indexMask) << 1;
+    }
+
+    private static int toCacheValue(int value, int depth) {
+        if (value > DRAW_VALUE)
+            return value + depth;
+        else if (value < DRAW_VALUE)
+            return value - depth;
+        else
+            return value;
+    }
+
+    private static int fromCacheValue(int cacheValue, int depth) {
+        if (cacheValue > DRAW_VALUE)
+            return cacheValue - depth;
+        else if (cacheValue < DRAW_VALUE)
+            return cacheValue + depth;
+        else
+            return cacheValue;
+    }
+
+    public int capacity() {
+        return slots.length() / 2;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++)
+            slots.set(i, 0);
+        hits.reset();
+        misses.reset();
+    }
+}
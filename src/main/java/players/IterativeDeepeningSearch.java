@@ -0,0 +1,234 @@
+package players;
+
+import boards.Zobrist;
+import game.Board;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static players.ComputerPlayer.DRAW_VALUE;
+import static players.ComputerPlayer.LOSE_VALUE;
+import static players.ComputerPlayer.WIN_VALUE;
+import static players.TranspositionTable.EXACT;
+import static players.TranspositionTable.LOWER_BOUND;
+import static players.TranspositionTable.NOT_FOUND;
+import static players.TranspositionTable.NO_MOVE;
+import static players.TranspositionTable.UPPER_BOUND;
+
+public class IterativeDeepeningSearch {
+    public static final int MATE_THRESHOLD = LineHeuristic.MAX_VALUE;
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int ROOT_PLY = 0;
+    private static final int NODES_BETWEEN_CLOCK_CHECKS = 1024;
+    private final char marker;
+    private final char opponentMarker;
+    private final long budgetNanos;
+    private final LongSupplier nanoClock;
+    private final TranspositionTable transpositionTable;
+    private final long sideToMoveKey;
+    private final long opponentSideToMoveKey;
+    private LineHeuristic heuristic;
+    private char[] cells;
+    private int[][] movesAtPly;
+    private long deadline;
+    private int nodesUntilClockCheck;
+    private boolean timedOut;
+    private boolean reachedHorizon;
+    private int lastBestMove;
+    private int completedDepth;
+
+    public IterativeDeepeningSearch(char marker, char opponentMarker, long budgetMillis) {
+        this(marker, opponentMarker, budgetMillis, new TranspositionTable(), System::nanoTime);
+    }
+
+    IterativeDeepeningSearch(char marker, char opponentMarker, long budgetMillis,
+                             TranspositionTable transpositionTable, LongSupplier nanoClock) {
+        if (budgetMillis < 0)
+            throw new IllegalArgumentException("Invalid time budget: " + budgetMillis + "ms");
+        this.marker = marker;
+        this.opponentMarker = opponentMarker;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.nanoClock = nanoClock;
+        this.transpositionTable = transpositionTable;
+        this.sideToMoveKey = Zobrist.sideToMoveKeyOf(marker);
+        this.opponentSideToMoveKey = Zobrist.sideToMoveKeyOf(opponentMarker);
+    }
+
+    public SearchResult search(Board board) {
+        deadline = nanoClock.getAsLong() + budgetNanos;
+        timedOut = false;
+        nodesUntilClockCheck = NODES_BETWEEN_CLOCK_CHECKS;
+        completedDepth = 0;
+        prepareFor(board);
+        int[] rootMoves = movesAtPly[ROOT_PLY];
+        int rootMoveCount = board.possibleMoves(rootMoves);
+        if (board.hasEnded() || rootMoveCount == 0)
+            throw new IllegalStateException("Unable to search: board has already ended.");
+
+        SearchResult bestSoFar = new SearchResult(rootMoves[0], heuristic.valueOf(cells, marker));
+        for (int maxDepth = 1; maxDepth <= rootMoveCount; maxDepth++) {
+            reachedHorizon = false;
+            SearchResult result = searchToDepth(board, rootMoves, rootMoveCount, bestSoFar.move, maxDepth);
+            if (result != null)
+                bestSoFar = result;
+            if (timedOut)
+                break;
+            completedDepth = maxDepth;
+            if (!reachedHorizon || Math.abs(bestSoFar.score) > MATE_THRESHOLD)
+                break;
+        }
+        return bestSoFar;
+    }
+
+    public int completedDepth() {
+        return completedDepth;
+    }
+
+    private void prepareFor(Board board) {
+        cells = board.getStatus();
+        if (movesAtPly == null || movesAtPly[0].length != cells.length) {
+            movesAtPly = new int[cells.length + 1][cells.length];
+            heuristic = LineHeuristic.of(board);
+        }
+    }
+
+    private SearchResult searchToDepth(Board board, int[] rootMoves, int rootMoveCount, int firstMove, int maxDepth) {
+        moveToFront(rootMoves, rootMoveCount, firstMove);
+        SearchResult bestSoFar = null;
+        int alpha = -INFINITY;
+        for (int i = 0; i < rootMoveCount; i++) {
+            int currValue = -valueOfDraftMove(board, rootMoves[i], marker, opponentMarker,
+                    ROOT_PLY + 1, maxDepth, -INFINITY, -alpha);
+            if (timedOut)
+                break;
+            if (currValue > alpha) {
+                alpha = currValue;
+                bestSoFar = new SearchResult(rootMoves[i], currValue);
+            }
+        }
+        return bestSoFar;
+    }
+
+    private void moveToFront(int[] moves, int moveCount, int move) {
+        for (int i = 0; i < moveCount; i++) {
+            if (moves[i] == move) {
+                System.arraycopy(moves, 0, moves, 1, i);
+                moves[0] = move;
+                return;
+            }
+        }
+    }
+
+    private int valueOfDraftMove(Board board, int move, char playerMarker, char nextPlayerMarker,
+                                 int ply, int maxDepth, int alpha, int beta) {
+        board.mark(move, playerMarker);
+        cells[move] = playerMarker;
+        try {
+            return negaMaxValue(board, ply, maxDepth, nextPlayerMarker, playerMarker, alpha, beta);
+        } finally {
+            board.unmark(move);
+            cells[move] = 0;
+        }
+    }
+
+    private int negaMaxValue(Board board, int ply, int maxDepth, char playerMarker, char nextPlayerMarker,
+                             int alpha, int beta) {
+        if (isOutOfTime())
+            return DRAW_VALUE;
+        if (board.hasEnded())
+            return finalValueOf(board, ply, playerMarker);
+        if (ply >= maxDepth) {
+            reachedHorizon = true;
+            return heuristic.valueOf(cells, playerMarker);
+        }
+
+        int[] moves = movesAtPly[ply];
+        int moveCount = board.possibleMoves(moves);
+        int draft = Math.min(maxDepth - ply, moveCount);
+        long key = board.hash() ^ sideToMoveKeyOf(playerMarker);
+        long entry = transpositionTable.probe(key);
+        if (entry != NOT_FOUND && TranspositionTable.draftOf(entry) >= draft) {
+            int value = fromTableValue(TranspositionTable.valueOf(entry), ply);
+            int bound = TranspositionTable.boundOf(entry);
+            if (bound == EXACT
+                    || (bound == LOWER_BOUND && value >= beta)
+                    || (bound == UPPER_BOUND && value <= alpha)) {
+                if (TranspositionTable.draftOf(entry) < moveCount)
+                    reachedHorizon = true;
+                return value;
+            }
+        }
+        if (entry != NOT_FOUND)
+            moveToFront(moves, moveCount, TranspositionTable.bestMoveOf(entry));
+
+        int value = bestValueOfMoves(board, moves, moveCount, ply, maxDepth, playerMarker, nextPlayerMarker, alpha, beta);
+        if (!timedOut)
+            transpositionTable.store(key, toTableValue(value, ply), draft, boundOf(value, alpha, beta), lastBestMove);
+        return value;
+    }
+
+    private boolean isOutOfTime() {
+        if (!timedOut && --nodesUntilClockCheck <= 0) {
+            nodesUntilClockCheck = NODES_BETWEEN_CLOCK_CHECKS;
+            timedOut = nanoClock.getAsLong() - deadline >= 0;
+        }
+        return timedOut;
+    }
+
+    private int bestValueOfMoves(Board board, int[] moves, int moveCount, int ply, int maxDepth,
+                                 char playerMarker, char nextPlayerMarker, int alpha, int beta) {
+        int maxSoFar = -INFINITY;
+        int bestMove = NO_MOVE;
+        for (int i = 0; i < moveCount && alpha < beta; i++) {
+            int currValue = -valueOfDraftMove(board, moves[i], playerMarker, nextPlayerMarker,
+                    ply + 1, maxDepth, -beta, -alpha);
+            if (currValue > maxSoFar) {
+                maxSoFar = currValue;
+                bestMove = moves[i];
+            }
+            alpha = Math.max(maxSoFar, alpha);
+        }
+        lastBestMove = bestMove;
+        return maxSoFar;
+    }
+
+    private long sideToMoveKeyOf(char playerMarker) {
+        return playerMarker == marker ? sideToMoveKey : opponentSideToMoveKey;
+    }
+
+    private int boundOf(int value, int alpha, int beta) {
+        if (value <= alpha)
+            return UPPER_BOUND;
+        else if (value >= beta)
+            return LOWER_BOUND;
+        else
+            return EXACT;
+    }
+
+    private int toTableValue(int value, int ply) {
+        if (value > MATE_THRESHOLD)
+            return value + ply;
+        else if (value < -MATE_THRESHOLD)
+            return value - ply;
+        else
+            return value;
+    }
+
+    private int fromTableValue(int tableValue, int ply) {
+        if (tableValue > MATE_THRESHOLD)
+            return tableValue - ply;
+        else if (tableValue < -MATE_THRESHOLD)
+            return tableValue + ply;
+        else
+            return tableValue;
+    }
+
+    private int finalValueOf(Board board, int ply, char playerMarker) {
+        if (board.hasWinner() && board.getWinner() == playerMarker)
+            return WIN_VALUE - ply;
+        else if (board.hasWinner())
+            return LOSE_VALUE + ply;
+        else
+            return DRAW_VALUE;
+    }
+}
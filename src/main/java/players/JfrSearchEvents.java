@@ -0,0 +1,97 @@
+package players;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class JfrSearchEvents implements SearchListener {
+    public static final String EVENT_NAME = "tictactoe.Search";
+    private static final EventType EVENT_TYPE = EventType.lookup();
+    private final String playerType;
+
+    public JfrSearchEvents(String playerType) {
+        this.playerType = playerType;
+    }
+
+    public static boolean isAvailable() {
+        return EVENT_TYPE != null;
+    }
+
+    @Override
+    public void searchCompleted(SearchStatistics statistics) {
+        if (EVENT_TYPE != null)
+            EVENT_TYPE.commit(playerType, statistics);
+    }
+
+    private static class EventType {
+        private final Object eventFactory;
+        private final Method newEvent;
+        private final Method isEnabled;
+        private final Method set;
+        private final Method commit;
+
+        private EventType(Object eventFactory, Method newEvent, Method isEnabled, Method set, Method commit) {
+            this.eventFactory = eventFactory;
+            this.newEvent = newEvent;
+            this.isEnabled = isEnabled;
+            this.set = set;
+            this.commit = commit;
+        }
+
+        static EventType lookup() {
+            try {
+                Class<?> annotationElement = Class.forName("jdk.jfr.AnnotationElement");
+                Class<?> valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor");
+                Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory");
+                Class<?> eventClass = Class.forName("jdk.jfr.Event");
+                Constructor<?> newAnnotation = annotationElement.getConstructor(Class.class, Object.class);
+                Constructor<?> newField = valueDescriptor.getConstructor(Class.class, String.class, List.class);
+
+                List<Object> eventAnnotations = Arrays.asList(
+                        newAnnotation.newInstance(Class.forName("jdk.jfr.Name"), EVENT_NAME),
+                        newAnnotation.newInstance(Class.forName("jdk.jfr.Label"), "Computer Player Search"),
+                        newAnnotation.newInstance(Class.forName("jdk.jfr.Category"), new String[]{"Tic Tac Toe"}));
+                List<Object> timespan = Collections.singletonList(
+                        newAnnotation.newInstance(Class.forName("jdk.jfr.Timespan"), "NANOSECONDS"));
+                List<Object> fields = new ArrayList<>();
+                fields.add(newField.newInstance(String.class, "playerType", Collections.emptyList()));
+                fields.add(newField.newInstance(char.class, "marker", Collections.emptyList()));
+                fields.add(newField.newInstance(int.class, "move", Collections.emptyList()));
+                fields.add(newField.newInstance(long.class, "nodes", Collections.emptyList()));
+                fields.add(newField.newInstance(long.class, "terminalNodes", Collections.emptyList()));
+                fields.add(newField.newInstance(long.class, "cutoffs", Collections.emptyList()));
+                fields.add(newField.newInstance(int.class, "maxDepth", Collections.emptyList()));
+                fields.add(newField.newInstance(long.class, "cacheHits", Collections.emptyList()));
+                fields.add(newField.newInstance(long.class, "cacheMisses", Collections.emptyList()));
+                fields.add(newField.newInstance(long.class, "elapsed", timespan));
+
+                Object eventFactory = eventFactoryClass.getMethod("create", List.class, List.class)
+                        .invoke(null, eventAnnotations, fields);
+                return new EventType(eventFactory, eventFactoryClass.getMethod("newEvent"),
+                        eventClass.getMethod("isEnabled"), eventClass.getMethod("set", int.class, Object.class),
+                        eventClass.getMethod("commit"));
+            } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+                return null;
+            }
+        }
+
+        void commit(String playerType, SearchStatistics statistics) {
+            try {
+                Object event = newEvent.invoke(eventFactory);
+                if (!(Boolean) isEnabled.invoke(event))
+                    return;
+                Object[] values = {playerType, statistics.marker, statistics.move, statistics.nodes,
+                        statistics.terminalNodes, statistics.cutoffs, statistics.maxDepth, statistics.cacheHits,
+                        statistics.cacheMisses, statistics.elapsedNanos};
+                for (int i = 0; i < values.length; i++)
+                    set.invoke(event, i, values[i]);
+                commit.invoke(event);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Unable to commit search event: " + e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package players;
+
+import game.Board;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static players.ComputerPlayer.WIN_VALUE;
+
+public class LineHeuristic {
+    public static final int MAX_VALUE = WIN_VALUE / 2 - 1;
+    private static final int[][] LINE_DIRECTIONS = {{1, 0}, {0, 1}, {1, 1}, {1, -1}};
+    private final int[][] windows;
+    private final int[] weights;
+
+    public LineHeuristic(int width, int height, int winLength) {
+        this.windows = generateWindows(width, height, winLength);
+        this.weights = generateWeights(winLength);
+    }
+
+    public static LineHeuristic of(Board board) {
+        int width = board.size();
+        return new LineHeuristic(width, board.getStatus().length / width, board.winLength());
+    }
+
+    private static int[][] generateWindows(int width, int height, int winLength) {
+        List<int[]> windows = new ArrayList<>();
+        for (int[] direction : LINE_DIRECTIONS) {
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    int lastX = x + direction[0] * (winLength - 1);
+                    int lastY = y + direction[1] * (winLength - 1);
+                    if (lastX < 0 || lastX >= width || lastY < 0 || lastY >= height)
+                        continue;
+                    int[] window = new int[winLength];
+                    for (int i = 0; i < winLength; i++)
+                        window[i] = x + direction[0] * i + (y + direction[1] * i) * width;
+                    windows.add(window);
+                }
+            }
+        }
+        return windows.toArray(new int[0][]);
+    }
+
+    private static int[] generateWeights(int winLength) {
+        int[] weights = new int[winLength + 1];
+        for (int count = 1; count <= winLength; count++)
+            weights[count] = weights[count - 1] == 0 ? 1 : Math.min(weights[count - 1] * 4, MAX_VALUE);
+        return weights;
+    }
+
+    public int valueOf(char[] cells, char playerMarker) {
+        int value = 0;
+        for (int[] window : windows) {
+            int ownCount = 0;
+            int opponentCount = 0;
+            for (int position : window) {
+                if (cells[position] == playerMarker)
+                    ownCount++;
+                else if (cells[position] != 0)
+                    opponentCount++;
+            }
+            if (opponentCount == 0)
+                value += weights[ownCount];
+            else if (ownCount == 0)
+                value -= weights[opponentCount];
+        }
+        return Math.max(-MAX_VALUE, Math.min(value, MAX_VALUE));
+    }
+}
@@ -0,0 +1,35 @@
+package players;
+
+import game.Board;
+import game.Player;
+
+public class MctsComputerPlayer implements Player {
+    public static final long DEFAULT_BUDGET_MILLIS = 1000;
+    private final char marker;
+    private final Board board;
+    private final MctsSearch search;
+
+    public MctsComputerPlayer(char marker, Board board, char opponentMarker) {
+        this(marker, board, opponentMarker, DEFAULT_BUDGET_MILLIS);
+    }
+
+    public MctsComputerPlayer(char marker, Board board, char opponentMarker, long budgetMillis) {
+        this(marker, board, new MctsSearch(marker, opponentMarker, budgetMillis, MctsSearch.UNLIMITED_ITERATIONS));
+    }
+
+    public MctsComputerPlayer(char marker, Board board, MctsSearch search) {
+        this.marker = marker;
+        this.board = board;
+        this.search = search;
+    }
+
+    @Override
+    public char getMarker() {
+        return this.marker;
+    }
+
+    @Override
+    public void makeMove() {
+        board.mark(search.search(board).move, this.getMarker());
+    }
+}
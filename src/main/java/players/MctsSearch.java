@@ -0,0 +1,302 @@
+package players;
+
+import game.Board;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static players.ComputerPlayer.WIN_VALUE;
+
+public class MctsSearch {
+    public static final double DEFAULT_EXPLORATION = Math.sqrt(2);
+    public static final int DEFAULT_MAX_NODES = 1 << 20;
+    public static final long UNLIMITED_TIME = Long.MAX_VALUE;
+    public static final int UNLIMITED_ITERATIONS = Integer.MAX_VALUE;
+    private static final int ROOT = 0;
+    private static final int NO_CHILDREN = -1;
+    private static final int INITIAL_CAPACITY = 1 << 12;
+    private static final int ITERATIONS_BETWEEN_CLOCK_CHECKS = 256;
+    private static final int WIN_REWARD = 2;
+    private static final int DRAW_REWARD = 1;
+    private static final int US = 0;
+    private static final int THEM = 1;
+    private final char[] playerMarkers;
+    private final long budgetNanos;
+    private final int maxIterations;
+    private final int maxNodes;
+    private final double exploration;
+    private final LongSupplier nanoClock;
+    private long randomState;
+    private PlayoutBoard rootBoard;
+    private PlayoutBoard playoutBoard;
+    private int[] path;
+    private int[] moves;
+    private int[] visits;
+    private int[] rewards;
+    private int[] firstChild;
+    private int[] childCount;
+    private int nodeCount;
+    private char[] rootCells;
+    private int lastMove = NO_CHILDREN;
+    private int lastIterations;
+
+    public MctsSearch(char marker, char opponentMarker, long budgetMillis, int maxIterations) {
+        this(marker, opponentMarker, budgetMillis, maxIterations, ThreadLocalRandom.current().nextLong(),
+                DEFAULT_MAX_NODES, DEFAULT_EXPLORATION, System::nanoTime);
+    }
+
+    public MctsSearch(char marker, char opponentMarker, long budgetMillis, int maxIterations, Random random) {
+        this(marker, opponentMarker, budgetMillis, maxIterations, random.nextLong(),
+                DEFAULT_MAX_NODES, DEFAULT_EXPLORATION, System::nanoTime);
+    }
+
+    MctsSearch(char marker, char opponentMarker, long budgetMillis, int maxIterations, long seed,
+               int maxNodes, double exploration, LongSupplier nanoClock) {
+        if (budgetMillis <= 0)
+            throw new IllegalArgumentException("Invalid time budget: " + budgetMillis + "ms");
+        if (maxIterations <= 0)
+            throw new IllegalArgumentException("Invalid iteration budget: " + maxIterations);
+        if (budgetMillis == UNLIMITED_TIME && maxIterations == UNLIMITED_ITERATIONS)
+            throw new IllegalArgumentException("Either a time or an iteration budget is required.");
+        if (maxNodes <= 0)
+            throw new IllegalArgumentException("Invalid node limit: " + maxNodes);
+        this.playerMarkers = new char[]{marker, opponentMarker};
+        this.budgetNanos = budgetMillis == UNLIMITED_TIME ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.maxIterations = maxIterations;
+        this.maxNodes = maxNodes;
+        this.exploration = exploration;
+        this.nanoClock = nanoClock;
+        this.randomState = seed == 0 ? 1 : seed;
+    }
+
+    public SearchResult search(Board board) {
+        if (board.hasEnded())
+            throw new IllegalStateException("Unable to search: board has already ended.");
+        char[] cells = board.getStatus();
+        prepareFor(board, cells);
+
+        long start = nanoClock.getAsLong();
+        int iterations = 0;
+        while (iterations < maxIterations) {
+            if (iterations % ITERATIONS_BETWEEN_CLOCK_CHECKS == 0 && iterations > 0
+                    && nanoClock.getAsLong() - start >= budgetNanos)
+                break;
+            iterate();
+            iterations++;
+        }
+        lastIterations = iterations;
+
+        int bestChild = mostVisitedChild(ROOT);
+        lastMove = moves[bestChild];
+        rootCells = cells;
+        return new SearchResult(lastMove, valueOf(bestChild));
+    }
+
+    public int lastIterations() {
+        return lastIterations;
+    }
+
+    int rootVisits() {
+        return visits[ROOT];
+    }
+
+    private void prepareFor(Board board, char[] cells) {
+        if (rootBoard == null || !rootBoard.fits(board)) {
+            rootBoard = PlayoutBoard.of(board);
+            playoutBoard = PlayoutBoard.of(board);
+            path = new int[cells.length + 1];
+            rootCells = null;
+        }
+        rootBoard.load(cells, playerMarkers);
+        if (!reuseSubtreeFor(cells))
+            resetTree();
+    }
+
+    private void resetTree() {
+        if (moves == null)
+            allocateNodes(Math.min(INITIAL_CAPACITY, maxNodes));
+        nodeCount = 1;
+        moves[ROOT] = NO_CHILDREN;
+        visits[ROOT] = 0;
+        rewards[ROOT] = 0;
+        firstChild[ROOT] = NO_CHILDREN;
+        childCount[ROOT] = 0;
+    }
+
+    private void allocateNodes(int capacity) {
+        moves = new int[capacity];
+        visits = new int[capacity];
+        rewards = new int[capacity];
+        firstChild = new int[capacity];
+        childCount = new int[capacity];
+    }
+
+    private boolean reuseSubtreeFor(char[] cells) {
+        if (rootCells == null || rootCells.length != cells.length || moves == null)
+            return false;
+        int opponentMove = NO_CHILDREN;
+        for (int position = 0; position < cells.length; position++) {
+            if (rootCells[position] != 0 && rootCells[position] != cells[position])
+                return false;
+            if (rootCells[position] == 0 && cells[position] != 0 && position != lastMove) {
+                if (opponentMove != NO_CHILDREN || cells[position] != playerMarkers[THEM])
+                    return false;
+                opponentMove = position;
+            }
+        }
+        if (opponentMove == NO_CHILDREN || cells[lastMove] != playerMarkers[US])
+            return false;
+        int node = childWithMove(ROOT, lastMove);
+        if (node != NO_CHILDREN)
+            node = childWithMove(node, opponentMove);
+        if (node == NO_CHILDREN)
+            return false;
+        compactSubtree(node);
+        return true;
+    }
+
+    private int childWithMove(int node, int move) {
+        for (int child = firstChild[node]; child != NO_CHILDREN && child < firstChild[node] + childCount[node]; child++) {
+            if (moves[child] == move)
+                return child;
+        }
+        return NO_CHILDREN;
+    }
+
+    private void compactSubtree(int newRoot) {
+        int[] oldMoves = moves;
+        int[] oldVisits = visits;
+        int[] oldRewards = rewards;
+        int[] oldFirstChild = firstChild;
+        int[] oldChildCount = childCount;
+        int[] oldIndexOf = new int[nodeCount];
+        allocateNodes(oldMoves.length);
+        oldIndexOf[ROOT] = newRoot;
+        int count = 1;
+        for (int node = 0; node < count; node++) {
+            int old = oldIndexOf[node];
+            moves[node] = oldMoves[old];
+            visits[node] = oldVisits[old];
+            rewards[node] = oldRewards[old];
+            childCount[node] = oldChildCount[old];
+            if (oldFirstChild[old] == NO_CHILDREN) {
+                firstChild[node] = NO_CHILDREN;
+                continue;
+            }
+            firstChild[node] = count;
+            for (int c = 0; c < oldChildCount[old]; c++)
+                oldIndexOf[count++] = oldFirstChild[old] + c;
+        }
+        nodeCount = count;
+    }
+
+    private void iterate() {
+        playoutBoard.copyFrom(rootBoard);
+        int node = ROOT;
+        int depth = 0;
+        path[depth] = node;
+        int player = US;
+        while (firstChild[node] != NO_CHILDREN && !playoutBoard.hasEnded()) {
+            node = selectChild(node);
+            playoutBoard.mark(moves[node], player);
+            path[++depth] = node;
+            player = 1 - player;
+        }
+        if (!playoutBoard.hasEnded() && (node == ROOT || visits[node] > 0) && expand(node)) {
+            node = firstChild[node] + nextRandom(childCount[node]);
+            playoutBoard.mark(moves[node], player);
+            path[++depth] = node;
+            player = 1 - player;
+        }
+        while (!playoutBoard.hasEnded()) {
+            playoutBoard.mark(playoutBoard.emptyCellAt(nextRandom(playoutBoard.emptyCount())), player);
+            player = 1 - player;
+        }
+        backPropagate(depth, playoutBoard.winner());
+    }
+
+    private int selectChild(int node) {
+        int first = firstChild[node];
+        int end = first + childCount[node];
+        double logParentVisits = Math.log(visits[node]);
+        int best = first;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int child = first; child < end; child++) {
+            if (visits[child] == 0)
+                return child;
+            double mean = rewards[child] / (2.0 * visits[child]);
+            double value = mean + exploration * Math.sqrt(logParentVisits / visits[child]);
+            if (value > bestValue) {
+                bestValue = value;
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    private boolean expand(int node) {
+        int count = playoutBoard.emptyCount();
+        if (nodeCount + count > maxNodes && node != ROOT)
+            return false;
+        if (nodeCount + count > moves.length)
+            growNodes(Math.max(Math.min(maxNodes, moves.length * 2), nodeCount + count));
+        firstChild[node] = nodeCount;
+        childCount[node] = count;
+        for (int i = 0; i < count; i++) {
+            int child = nodeCount++;
+            moves[child] = playoutBoard.emptyCellAt(i);
+            visits[child] = 0;
+            rewards[child] = 0;
+            firstChild[child] = NO_CHILDREN;
+            childCount[child] = 0;
+        }
+        return true;
+    }
+
+    private void growNodes(int capacity) {
+        moves = Arrays.copyOf(moves, capacity);
+        visits = Arrays.copyOf(visits, capacity);
+        rewards = Arrays.copyOf(rewards, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        childCount = Arrays.copyOf(childCount, capacity);
+    }
+
+    private void backPropagate(int depth, int winner) {
+        visits[ROOT]++;
+        for (int d = 1; d <= depth; d++) {
+            int node = path[d];
+            int mover = (d - 1) & 1;
+            visits[node]++;
+            if (winner == PlayoutBoard.NO_WINNER)
+                rewards[node] += DRAW_REWARD;
+            else if (winner == mover)
+                rewards[node] += WIN_REWARD;
+        }
+    }
+
+    private int mostVisitedChild(int node) {
+        int best = firstChild[node];
+        for (int child = best; child < firstChild[node] + childCount[node]; child++) {
+            if (visits[child] > visits[best])
+                best = child;
+        }
+        return best;
+    }
+
+    private int valueOf(int node) {
+        if (visits[node] == 0)
+            return 0;
+        double mean = rewards[node] / (2.0 * visits[node]);
+        return (int) Math.round((2 * mean - 1) * WIN_VALUE);
+    }
+
+    private int nextRandom(int bound) {
+        randomState ^= randomState << 13;
+        randomState ^= randomState >>> 7;
+        randomState ^= randomState << 17;
+        return (int) (((randomState >>> 32) * bound) >>> 32);
+    }
+}
@@ -0,0 +1,132 @@
+package players;
+
+import boards.BoardSymmetry;
+import boards.SymmetricHash;
+import boards.Zobrist;
+import game.Board;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+public class OpeningBook {
+    public static final int NO_MOVE = -1;
+    static final int MAGIC = 0x54545442;
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = Integer.BYTES + 1 + Integer.BYTES;
+    static final int ENTRY_SIZE = Long.BYTES + Character.BYTES;
+    private final Path path;
+    private final ConcurrentMap<Integer, BoardSymmetry> symmetries = new ConcurrentHashMap<>();
+    private volatile ByteBuffer entries;
+    private volatile int entryCount;
+
+    private OpeningBook(Path path, ByteBuffer entries, int entryCount) {
+        this.path = path;
+        this.entries = entries;
+        this.entryCount = entryCount;
+    }
+
+    public static OpeningBook open(Path path) {
+        return new OpeningBook(path, null, 0);
+    }
+
+    static OpeningBook of(ByteBuffer book) throws IOException {
+        ByteBuffer entries = book.duplicate();
+        int entryCount = readHeader(entries);
+        return new OpeningBook(null, entries.slice(), entryCount);
+    }
+
+    private static int readHeader(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC)
+            throw new IOException("Not an opening book.");
+        byte version = buffer.get();
+        if (version != VERSION)
+            throw new IOException("Unsupported opening book version: " + version);
+        int entryCount = buffer.getInt();
+        if (entryCount < 0 || (long) entryCount * ENTRY_SIZE > buffer.remaining())
+            throw new IOException("Truncated opening book: expected " + entryCount + " entries.");
+        return entryCount;
+    }
+
+    public int size() {
+        ensureLoaded();
+        return entryCount;
+    }
+
+    public int bestMove(Board board, char marker) {
+        if (board.hasEnded())
+            return NO_MOVE;
+        char[] cells = board.getStatus();
+        BoardSymmetry symmetry = symmetryOf(board.size(), cells.length / board.size());
+        int canonicalTransform = 0;
+        long canonicalHash = symmetry.hashOf(0, cells);
+        for (int t = 1; t < symmetry.transformCount(); t++) {
+            long hash = symmetry.hashOf(t, cells);
+            if (hash < canonicalHash) {
+                canonicalHash = hash;
+                canonicalTransform = t;
+            }
+        }
+        int canonicalMove = canonicalMoveOf(keyOf(canonicalHash, marker, symmetry, board.winLength()));
+        if (canonicalMove == NO_MOVE)
+            return NO_MOVE;
+        int move = symmetry.inverse(canonicalTransform, canonicalMove);
+        return board.isValid(move) ? move : NO_MOVE;
+    }
+
+    private BoardSymmetry symmetryOf(int width, int height) {
+        return symmetries.computeIfAbsent(width << 16 | height, dimensions -> new BoardSymmetry(width, height));
+    }
+
+    static long keyOf(SymmetricHash positionHash, char marker, BoardSymmetry symmetry, int winLength) {
+        return keyOf(positionHash.canonicalHash(), marker, symmetry, winLength);
+    }
+
+    private static long keyOf(long canonicalHash, char marker, BoardSymmetry symmetry, int winLength) {
+        int width = symmetry.width();
+        return canonicalHash ^ Zobrist.sideToMoveKeyOf(marker)
+                ^ Zobrist.dimensionKeyOf(width, symmetry.cellCount() / width, winLength);
+    }
+
+    private int canonicalMoveOf(long key) {
+        ensureLoaded();
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midKey = entries.getLong(mid * ENTRY_SIZE);
+            if (midKey < key)
+                low = mid + 1;
+            else if (midKey > key)
+                high = mid - 1;
+            else
+                return entries.getChar(mid * ENTRY_SIZE + Long.BYTES);
+        }
+        return NO_MOVE;
+    }
+
+    private void ensureLoaded() {
+        if (entries != null)
+            return;
+        synchronized (this) {
+            if (entries == null)
+                load();
+        }
+    }
+
+    private void load() {
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            entryCount = readHeader(mapped);
+            entries = mapped.slice();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load opening book " + path + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package players;
+
+import boards.BoardSymmetry;
+import boards.SymmetricHash;
+import game.Board;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class OpeningBookBuilder {
+    private final Board board;
+    private final char firstMarker;
+    private final char secondMarker;
+    private final int plies;
+    private final Map<Long, Character> canonicalMoves = new TreeMap<>();
+    private BoardSymmetry symmetry;
+    private AlphaBetaSearch firstSearch;
+    private AlphaBetaSearch secondSearch;
+
+    public OpeningBookBuilder(Board board, char firstMarker, char secondMarker, int plies) {
+        if (plies < 0)
+            throw new IllegalArgumentException("Invalid number of plies: " + plies);
+        if (board.getStatus().length > Character.MAX_VALUE)
+            throw new IllegalArgumentException("Board too large for opening book: " + board.getStatus().length + " cells");
+        this.board = board.copy();
+        this.firstMarker = firstMarker;
+        this.secondMarker = secondMarker;
+        this.plies = plies;
+    }
+
+    public OpeningBook build() {
+        try {
+            return OpeningBook.of(ByteBuffer.wrap(toBytes()));
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to build opening book: " + e.getMessage(), e);
+        }
+    }
+
+    public void write(Path path) throws IOException {
+        Files.write(path, toBytes());
+    }
+
+    private byte[] toBytes() {
+        solve();
+        ByteBuffer buffer = ByteBuffer.allocate(OpeningBook.HEADER_SIZE + canonicalMoves.size() * OpeningBook.ENTRY_SIZE);
+        buffer.putInt(OpeningBook.MAGIC);
+        buffer.put(OpeningBook.VERSION);
+        buffer.putInt(canonicalMoves.size());
+        for (Map.Entry<Long, Character> entry : canonicalMoves.entrySet()) {
+            buffer.putLong(entry.getKey());
+            buffer.putChar(entry.getValue());
+        }
+        return buffer.array();
+    }
+
+    private void solve() {
+        if (symmetry != null)
+            return;
+        symmetry = BoardSymmetry.of(board);
+        firstSearch = new AlphaBetaSearch(firstMarker, secondMarker, new TranspositionTable());
+        secondSearch = new AlphaBetaSearch(secondMarker, firstMarker, new TranspositionTable());
+        explore(0, firstMarker, secondMarker);
+    }
+
+    private void explore(int ply, char marker, char nextMarker) {
+        if (ply >= plies || board.hasEnded())
+            return;
+        SymmetricHash positionHash = new SymmetricHash(symmetry, board.getStatus());
+        long key = OpeningBook.keyOf(positionHash, marker, symmetry, board.winLength());
+        if (canonicalMoves.containsKey(key))
+            return;
+        SearchResult result = (marker == firstMarker ? firstSearch : secondSearch).search(board);
+        canonicalMoves.put(key, (char) symmetry.transform(positionHash.canonicalTransform(), result.move));
+        for (int move : board.possibleMoves()) {
+            board.mark(move, marker);
+            try {
+                explore(ply + 1, nextMarker, marker);
+            } finally {
+                board.unmark(move);
+            }
+        }
+    }
+}
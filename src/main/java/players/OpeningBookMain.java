@@ -0,0 +1,23 @@
+package players;
+
+import boards.DefaultBoardFactory;
+import game.Board;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+public class OpeningBookMain {
+    private static final String USAGE = "Usage: OpeningBookMain <output> <plies> [width height winLength]";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2 && args.length != 5)
+            throw new IllegalArgumentException(USAGE);
+        int plies = Integer.parseInt(args[1]);
+        Board board = DefaultBoardFactory.fromArguments(Arrays.asList(args).subList(2, args.length)).createBoard();
+        long start = System.nanoTime();
+        new OpeningBookBuilder(board, 'X', 'O', plies).write(Paths.get(args[0]));
+        System.out.println(String.format("Wrote %d-ply opening book to %s in %d ms", plies, args[0],
+                (System.nanoTime() - start) / 1_000_000));
+    }
+}
@@ -0,0 +1,30 @@
+package players;
+
+import game.Board;
+import game.Player;
+
+public class ParallelComputerPlayer implements Player {
+    private final char marker;
+    private final Board board;
+    private final ParallelSearch search;
+
+    public ParallelComputerPlayer(char marker, Board board, char opponentMarker) {
+        this(marker, board, new ParallelSearch(marker, opponentMarker));
+    }
+
+    public ParallelComputerPlayer(char marker, Board board, ParallelSearch search) {
+        this.marker = marker;
+        this.board = board;
+        this.search = search;
+    }
+
+    @Override
+    public char getMarker() {
+        return this.marker;
+    }
+
+    @Override
+    public void makeMove() {
+        board.mark(search.search(board).move, this.getMarker());
+    }
+}
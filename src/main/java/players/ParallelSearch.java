@@ -0,0 +1,186 @@
+package players;
+
+import boards.BoardSymmetry;
+import boards.SymmetricHash;
+import game.Board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static players.ComputerPlayer.DRAW_VALUE;
+import static players.ComputerPlayer.LOSE_VALUE;
+import static players.ComputerPlayer.STARTING_DEPTH;
+import static players.ComputerPlayer.WIN_VALUE;
+
+public class ParallelSearch {
+    public static final int DEFAULT_SPLIT_THRESHOLD = 14;
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int TABLE_CAPACITY = 1 << 16;
+    private static final AtomicLong SEARCH_IDS = new AtomicLong();
+    private static final ThreadLocal<WorkerSearches> WORKER_SEARCHES = ThreadLocal.withInitial(WorkerSearches::new);
+    private final char marker;
+    private final char opponentMarker;
+    private final ForkJoinPool pool;
+    private final int splitThreshold;
+
+    public ParallelSearch(char marker, char opponentMarker) {
+        this(marker, opponentMarker, ForkJoinPool.commonPool(), DEFAULT_SPLIT_THRESHOLD);
+    }
+
+    public ParallelSearch(char marker, char opponentMarker, ForkJoinPool pool, int splitThreshold) {
+        if (splitThreshold < 0)
+            throw new IllegalArgumentException("Invalid split threshold: " + splitThreshold);
+        this.marker = marker;
+        this.opponentMarker = opponentMarker;
+        this.pool = pool;
+        this.splitThreshold = splitThreshold;
+    }
+
+    public SearchResult search(Board board) {
+        if (board.hasEnded())
+            throw new IllegalStateException("Unable to search: board has already ended.");
+        return pool.invoke(new RootTask(board, SEARCH_IDS.incrementAndGet()));
+    }
+
+    @SuppressWarnings("serial")
+    private class RootTask extends RecursiveTask<SearchResult> {
+        private final Board board;
+        private final long searchId;
+
+        RootTask(Board board, long searchId) {
+            this.board = board;
+            this.searchId = searchId;
+        }
+
+        @Override
+        protected SearchResult compute() {
+            List<Integer> moves = distinctMovesOf(board);
+            int bestMoveSoFar = moves.get(0);
+            int bestValueSoFar = new MoveTask(board.copy(), bestMoveSoFar, marker, opponentMarker,
+                    STARTING_DEPTH, -INFINITY, INFINITY, searchId).compute();
+
+            List<MoveTask> siblingTasks = new ArrayList<>();
+            for (int move : moves.subList(1, moves.size()))
+                siblingTasks.add(new MoveTask(board.copy(), move, marker, opponentMarker,
+                        STARTING_DEPTH, bestValueSoFar, INFINITY, searchId));
+            invokeAll(siblingTasks);
+            for (MoveTask siblingTask : siblingTasks) {
+                int currValue = siblingTask.join();
+                if (currValue > bestValueSoFar) {
+                    bestValueSoFar = currValue;
+                    bestMoveSoFar = siblingTask.move;
+                }
+            }
+            return new SearchResult(bestMoveSoFar, bestValueSoFar);
+        }
+
+        private List<Integer> distinctMovesOf(Board board) {
+            SymmetricHash positionHash = new SymmetricHash(BoardSymmetry.of(board), board.getStatus());
+            List<Long> searchedPositions = new ArrayList<>();
+            List<Integer> distinctMoves = new ArrayList<>();
+            for (int move : board.possibleMoves()) {
+                positionHash.toggle(move, marker);
+                long canonicalHash = positionHash.canonicalHash();
+                positionHash.toggle(move, marker);
+                if (searchedPositions.contains(canonicalHash))
+                    continue;
+                searchedPositions.add(canonicalHash);
+                distinctMoves.add(move);
+            }
+            return distinctMoves;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private class MoveTask extends RecursiveTask<Integer> {
+        private final Board board;
+        private final int move;
+        private final char playerMarker;
+        private final char nextPlayerMarker;
+        private final int depth;
+        private final int alpha;
+        private final int beta;
+        private final long searchId;
+
+        MoveTask(Board board, int move, char playerMarker, char nextPlayerMarker, int depth, int alpha, int beta,
+                 long searchId) {
+            this.board = board;
+            this.move = move;
+            this.playerMarker = playerMarker;
+            this.nextPlayerMarker = nextPlayerMarker;
+            this.depth = depth;
+            this.alpha = alpha;
+            this.beta = beta;
+            this.searchId = searchId;
+        }
+
+        @Override
+        protected Integer compute() {
+            board.mark(move, playerMarker);
+            return -negaMaxValue(-beta, -alpha);
+        }
+
+        private int negaMaxValue(int alpha, int beta) {
+            if (board.hasEnded())
+                return finalValueOf(board, depth, nextPlayerMarker);
+            int[] moves = new int[board.getStatus().length];
+            int moveCount = board.possibleMoves(moves);
+            if (moveCount <= splitThreshold)
+                return WORKER_SEARCHES.get().searchFor(searchId, marker, opponentMarker, nextPlayerMarker)
+                        .valueOf(board, depth, alpha, beta);
+
+            int maxSoFar = childTask(moves[0], alpha, beta).compute();
+            alpha = Math.max(maxSoFar, alpha);
+            if (alpha >= beta)
+                return maxSoFar;
+
+            List<MoveTask> siblingTasks = new ArrayList<>(moveCount - 1);
+            for (int i = 1; i < moveCount; i++)
+                siblingTasks.add(childTask(moves[i], alpha, beta));
+            invokeAll(siblingTasks);
+            for (MoveTask siblingTask : siblingTasks)
+                maxSoFar = Math.max(siblingTask.join(), maxSoFar);
+            return maxSoFar;
+        }
+
+        private MoveTask childTask(int childMove, int alpha, int beta) {
+            return new MoveTask(board.copy(), childMove, nextPlayerMarker, playerMarker, depth + 1, alpha, beta,
+                    searchId);
+        }
+    }
+
+    private static class WorkerSearches {
+        private final TranspositionTable transpositionTable = new TranspositionTable(TABLE_CAPACITY);
+        private long searchId;
+        private char marker;
+        private char opponentMarker;
+        private AlphaBetaSearch searchForMarker;
+        private AlphaBetaSearch searchForOpponent;
+
+        AlphaBetaSearch searchFor(long searchId, char marker, char opponentMarker, char playerMarker) {
+            if (this.searchId != searchId) {
+                this.searchId = searchId;
+                transpositionTable.newGeneration();
+            }
+            if (searchForMarker == null || this.marker != marker || this.opponentMarker != opponentMarker) {
+                this.marker = marker;
+                this.opponentMarker = opponentMarker;
+                this.searchForMarker = new AlphaBetaSearch(marker, opponentMarker, transpositionTable);
+                this.searchForOpponent = new AlphaBetaSearch(opponentMarker, marker, transpositionTable);
+            }
+            return playerMarker == marker ? searchForMarker : searchForOpponent;
+        }
+    }
+
+    private static int finalValueOf(Board board, int depth, char playerMarker) {
+        if (board.hasWinner() && board.getWinner() == playerMarker)
+            return WIN_VALUE - depth;
+        else if (board.hasWinner())
+            return LOSE_VALUE + depth;
+        else
+            return DRAW_VALUE;
+    }
+}
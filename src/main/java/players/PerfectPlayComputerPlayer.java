@@ -0,0 +1,31 @@
+package players;
+
+import game.Board;
+import game.Player;
+
+public class PerfectPlayComputerPlayer implements Player {
+    private final char marker;
+    private final Board board;
+    private final PerfectPlayTable table;
+
+    public PerfectPlayComputerPlayer(char marker, Board board) {
+        if (board.size() != PerfectPlayTable.BOARD_SIZE || board.getStatus().length != PerfectPlayTable.BOARD_SIZE * PerfectPlayTable.BOARD_SIZE)
+            throw new IllegalArgumentException("Perfect play table only supports 3x3 boards.");
+        this.marker = marker;
+        this.board = board;
+        this.table = PerfectPlayTable.threeByThree();
+    }
+
+    @Override
+    public char getMarker() {
+        return this.marker;
+    }
+
+    @Override
+    public void makeMove() {
+        int move = table.bestMove(board.getStatus(), this.getMarker());
+        if (move == PerfectPlayTable.NO_MOVE)
+            throw new IllegalStateException("Unable to make move: board has already ended.");
+        board.mark(move, this.getMarker());
+    }
+}
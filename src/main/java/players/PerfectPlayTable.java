@@ -0,0 +1,134 @@
+package players;
+
+import java.util.Arrays;
+
+import static players.ComputerPlayer.DRAW_VALUE;
+import static players.ComputerPlayer.WIN_VALUE;
+
+public class PerfectPlayTable {
+    public static final int BOARD_SIZE = 3;
+    public static final int NO_MOVE = -1;
+    private static final int NUM_CELLS = BOARD_SIZE * BOARD_SIZE;
+    private static final int NUM_POSITIONS = 19683;
+    private static final int EMPTY = 0;
+    private static final int MINE = 1;
+    private static final int THEIRS = 2;
+    private static final int UNSOLVED = Integer.MIN_VALUE;
+    private static final int[] POWERS_OF_THREE = {1, 3, 9, 27, 81, 243, 729, 2187, 6561};
+    private static final int[][] WINNING_LINES = {
+            {0, 1, 2}, {3, 4, 5}, {6, 7, 8},
+            {0, 3, 6}, {1, 4, 7}, {2, 5, 8},
+            {0, 4, 8}, {2, 4, 6}
+    };
+    private final byte[] bestMoves;
+    private final short[] values;
+
+    private PerfectPlayTable() {
+        this.bestMoves = new byte[NUM_POSITIONS];
+        this.values = new short[NUM_POSITIONS];
+        solveAllPositions();
+    }
+
+    public static PerfectPlayTable threeByThree() {
+        return Holder.INSTANCE;
+    }
+
+    private static class Holder {
+        private static final PerfectPlayTable INSTANCE = new PerfectPlayTable();
+    }
+
+    private void solveAllPositions() {
+        int[] solvedValues = new int[NUM_POSITIONS];
+        Arrays.fill(solvedValues, UNSOLVED);
+        for (int code = 0; code < NUM_POSITIONS; code++)
+            solve(code, solvedValues);
+    }
+
+    private int solve(int code, int[] solvedValues) {
+        if (solvedValues[code] != UNSOLVED)
+            return solvedValues[code];
+
+        int bestMoveSoFar = NO_MOVE;
+        int bestValueSoFar = Integer.MIN_VALUE;
+        if (!hasEnded(code)) {
+            for (int move = 0; move < NUM_CELLS; move++) {
+                if (digitAt(code, move) != EMPTY)
+                    continue;
+                int currValue = valueOfMove(code, move, solvedValues);
+                if (currValue > bestValueSoFar) {
+                    bestValueSoFar = currValue;
+                    bestMoveSoFar = move;
+                }
+            }
+        }
+        bestMoves[code] = (byte) bestMoveSoFar;
+        values[code] = (short) (bestMoveSoFar == NO_MOVE ? DRAW_VALUE : bestValueSoFar);
+        solvedValues[code] = values[code];
+        return solvedValues[code];
+    }
+
+    private int valueOfMove(int code, int move, int[] solvedValues) {
+        int draftCode = code + MINE * POWERS_OF_THREE[move];
+        if (hasLine(draftCode, MINE))
+            return WIN_VALUE;
+        if (isFull(draftCode))
+            return DRAW_VALUE;
+        int opponentValue = solve(swapSides(draftCode), solvedValues);
+        return -opponentValue + Integer.signum(opponentValue);
+    }
+
+    private boolean hasEnded(int code) {
+        return hasLine(code, MINE) || hasLine(code, THEIRS) || isFull(code);
+    }
+
+    private boolean hasLine(int code, int side) {
+        for (int[] line : WINNING_LINES) {
+            if (digitAt(code, line[0]) == side && digitAt(code, line[1]) == side && digitAt(code, line[2]) == side)
+                return true;
+        }
+        return false;
+    }
+
+    private boolean isFull(int code) {
+        for (int position = 0; position < NUM_CELLS; position++) {
+            if (digitAt(code, position) == EMPTY)
+                return false;
+        }
+        return true;
+    }
+
+    private static int digitAt(int code, int position) {
+        return code / POWERS_OF_THREE[position] % 3;
+    }
+
+    private static int swapSides(int code) {
+        int swapped = 0;
+        for (int position = 0; position < NUM_CELLS; position++) {
+            int digit = digitAt(code, position);
+            if (digit != EMPTY)
+                swapped += (THEIRS + MINE - digit) * POWERS_OF_THREE[position];
+        }
+        return swapped;
+    }
+
+    public static int codeOf(char[] cells, char marker) {
+        if (cells.length != NUM_CELLS)
+            throw new IllegalArgumentException("Expected " + NUM_CELLS + " cells but was: " + cells.length);
+        int code = 0;
+        for (int position = 0; position < NUM_CELLS; position++) {
+            if (cells[position] == marker)
+                code += MINE * POWERS_OF_THREE[position];
+            else if (cells[position] != 0)
+                code += THEIRS * POWERS_OF_THREE[position];
+        }
+        return code;
+    }
+
+    public int bestMove(char[] cells, char marker) {
+        return bestMoves[codeOf(cells, marker)];
+    }
+
+    public int valueOf(char[] cells, char marker) {
+        return values[codeOf(cells, marker)];
+    }
+}
@@ -0,0 +1,117 @@
+package players;
+
+import game.Board;
+
+import java.util.Arrays;
+
+class PlayoutBoard {
+    static final int NO_WINNER = -1;
+    private static final int[][] LINE_DIRECTIONS = {{1, 0}, {0, 1}, {1, 1}, {1, -1}};
+    private final int width;
+    private final int height;
+    private final int winLength;
+    private final long[][] playerBits;
+    private final int[] emptyCells;
+    private final int[] emptyIndexOf;
+    private int emptyCount;
+    private int winner;
+
+    PlayoutBoard(int width, int height, int winLength) {
+        this.width = width;
+        this.height = height;
+        this.winLength = winLength;
+        int cellCount = width * height;
+        this.playerBits = new long[2][(cellCount + Long.SIZE - 1) / Long.SIZE];
+        this.emptyCells = new int[cellCount];
+        this.emptyIndexOf = new int[cellCount];
+    }
+
+    static PlayoutBoard of(Board board) {
+        int cellCount = board.getStatus().length;
+        return new PlayoutBoard(board.size(), cellCount / board.size(), board.winLength());
+    }
+
+    boolean fits(Board board) {
+        return board.size() == width && board.getStatus().length == width * height && board.winLength() == winLength;
+    }
+
+    void load(char[] cells, char[] playerMarkers) {
+        for (long[] bits : playerBits)
+            Arrays.fill(bits, 0);
+        emptyCount = 0;
+        winner = NO_WINNER;
+        for (int position = 0; position < cells.length; position++) {
+            if (cells[position] == 0) {
+                emptyIndexOf[position] = emptyCount;
+                emptyCells[emptyCount++] = position;
+            } else {
+                int player = cells[position] == playerMarkers[0] ? 0 : 1;
+                playerBits[player][position >>> 6] |= 1L << position;
+            }
+        }
+    }
+
+    void copyFrom(PlayoutBoard other) {
+        for (int player = 0; player < playerBits.length; player++)
+            System.arraycopy(other.playerBits[player], 0, playerBits[player], 0, playerBits[player].length);
+        System.arraycopy(other.emptyCells, 0, emptyCells, 0, other.emptyCount);
+        System.arraycopy(other.emptyIndexOf, 0, emptyIndexOf, 0, emptyIndexOf.length);
+        emptyCount = other.emptyCount;
+        winner = other.winner;
+    }
+
+    int emptyCount() {
+        return emptyCount;
+    }
+
+    int emptyCellAt(int index) {
+        return emptyCells[index];
+    }
+
+    boolean hasEnded() {
+        return winner != NO_WINNER || emptyCount == 0;
+    }
+
+    int winner() {
+        return winner;
+    }
+
+    void mark(int position, int player) {
+        int index = emptyIndexOf[position];
+        int last = emptyCells[--emptyCount];
+        emptyCells[index] = last;
+        emptyIndexOf[last] = index;
+        playerBits[player][position >>> 6] |= 1L << position;
+        if (completesLineThrough(position, player))
+            winner = player;
+    }
+
+    private boolean completesLineThrough(int position, int player) {
+        long[] bits = playerBits[player];
+        int x = position % width;
+        int y = position / width;
+        for (int[] direction : LINE_DIRECTIONS) {
+            int lineLength = 1
+                    + countMarks(bits, x, y, direction[0], direction[1])
+                    + countMarks(bits, x, y, -direction[0], -direction[1]);
+            if (lineLength >= winLength)
+                return true;
+        }
+        return false;
+    }
+
+    private int countMarks(long[] bits, int x, int y, int xStep, int yStep) {
+        int count = 0;
+        x += xStep;
+        y += yStep;
+        while (count < winLength - 1 && x >= 0 && x < width && y >= 0 && y < height) {
+            int position = x + y * width;
+            if ((bits[position >>> 6] & 1L << position) == 0)
+                break;
+            count++;
+            x += xStep;
+            y += yStep;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,42 @@
+package players;
+
+import game.Board;
+import game.Player;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class RandomPlayer implements Player {
+    private final char marker;
+    private final Board board;
+    private final Random random;
+    private final int[] moves;
+
+    public RandomPlayer(char marker, Board board) {
+        this(marker, board, null);
+    }
+
+    public RandomPlayer(char marker, Board board, Random random) {
+        this.marker = marker;
+        this.board = board;
+        this.random = random;
+        this.moves = new int[board.getStatus().length];
+    }
+
+    @Override
+    public char getMarker() {
+        return this.marker;
+    }
+
+    @Override
+    public void makeMove() {
+        int moveCount = board.possibleMoves(moves);
+        if (board.hasEnded() || moveCount == 0)
+            throw new IllegalStateException("Unable to make move: board has already ended.");
+        board.mark(moves[randomOf().nextInt(moveCount)], this.getMarker());
+    }
+
+    private Random randomOf() {
+        return random == null ? ThreadLocalRandom.current() : random;
+    }
+}
@@ -0,0 +1,5 @@
+package players;
+
+public interface SearchListener {
+    void searchCompleted(SearchStatistics statistics);
+}
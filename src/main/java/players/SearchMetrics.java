@@ -0,0 +1,140 @@
+package players;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class SearchMetrics implements SearchListener, SearchMetricsMBean {
+    public static final String DOMAIN = "tictactoe";
+    private static final ConcurrentMap<String, SearchMetrics> REGISTERED = new ConcurrentHashMap<>();
+    private final String playerType;
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder nodes = new LongAdder();
+    private final LongAdder terminalNodes = new LongAdder();
+    private final LongAdder cutoffs = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicInteger maxDepth = new AtomicInteger();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLong lastNanos = new AtomicLong();
+
+    public SearchMetrics(String playerType) {
+        this.playerType = playerType;
+    }
+
+    public static SearchMetrics forPlayerType(String playerType) {
+        return REGISTERED.computeIfAbsent(playerType, SearchMetrics::register);
+    }
+
+    private static SearchMetrics register(String playerType) {
+        SearchMetrics metrics = new SearchMetrics(playerType);
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = objectNameOf(playerType);
+            if (server.isRegistered(name))
+                server.unregisterMBean(name);
+            server.registerMBean(metrics, name);
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to register search metrics for " + playerType + ": " + e.getMessage(), e);
+        }
+        return metrics;
+    }
+
+    public static ObjectName objectNameOf(String playerType) throws JMException {
+        return new ObjectName(DOMAIN + ":type=SearchMetrics,player=" + ObjectName.quote(playerType));
+    }
+
+    @Override
+    public void searchCompleted(SearchStatistics statistics) {
+        moves.increment();
+        nodes.add(statistics.nodes);
+        terminalNodes.add(statistics.terminalNodes);
+        cutoffs.add(statistics.cutoffs);
+        cacheHits.add(statistics.cacheHits);
+        cacheMisses.add(statistics.cacheMisses);
+        totalNanos.add(statistics.elapsedNanos);
+        maxDepth.accumulateAndGet(statistics.maxDepth, Math::max);
+        maxNanos.accumulateAndGet(statistics.elapsedNanos, Math::max);
+        lastNanos.set(statistics.elapsedNanos);
+    }
+
+    @Override
+    public String getPlayerType() {
+        return playerType;
+    }
+
+    @Override
+    public long getMoves() {
+        return moves.sum();
+    }
+
+    @Override
+    public long getNodes() {
+        return nodes.sum();
+    }
+
+    @Override
+    public long getTerminalNodes() {
+        return terminalNodes.sum();
+    }
+
+    @Override
+    public long getCutoffs() {
+        return cutoffs.sum();
+    }
+
+    @Override
+    public int getMaxDepth() {
+        return maxDepth.get();
+    }
+
+    @Override
+    public double getCacheHitRate() {
+        long hits = cacheHits.sum();
+        long lookups = hits + cacheMisses.sum();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public double getAverageNanosPerMove() {
+        long moveCount = moves.sum();
+        return moveCount == 0 ? 0 : (double) totalNanos.sum() / moveCount;
+    }
+
+    @Override
+    public long getMaxNanosPerMove() {
+        return maxNanos.get();
+    }
+
+    @Override
+    public long getLastNanosPerMove() {
+        return lastNanos.get();
+    }
+
+    @Override
+    public double getNodesPerSecond() {
+        long nanos = totalNanos.sum();
+        return nanos == 0 ? 0 : nodes.sum() * 1e9 / nanos;
+    }
+
+    @Override
+    public void reset() {
+        moves.reset();
+        nodes.reset();
+        terminalNodes.reset();
+        cutoffs.reset();
+        cacheHits.reset();
+        cacheMisses.reset();
+        totalNanos.reset();
+        maxDepth.set(0);
+        maxNanos.set(0);
+        lastNanos.set(0);
+    }
+}
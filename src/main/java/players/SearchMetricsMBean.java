@@ -0,0 +1,27 @@
+package players;
+
+public interface SearchMetricsMBean {
+    String getPlayerType();
+
+    long getMoves();
+
+    long getNodes();
+
+    long getTerminalNodes();
+
+    long getCutoffs();
+
+    int getMaxDepth();
+
+    double getCacheHitRate();
+
+    double getAverageNanosPerMove();
+
+    long getMaxNanosPerMove();
+
+    long getLastNanosPerMove();
+
+    double getNodesPerSecond();
+
+    void reset();
+}
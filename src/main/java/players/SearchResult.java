@@ -0,0 +1,11 @@
+package players;
+
+public class SearchResult {
+    public final int move;
+    public final int score;
+
+    public SearchResult(int move, int score) {
+        this.move = move;
+        this.score = score;
+    }
+}
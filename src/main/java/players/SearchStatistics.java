@@ -0,0 +1,38 @@
+package players;
+
+public class SearchStatistics {
+    public final char marker;
+    public final int move;
+    public final long nodes;
+    public final long terminalNodes;
+    public final long cutoffs;
+    public final int maxDepth;
+    public final long cacheHits;
+    public final long cacheMisses;
+    public final long elapsedNanos;
+
+    public SearchStatistics(char marker, int move, long nodes, long terminalNodes, long cutoffs, int maxDepth,
+                            long cacheHits, long cacheMisses, long elapsedNanos) {
+        this.marker = marker;
+        this.move = move;
+        this.nodes = nodes;
+        this.terminalNodes = terminalNodes;
+        this.cutoffs = cutoffs;
+        this.maxDepth = maxDepth;
+        this.cacheHits = cacheHits;
+        this.cacheMisses = cacheMisses;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public double cacheHitRate() {
+        long lookups = cacheHits + cacheMisses;
+        return lookups == 0 ? 0 : (double) cacheHits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return marker + " played " + move + ": nodes=" + nodes + " terminalNodes=" + terminalNodes + " cutoffs=" + cutoffs
+                + " maxDepth=" + maxDepth + " cacheHits=" + cacheHits + " cacheMisses=" + cacheMisses
+                + " elapsedNanos=" + elapsedNanos;
+    }
+}
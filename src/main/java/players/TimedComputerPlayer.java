@@ -0,0 +1,35 @@
+package players;
+
+import game.Board;
+import game.Player;
+
+public class TimedComputerPlayer implements Player {
+    public static final long DEFAULT_BUDGET_MILLIS = 1000;
+    private final char marker;
+    private final Board board;
+    private final IterativeDeepeningSearch search;
+
+    public TimedComputerPlayer(char marker, Board board, char opponentMarker) {
+        this(marker, board, opponentMarker, DEFAULT_BUDGET_MILLIS);
+    }
+
+    public TimedComputerPlayer(char marker, Board board, char opponentMarker, long budgetMillis) {
+        this(marker, board, new IterativeDeepeningSearch(marker, opponentMarker, budgetMillis));
+    }
+
+    TimedComputerPlayer(char marker, Board board, IterativeDeepeningSearch search) {
+        this.marker = marker;
+        this.board = board;
+        this.search = search;
+    }
+
+    @Override
+    public char getMarker() {
+        return this.marker;
+    }
+
+    @Override
+    public void makeMove() {
+        board.mark(search.search(board).move, this.getMarker());
+    }
+}
@@ -0,0 +1,124 @@
+package players;
+
+import java.util.Arrays;
+
+public class TranspositionTable {
+    public static final int DEFAULT_CAPACITY = 1 << 18;
+    public static final long NOT_FOUND = 0;
+    public static final int NO_MOVE = -1;
+    public static final int EXACT = 0;
+    public static final int LOWER_BOUND = 1;
+    public static final int UPPER_BOUND = 2;
+    private static final int DRAFT_SHIFT = 32;
+    private static final int BOUND_SHIFT = 48;
+    private static final int MOVE_SHIFT = 50;
+    private static final long DRAFT_MASK = 0xFFFFL;
+    private static final long BOUND_MASK = 0x3L;
+    private static final long MOVE_MASK = 0xFFFL;
+    private static final long VALID_FLAG = 1L << 62;
+    private final long[] keys;
+    private final long[] entries;
+    private final byte[] generations;
+    private final int indexMask;
+    private byte generation;
+    private long hits;
+    private long misses;
+
+    public TranspositionTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TranspositionTable(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        int slots = Integer.highestOneBit(capacity);
+        if (slots < capacity)
+            slots <<= 1;
+        this.keys = new long[slots];
+        this.entries = new long[slots];
+        this.generations = new byte[slots];
+        this.indexMask = slots - 1;
+    }
+
+    public long probe(long key) {
+        int index = indexOf(key);
+        if (isCurrent(index) && keys[index] == key) {
+            hits++;
+            return entries[index];
+        }
+        misses++;
+        return NOT_FOUND;
+    }
+
+    public void store(long key, int value, int draft, int bound, int bestMove) {
+        int index = indexOf(key);
+        if (!isCurrent(index) || keys[index] == key || draft >= draftOf(entries[index])) {
+            keys[index] = key;
+            entries[index] = pack(value, draft, bound, bestMove);
+            generations[index] = generation;
+        }
+    }
+
+    private boolean isCurrent(int index) {
+        return entries[index] != NOT_FOUND && generations[index] == generation;
+    }
+
+    private int indexOf(long key) {
+        return (int) (key ^ (key >>> 32)) & indexMask;
+    }
+
+    private static long pack(int value, int draft, int bound, int bestMove) {
+        return (value & 0xFFFFFFFFL)
+                | ((draft & DRAFT_MASK) << DRAFT_SHIFT)
+                | ((bound & BOUND_MASK) << BOUND_SHIFT)
+                | (((bestMove + 1) & MOVE_MASK) << MOVE_SHIFT)
+                | VALID_FLAG;
+    }
+
+    public static int valueOf(long entry) {
+        return (int) entry;
+    }
+
+    public static int draftOf(long entry) {
+        return (int) ((entry >>> DRAFT_SHIFT) & DRAFT_MASK);
+    }
+
+    public static int boundOf(long entry) {
+        return (int) ((entry >>> BOUND_SHIFT) & BOUND_MASK);
+    }
+
+    public static int bestMoveOf(long entry) {
+        return (int) ((entry >>> MOVE_SHIFT) & MOVE_MASK) - 1;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(entries, NOT_FOUND);
+        Arrays.fill(generations, (byte) 0);
+        generation = 0;
+        hits = 0;
+        misses = 0;
+    }
+
+    public void newGeneration() {
+        generation++;
+        if (generation == 0) {
+            clear();
+            return;
+        }
+        hits = 0;
+        misses = 0;
+    }
+}
@@ -0,0 +1,83 @@
+package records;
+
+import game.Board;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+public class GameArchive implements Closeable {
+    private static final long MAX_WINDOW_SIZE = 1 << 30;
+    private final Path archivePath;
+    private final GameRecordWriter writer;
+    private final PositionIndex index;
+
+    public GameArchive(Path archivePath, Path indexPath) throws IOException {
+        this.archivePath = archivePath;
+        this.writer = new GameRecordWriter(archivePath);
+        try {
+            this.index = new PositionIndex(indexPath);
+        } catch (IOException | RuntimeException e) {
+            writer.close();
+            throw e;
+        }
+    }
+
+    public GameRecordWriter writer() {
+        return writer;
+    }
+
+    public void append(GameRecord record) throws IOException {
+        writer.write(record);
+    }
+
+    public synchronized long update() throws IOException {
+        writer.flush();
+        long indexed = 0;
+        try (FileChannel channel = FileChannel.open(archivePath, READ)) {
+            long offset = index.indexedBytes();
+            long archiveSize = channel.size();
+            while (offset < archiveSize) {
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+                        Math.min(archiveSize - offset, MAX_WINDOW_SIZE));
+                int recordSize;
+                while ((recordSize = GameRecordCodec.encodedSizeAt(window)) != GameRecordCodec.INCOMPLETE
+                        && recordSize <= window.remaining()) {
+                    GameRecord record = GameRecordCodec.decode(window);
+                    index.add(record, offset + window.position());
+                    indexed++;
+                }
+                if (window.position() == 0)
+                    break;
+                offset += window.position();
+            }
+        }
+        index.force();
+        return indexed;
+    }
+
+    public PositionStats statsOf(char[] cells, int width, int winLength) {
+        return index.statsOf(cells, width, winLength);
+    }
+
+    public PositionStats statsOf(Board board) {
+        return index.statsOf(board.getStatus(), board.size(), board.winLength());
+    }
+
+    public int positionCount() {
+        return index.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writer.close();
+        } finally {
+            index.close();
+        }
+    }
+}
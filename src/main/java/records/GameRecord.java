@@ -0,0 +1,75 @@
+package records;
+
+import java.util.Arrays;
+
+public class GameRecord {
+    public static final char NO_WINNER = 0;
+    public final int width;
+    public final int height;
+    public final int winLength;
+    public final char playerOneMarker;
+    public final char playerTwoMarker;
+    public final char winner;
+    private final int[] moves;
+
+    public GameRecord(int width, int height, int winLength, char playerOneMarker, char playerTwoMarker,
+                      char winner, int[] moves) {
+        if (winner != NO_WINNER && winner != playerOneMarker && winner != playerTwoMarker)
+            throw new IllegalArgumentException("Winner " + winner + " is not one of the players.");
+        this.width = width;
+        this.height = height;
+        this.winLength = winLength;
+        this.playerOneMarker = playerOneMarker;
+        this.playerTwoMarker = playerTwoMarker;
+        this.winner = winner;
+        this.moves = moves.clone();
+    }
+
+    public int moveCount() {
+        return moves.length;
+    }
+
+    public int moveAt(int index) {
+        return moves[index];
+    }
+
+    public int[] moves() {
+        return moves.clone();
+    }
+
+    public char[] finalCells() {
+        char[] cells = new char[width * height];
+        for (int i = 0; i < moves.length; i++)
+            cells[moves[i]] = i % 2 == 0 ? playerOneMarker : playerTwoMarker;
+        return cells;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof GameRecord))
+            return false;
+        GameRecord other = (GameRecord) o;
+        return width == other.width && height == other.height && winLength == other.winLength
+                && playerOneMarker == other.playerOneMarker && playerTwoMarker == other.playerTwoMarker
+                && winner == other.winner && Arrays.equals(moves, other.moves);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = width;
+        result = 31 * result + height;
+        result = 31 * result + winLength;
+        result = 31 * result + playerOneMarker;
+        result = 31 * result + playerTwoMarker;
+        result = 31 * result + winner;
+        return 31 * result + Arrays.hashCode(moves);
+    }
+
+    @Override
+    public String toString() {
+        return width + "x" + height + "x" + winLength + " " + playerOneMarker + "/" + playerTwoMarker
+                + " winner=" + (winner == NO_WINNER ? "none" : String.valueOf(winner)) + " moves=" + Arrays.toString(moves);
+    }
+}
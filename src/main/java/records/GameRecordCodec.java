@@ -0,0 +1,169 @@
+package records;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+public final class GameRecordCodec {
+    public static final int MAGIC = 0x54545452;
+    public static final byte VERSION = 1;
+    public static final int FILE_HEADER_SIZE = Integer.BYTES + 1;
+    public static final int INCOMPLETE = -1;
+    private static final int FIXED_HEADER_SIZE = 6;
+    private static final int MAX_VARINT_SIZE = 5;
+    private static final int MAX_DIMENSION = 0xFF;
+    private static final int MAX_MARKER = 0x7F;
+    private static final byte DRAW = 0;
+    private static final byte PLAYER_ONE_WON = 1;
+    private static final byte PLAYER_TWO_WON = 2;
+
+    private GameRecordCodec() {
+    }
+
+    public static void writeFileHeader(ByteBuffer buffer) {
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+    }
+
+    public static void readFileHeader(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < FILE_HEADER_SIZE || buffer.getInt() != MAGIC)
+            throw new IOException("Not a game record file.");
+        byte version = buffer.get();
+        if (version != VERSION)
+            throw new IOException("Unsupported game record version: " + version);
+    }
+
+    public static int bitsPerMove(int cellCount) {
+        return Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(cellCount - 1));
+    }
+
+    public static int encodedSize(GameRecord record) {
+        return FIXED_HEADER_SIZE + varIntSize(record.moveCount())
+                + packedSize(record.moveCount(), bitsPerMove(record.width * record.height));
+    }
+
+    private static int packedSize(int moveCount, int bitsPerMove) {
+        return (int) (((long) moveCount * bitsPerMove + Byte.SIZE - 1) / Byte.SIZE);
+    }
+
+    private static int varIntSize(int value) {
+        int size = 1;
+        while ((value >>>= 7) != 0)
+            size++;
+        return size;
+    }
+
+    public static void encode(GameRecord record, ByteBuffer buffer) {
+        validate(record);
+        buffer.put((byte) record.width);
+        buffer.put((byte) record.height);
+        buffer.put((byte) record.winLength);
+        buffer.put((byte) record.playerOneMarker);
+        buffer.put((byte) record.playerTwoMarker);
+        buffer.put(outcomeOf(record));
+        putVarInt(buffer, record.moveCount());
+        packMoves(record, buffer);
+    }
+
+    private static void validate(GameRecord record) {
+        if (record.width > MAX_DIMENSION || record.height > MAX_DIMENSION || record.winLength > MAX_DIMENSION)
+            throw new IllegalArgumentException("Board too large to record: " + record.width + "x" + record.height);
+        if (record.playerOneMarker > MAX_MARKER || record.playerTwoMarker > MAX_MARKER)
+            throw new IllegalArgumentException("Markers must be ASCII: " + record.playerOneMarker + ", " + record.playerTwoMarker);
+    }
+
+    private static byte outcomeOf(GameRecord record) {
+        if (record.winner == GameRecord.NO_WINNER)
+            return DRAW;
+        return record.winner == record.playerOneMarker ? PLAYER_ONE_WON : PLAYER_TWO_WON;
+    }
+
+    private static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static void packMoves(GameRecord record, ByteBuffer buffer) {
+        int bitsPerMove = bitsPerMove(record.width * record.height);
+        long pending = 0;
+        int pendingBits = 0;
+        for (int i = 0; i < record.moveCount(); i++) {
+            pending |= (long) record.moveAt(i) << pendingBits;
+            pendingBits += bitsPerMove;
+            while (pendingBits >= Byte.SIZE) {
+                buffer.put((byte) pending);
+                pending >>>= Byte.SIZE;
+                pendingBits -= Byte.SIZE;
+            }
+        }
+        if (pendingBits > 0)
+            buffer.put((byte) pending);
+    }
+
+    public static int encodedSizeAt(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < FIXED_HEADER_SIZE + 1)
+            return INCOMPLETE;
+        int cellCount = (buffer.get(start) & 0xFF) * (buffer.get(start + 1) & 0xFF);
+        int moveCount = 0;
+        for (int i = 0; i < MAX_VARINT_SIZE; i++) {
+            if (start + FIXED_HEADER_SIZE + i >= buffer.limit())
+                return INCOMPLETE;
+            byte next = buffer.get(start + FIXED_HEADER_SIZE + i);
+            moveCount |= (next & 0x7F) << (7 * i);
+            if ((next & 0x80) == 0)
+                return FIXED_HEADER_SIZE + i + 1 + packedSize(moveCount, bitsPerMove(cellCount));
+        }
+        throw new IllegalStateException("Corrupt game record: move count is too long.");
+    }
+
+    public static GameRecord decode(ByteBuffer buffer) {
+        int width = buffer.get() & 0xFF;
+        int height = buffer.get() & 0xFF;
+        int winLength = buffer.get() & 0xFF;
+        char playerOneMarker = (char) buffer.get();
+        char playerTwoMarker = (char) buffer.get();
+        byte outcome = buffer.get();
+        int[] moves = new int[getVarInt(buffer)];
+        unpackMoves(buffer, moves, bitsPerMove(width * height));
+        return new GameRecord(width, height, winLength, playerOneMarker, playerTwoMarker,
+                winnerOf(outcome, playerOneMarker, playerTwoMarker), moves);
+    }
+
+    private static int getVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte next = buffer.get();
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0)
+                return value;
+        }
+    }
+
+    private static void unpackMoves(ByteBuffer buffer, int[] moves, int bitsPerMove) {
+        long mask = (1L << bitsPerMove) - 1;
+        long pending = 0;
+        int pendingBits = 0;
+        for (int i = 0; i < moves.length; i++) {
+            while (pendingBits < bitsPerMove) {
+                pending |= (long) (buffer.get() & 0xFF) << pendingBits;
+                pendingBits += Byte.SIZE;
+            }
+            moves[i] = (int) (pending & mask);
+            pending >>>= bitsPerMove;
+            pendingBits -= bitsPerMove;
+        }
+    }
+
+    private static char winnerOf(byte outcome, char playerOneMarker, char playerTwoMarker) {
+        if (outcome == PLAYER_ONE_WON)
+            return playerOneMarker;
+        else if (outcome == PLAYER_TWO_WON)
+            return playerTwoMarker;
+        else if (outcome == DRAW)
+            return GameRecord.NO_WINNER;
+        throw new IllegalStateException("Corrupt game record: unknown outcome " + outcome);
+    }
+}
@@ -0,0 +1,101 @@
+package records;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+public class GameRecordReader implements Iterator<GameRecord>, Closeable {
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private final FileChannel channel;
+    private ByteBuffer buffer;
+    private boolean endOfFile;
+
+    public GameRecordReader(Path path) throws IOException {
+        this(path, DEFAULT_BUFFER_SIZE);
+    }
+
+    public GameRecordReader(Path path, int bufferSize) throws IOException {
+        if (bufferSize < GameRecordCodec.FILE_HEADER_SIZE)
+            throw new IllegalArgumentException("Buffer size too small: " + bufferSize);
+        this.channel = FileChannel.open(path, READ);
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.buffer.flip();
+        try {
+            fill(GameRecordCodec.FILE_HEADER_SIZE);
+            GameRecordCodec.readFileHeader(buffer);
+        } catch (IOException e) {
+            channel.close();
+            throw new IOException("Unable to read " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            fill(1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.hasRemaining();
+    }
+
+    @Override
+    public GameRecord next() {
+        if (!hasNext())
+            throw new NoSuchElementException("No more game records.");
+        try {
+            return GameRecordCodec.decode(bufferHoldingNextRecord());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ByteBuffer bufferHoldingNextRecord() throws IOException {
+        int size;
+        while ((size = GameRecordCodec.encodedSizeAt(buffer)) == GameRecordCodec.INCOMPLETE)
+            fillMore();
+        if (size > buffer.capacity())
+            grow(size);
+        fill(size);
+        if (buffer.remaining() < size)
+            throw new IOException("Truncated game record: expected " + size + " bytes but was " + buffer.remaining());
+        return buffer;
+    }
+
+    private void fillMore() throws IOException {
+        int before = buffer.remaining();
+        fill(before + 1);
+        if (buffer.remaining() == before)
+            throw new IOException("Truncated game record header.");
+    }
+
+    private void grow(int size) {
+        ByteBuffer grown = ByteBuffer.allocateDirect(size);
+        grown.put(buffer);
+        grown.flip();
+        buffer = grown;
+    }
+
+    private void fill(int required) throws IOException {
+        if (buffer.remaining() >= required || endOfFile)
+            return;
+        buffer.compact();
+        while (buffer.position() < required && !endOfFile) {
+            if (channel.read(buffer) < 0)
+                endOfFile = true;
+        }
+        buffer.flip();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,82 @@
+package records;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public class GameRecordWriter implements Flushable, Closeable {
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private final FileChannel channel;
+    private ByteBuffer buffer;
+    private long recordsWritten;
+
+    public GameRecordWriter(Path path) throws IOException {
+        this(path, DEFAULT_BUFFER_SIZE);
+    }
+
+    public GameRecordWriter(Path path, int bufferSize) throws IOException {
+        if (bufferSize < GameRecordCodec.FILE_HEADER_SIZE)
+            throw new IllegalArgumentException("Buffer size too small: " + bufferSize);
+        validateExistingHeader(path);
+        this.channel = FileChannel.open(path, CREATE, WRITE, APPEND);
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        if (channel.size() == 0)
+            GameRecordCodec.writeFileHeader(buffer);
+    }
+
+    private static void validateExistingHeader(Path path) throws IOException {
+        if (!Files.exists(path) || Files.size(path) == 0)
+            return;
+        try (FileChannel existing = FileChannel.open(path, READ)) {
+            ByteBuffer header = ByteBuffer.allocate(GameRecordCodec.FILE_HEADER_SIZE);
+            while (header.hasRemaining() && existing.read(header) >= 0) {
+            }
+            header.flip();
+            GameRecordCodec.readFileHeader(header);
+        } catch (IOException e) {
+            throw new IOException("Unable to append to " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    public synchronized void write(GameRecord record) throws IOException {
+        int size = GameRecordCodec.encodedSize(record);
+        if (size > buffer.remaining())
+            flush();
+        if (size > buffer.capacity())
+            buffer = ByteBuffer.allocateDirect(size);
+        GameRecordCodec.encode(record, buffer);
+        recordsWritten++;
+    }
+
+    public synchronized long recordsWritten() {
+        return recordsWritten;
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!channel.isOpen())
+            return;
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package records;
+
+import game.Board;
+import game.GameListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+public class GameRecorder implements GameListener {
+    private final GameRecordWriter writer;
+    private final char playerOneMarker;
+    private final char playerTwoMarker;
+    private int[] moves = new int[16];
+    private int moveCount;
+
+    public GameRecorder(GameRecordWriter writer, char playerOneMarker, char playerTwoMarker) {
+        this.writer = writer;
+        this.playerOneMarker = playerOneMarker;
+        this.playerTwoMarker = playerTwoMarker;
+    }
+
+    @Override
+    public void moveMade(int position, char marker) {
+        if (moveCount == moves.length)
+            moves = Arrays.copyOf(moves, moves.length * 2);
+        moves[moveCount++] = position;
+    }
+
+    @Override
+    public void gameEnded(Board board) {
+        int cellCount = board.getStatus().length;
+        GameRecord record = new GameRecord(board.size(), cellCount / board.size(), board.winLength(),
+                playerOneMarker, playerTwoMarker, board.hasWinner() ? board.getWinner() : GameRecord.NO_WINNER,
+                Arrays.copyOf(moves, moveCount));
+        moveCount = 0;
+        try {
+            writer.write(record);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
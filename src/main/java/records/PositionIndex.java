@@ -0,0 +1,240 @@
+package records;
+
+import boards.BoardSymmetry;
+import boards.SymmetricHash;
+import boards.Zobrist;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public class PositionIndex implements Closeable {
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+    private static final int MAGIC = 0x54545449;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int SIZE_OFFSET = 12;
+    private static final int INDEXED_BYTES_OFFSET = 16;
+    private static final int PLAYER_ONE_MARKER_OFFSET = 24;
+    private static final int PLAYER_TWO_MARKER_OFFSET = 26;
+    private static final int SLOT_SIZE = 32;
+    private static final int KEY_OFFSET = 0;
+    private static final int PLAYER_ONE_WINS_OFFSET = 8;
+    private static final int PLAYER_TWO_WINS_OFFSET = 16;
+    private static final int DRAWS_OFFSET = 24;
+    private static final int MAX_LOAD_PERCENT = 60;
+    private static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / SLOT_SIZE;
+    private final Path path;
+    private final FileChannel channel;
+    private final Map<Integer, BoardSymmetry> symmetries = new HashMap<>();
+    private MappedByteBuffer mapped;
+    private int capacity;
+    private int size;
+
+    public PositionIndex(Path path) throws IOException {
+        this(path, DEFAULT_CAPACITY);
+    }
+
+    public PositionIndex(Path path, int initialCapacity) throws IOException {
+        if (initialCapacity <= 0 || Integer.bitCount(initialCapacity) != 1 || initialCapacity > MAX_CAPACITY)
+            throw new IllegalArgumentException("Capacity must be a power of two: " + initialCapacity);
+        this.path = path;
+        this.channel = FileChannel.open(path, CREATE, READ, WRITE);
+        try {
+            if (channel.size() == 0)
+                initialize(initialCapacity);
+            else
+                load();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void initialize(int initialCapacity) throws IOException {
+        capacity = initialCapacity;
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSizeFor(capacity));
+        mapped.putInt(0, MAGIC);
+        mapped.putInt(4, VERSION);
+        mapped.putInt(CAPACITY_OFFSET, capacity);
+        mapped.putInt(SIZE_OFFSET, 0);
+        mapped.putLong(INDEXED_BYTES_OFFSET, GameRecordCodec.FILE_HEADER_SIZE);
+    }
+
+    private void load() throws IOException {
+        if (channel.size() < HEADER_SIZE)
+            throw new IOException("Not a position index: " + path);
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        if (mapped.getInt(0) != MAGIC)
+            throw new IOException("Not a position index: " + path);
+        if (mapped.getInt(4) != VERSION)
+            throw new IOException("Unsupported position index version: " + mapped.getInt(4));
+        capacity = mapped.getInt(CAPACITY_OFFSET);
+        size = mapped.getInt(SIZE_OFFSET);
+        if (channel.size() < fileSizeFor(capacity))
+            throw new IOException("Truncated position index: " + path);
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSizeFor(capacity));
+    }
+
+    private static long fileSizeFor(int capacity) {
+        return HEADER_SIZE + (long) capacity * SLOT_SIZE;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long indexedBytes() {
+        return mapped.getLong(INDEXED_BYTES_OFFSET);
+    }
+
+    synchronized void setIndexedBytes(long indexedBytes) {
+        mapped.putLong(INDEXED_BYTES_OFFSET, indexedBytes);
+    }
+
+    synchronized void add(GameRecord record, long indexedBytesAfter) {
+        add(record);
+        setIndexedBytes(indexedBytesAfter);
+    }
+
+    public synchronized void add(GameRecord record) {
+        validateMarkers(record);
+        BoardSymmetry symmetry = symmetryOf(record.width, record.height);
+        long dimensionKey = Zobrist.dimensionKeyOf(record.width, record.height, record.winLength);
+        SymmetricHash positionHash = new SymmetricHash(symmetry, new char[record.width * record.height]);
+        int outcomeOffset = outcomeOffsetOf(record);
+        increment(positionHash.canonicalHash() ^ dimensionKey, outcomeOffset);
+        for (int i = 0; i < record.moveCount(); i++) {
+            positionHash.toggle(record.moveAt(i), i % 2 == 0 ? record.playerOneMarker : record.playerTwoMarker);
+            increment(positionHash.canonicalHash() ^ dimensionKey, outcomeOffset);
+        }
+    }
+
+    private void validateMarkers(GameRecord record) {
+        char playerOneMarker = mapped.getChar(PLAYER_ONE_MARKER_OFFSET);
+        char playerTwoMarker = mapped.getChar(PLAYER_TWO_MARKER_OFFSET);
+        if (playerOneMarker == 0) {
+            mapped.putChar(PLAYER_ONE_MARKER_OFFSET, record.playerOneMarker);
+            mapped.putChar(PLAYER_TWO_MARKER_OFFSET, record.playerTwoMarker);
+        } else if (playerOneMarker != record.playerOneMarker || playerTwoMarker != record.playerTwoMarker) {
+            throw new IllegalArgumentException("Index holds games between " + playerOneMarker + " and "
+                    + playerTwoMarker + " but record is between " + record.playerOneMarker + " and " + record.playerTwoMarker);
+        }
+    }
+
+    private int outcomeOffsetOf(GameRecord record) {
+        if (record.winner == GameRecord.NO_WINNER)
+            return DRAWS_OFFSET;
+        return record.winner == record.playerOneMarker ? PLAYER_ONE_WINS_OFFSET : PLAYER_TWO_WINS_OFFSET;
+    }
+
+    private void increment(long key, int outcomeOffset) {
+        int slot = find(key);
+        int offset = offsetOf(slot);
+        if (isEmpty(offset)) {
+            if ((size + 1) * 100L > (long) capacity * MAX_LOAD_PERCENT) {
+                grow();
+                increment(key, outcomeOffset);
+                return;
+            }
+            mapped.putLong(offset + KEY_OFFSET, key);
+            mapped.putInt(SIZE_OFFSET, ++size);
+        }
+        mapped.putLong(offset + outcomeOffset, mapped.getLong(offset + outcomeOffset) + 1);
+    }
+
+    private int find(long key) {
+        int mask = capacity - 1;
+        int slot = spread(key) & mask;
+        while (true) {
+            int offset = offsetOf(slot);
+            if (isEmpty(offset) || mapped.getLong(offset + KEY_OFFSET) == key)
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static int spread(long key) {
+        return (int) (key ^ (key >>> 32));
+    }
+
+    private static int offsetOf(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    private boolean isEmpty(int offset) {
+        return mapped.getLong(offset + PLAYER_ONE_WINS_OFFSET) == 0
+                && mapped.getLong(offset + PLAYER_TWO_WINS_OFFSET) == 0
+                && mapped.getLong(offset + DRAWS_OFFSET) == 0;
+    }
+
+    private void grow() {
+        if (capacity * 2 > MAX_CAPACITY)
+            throw new IllegalStateException("Position index is full: " + size + " positions");
+        long[][] entries = new long[size][];
+        int count = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            int offset = offsetOf(slot);
+            if (!isEmpty(offset)) {
+                entries[count++] = new long[]{mapped.getLong(offset + KEY_OFFSET), mapped.getLong(offset + PLAYER_ONE_WINS_OFFSET),
+                        mapped.getLong(offset + PLAYER_TWO_WINS_OFFSET), mapped.getLong(offset + DRAWS_OFFSET)};
+                for (int field = 0; field < SLOT_SIZE; field += Long.BYTES)
+                    mapped.putLong(offset + field, 0);
+            }
+        }
+        try {
+            capacity *= 2;
+            mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSizeFor(capacity));
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to grow position index: " + e.getMessage(), e);
+        }
+        mapped.putInt(CAPACITY_OFFSET, capacity);
+        for (long[] entry : entries) {
+            int offset = offsetOf(find(entry[0]));
+            mapped.putLong(offset + KEY_OFFSET, entry[0]);
+            mapped.putLong(offset + PLAYER_ONE_WINS_OFFSET, entry[1]);
+            mapped.putLong(offset + PLAYER_TWO_WINS_OFFSET, entry[2]);
+            mapped.putLong(offset + DRAWS_OFFSET, entry[3]);
+        }
+    }
+
+    public synchronized PositionStats statsOf(char[] cells, int width, int winLength) {
+        if (width <= 0 || cells.length % width != 0)
+            throw new IllegalArgumentException("Invalid board width " + width + " for " + cells.length + " cells");
+        int height = cells.length / width;
+        long key = symmetryOf(width, height).canonicalHash(cells) ^ Zobrist.dimensionKeyOf(width, height, winLength);
+        int offset = offsetOf(find(key));
+        if (isEmpty(offset))
+            return PositionStats.NONE;
+        return new PositionStats(mapped.getLong(offset + PLAYER_ONE_WINS_OFFSET),
+                mapped.getLong(offset + PLAYER_TWO_WINS_OFFSET), mapped.getLong(offset + DRAWS_OFFSET));
+    }
+
+    private BoardSymmetry symmetryOf(int width, int height) {
+        return symmetries.computeIfAbsent(width << 16 | height, dimensions -> new BoardSymmetry(width, height));
+    }
+
+    public synchronized void force() {
+        mapped.force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!channel.isOpen())
+            return;
+        try {
+            mapped.force();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package records;
+
+public class PositionStats {
+    public static final PositionStats NONE = new PositionStats(0, 0, 0);
+    public final long playerOneWins;
+    public final long playerTwoWins;
+    public final long draws;
+
+    public PositionStats(long playerOneWins, long playerTwoWins, long draws) {
+        this.playerOneWins = playerOneWins;
+        this.playerTwoWins = playerTwoWins;
+        this.draws = draws;
+    }
+
+    public long games() {
+        return playerOneWins + playerTwoWins + draws;
+    }
+
+    @Override
+    public String toString() {
+        return "games=" + games() + " playerOneWins=" + playerOneWins + " playerTwoWins=" + playerTwoWins
+                + " draws=" + draws;
+    }
+}
@@ -0,0 +1,149 @@
+package server;
+
+import application.BoardFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GameServer implements Closeable {
+    private static final long MIN_ACCEPT_RETRY_DELAY_MILLIS = 10;
+    private static final long MAX_ACCEPT_RETRY_DELAY_MILLIS = 1000;
+    private final ServerSocket serverSocket;
+    private final BoardFactory boardFactory;
+    private final ExecutorService sessionExecutor;
+    private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final Thread acceptor;
+    private final Object lifecycleLock = new Object();
+    private boolean closed;
+
+    public GameServer(int port, BoardFactory boardFactory) throws IOException {
+        this(port, boardFactory, newSessionExecutor());
+    }
+
+    public GameServer(int port, BoardFactory boardFactory, ExecutorService sessionExecutor) throws IOException {
+        this.serverSocket = new ServerSocket(port);
+        this.boardFactory = boardFactory;
+        this.sessionExecutor = sessionExecutor;
+        this.acceptor = new Thread(this::acceptSessions, "game-server-acceptor");
+    }
+
+    public static ExecutorService newSessionExecutor() {
+        try {
+            Method newVirtualThreadPerTaskExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) newVirtualThreadPerTaskExecutor.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    public void start() {
+        acceptor.start();
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int activeSessions() {
+        return activeSessions.get();
+    }
+
+    private void acceptSessions() {
+        long retryDelayMillis = MIN_ACCEPT_RETRY_DELAY_MILLIS;
+        while (!serverSocket.isClosed()) {
+            try {
+                startSession(serverSocket.accept());
+                retryDelayMillis = MIN_ACCEPT_RETRY_DELAY_MILLIS;
+            } catch (SocketException e) {
+                return;
+            } catch (IOException e) {
+                if (!backOff(retryDelayMillis))
+                    return;
+                retryDelayMillis = Math.min(retryDelayMillis * 2, MAX_ACCEPT_RETRY_DELAY_MILLIS);
+            }
+        }
+    }
+
+    private void startSession(Socket socket) {
+        synchronized (lifecycleLock) {
+            if (closed) {
+                closeQuietly(socket, null);
+                return;
+            }
+            openSockets.add(socket);
+            activeSessions.incrementAndGet();
+            try {
+                sessionExecutor.execute(() -> runSession(socket));
+            } catch (RejectedExecutionException e) {
+                openSockets.remove(socket);
+                activeSessions.decrementAndGet();
+                closeQuietly(socket, null);
+            }
+        }
+    }
+
+    private boolean backOff(long delayMillis) {
+        try {
+            Thread.sleep(delayMillis);
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    private void runSession(Socket socket) {
+        try {
+            new GameSession(socket, boardFactory).run();
+        } finally {
+            openSockets.remove(socket);
+            activeSessions.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (lifecycleLock) {
+            closed = true;
+        }
+        IOException failure = closeQuietly(serverSocket, null);
+        for (Socket socket : openSockets)
+            failure = closeQuietly(socket, failure);
+        sessionExecutor.shutdownNow();
+        awaitAcceptor();
+        if (failure != null)
+            throw failure;
+    }
+
+    private void awaitAcceptor() {
+        if (Thread.currentThread() == acceptor)
+            return;
+        acceptor.interrupt();
+        try {
+            acceptor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private IOException closeQuietly(Closeable closeable, IOException failure) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            if (failure == null)
+                return e;
+            failure.addSuppressed(e);
+        }
+        return failure;
+    }
+}
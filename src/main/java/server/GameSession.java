@@ -0,0 +1,37 @@
+package server;
+
+import application.BoardFactory;
+import console.ConsoleTicTacToeApplication;
+import players.DefaultPlayerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+public class GameSession implements Runnable {
+    private final Socket socket;
+    private final BoardFactory boardFactory;
+
+    public GameSession(Socket socket, BoardFactory boardFactory) {
+        this.socket = socket;
+        this.boardFactory = boardFactory;
+    }
+
+    @Override
+    public void run() {
+        try (Socket client = socket) {
+            InputStream inputStream = new LineAtATimeInputStream(client.getInputStream());
+            PrintStream printStream = new PrintStream(client.getOutputStream(), true, StandardCharsets.UTF_8.name());
+            DefaultPlayerFactory playerFactory = new DefaultPlayerFactory(inputStream, printStream);
+            new ConsoleTicTacToeApplication(inputStream, printStream, playerFactory, boardFactory).run();
+        } catch (NoSuchElementException e) {
+            // client disconnected before the session ended
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
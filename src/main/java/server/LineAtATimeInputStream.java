@@ -0,0 +1,35 @@
+package server;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+class LineAtATimeInputStream extends FilterInputStream {
+    private static final int END_OF_STREAM = -1;
+
+    LineAtATimeInputStream(InputStream inputStream) {
+        super(new BufferedInputStream(inputStream));
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0)
+            return 0;
+        int count = 0;
+        while (count < length) {
+            int next = in.read();
+            if (next == END_OF_STREAM)
+                break;
+            buffer[offset + count++] = (byte) next;
+            if (next == '\n')
+                break;
+        }
+        return count == 0 ? END_OF_STREAM : count;
+    }
+
+    @Override
+    public int available() {
+        return 0;
+    }
+}
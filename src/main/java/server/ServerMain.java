@@ -0,0 +1,19 @@
+package server;
+
+import application.BoardFactory;
+import boards.DefaultBoardFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+public class ServerMain {
+    private static final int DEFAULT_PORT = 4000;
+
+    public static void main(String[] args) throws IOException {
+        int port = Integer.getInteger("port", DEFAULT_PORT);
+        BoardFactory boardFactory = DefaultBoardFactory.fromArguments(Arrays.asList(args));
+        GameServer server = new GameServer(port, boardFactory);
+        server.start();
+        System.out.println("Tic-Tac-Toe server listening on port " + server.port());
+    }
+}
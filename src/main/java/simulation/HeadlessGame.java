@@ -0,0 +1,11 @@
+package simulation;
+
+import game.Board;
+import game.Game;
+import game.Player;
+
+public class HeadlessGame extends Game {
+	public HeadlessGame(Board board, Player playerOne, Player playerTwo) {
+		super(board, playerOne, playerTwo);
+	}
+}
@@ -0,0 +1,103 @@
+package simulation;
+
+import application.BoardFactory;
+import application.PlayerFactory;
+import game.Board;
+import game.Player;
+import records.GameRecordWriter;
+import records.GameRecorder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class Simulation {
+    public static final char PLAYER_ONE_MARKER = 'X';
+    public static final char PLAYER_TWO_MARKER = 'O';
+    private static final int PLAYER_ONE_WIN = 0;
+    private static final int PLAYER_TWO_WIN = 1;
+    private static final int DRAW = 2;
+    private final PlayerFactory playerFactory;
+    private final BoardFactory boardFactory;
+    private final String playerOneType;
+    private final String playerTwoType;
+    private GameRecordWriter recordWriter;
+
+    public Simulation(PlayerFactory playerFactory, BoardFactory boardFactory, String playerOneType, String playerTwoType) {
+        this.playerFactory = playerFactory;
+        this.boardFactory = boardFactory;
+        this.playerOneType = playerOneType;
+        this.playerTwoType = playerTwoType;
+    }
+
+    public void recordGamesTo(GameRecordWriter recordWriter) {
+        this.recordWriter = recordWriter;
+    }
+
+    public SimulationResult run(long games, int threads) {
+        if (games < 0)
+            throw new IllegalArgumentException("Invalid number of games: " + games);
+        if (threads <= 0)
+            throw new IllegalArgumentException("Invalid number of threads: " + threads);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<long[]>> workerCounts = new ArrayList<>();
+            for (int worker = 0; worker < threads; worker++) {
+                long workerGames = games / threads + (worker < games % threads ? 1 : 0);
+                workerCounts.add(executor.submit(() -> play(workerGames)));
+            }
+            long[] counts = new long[DRAW + 1];
+            for (Future<long[]> workerCount : workerCounts) {
+                long[] worker = workerCount.get();
+                for (int i = 0; i < counts.length; i++)
+                    counts[i] += worker[i];
+            }
+            return new SimulationResult(counts[PLAYER_ONE_WIN], counts[PLAYER_TWO_WIN], counts[DRAW], System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation was interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new IllegalStateException("Simulation failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long[] play(long games) {
+        long[] counts = new long[DRAW + 1];
+        Board board = boardFactory.createBoard();
+        Player playerOne = playerFactory.createPlayer(playerOneType, PLAYER_ONE_MARKER, board, PLAYER_TWO_MARKER);
+        Player playerTwo = playerFactory.createPlayer(playerTwoType, PLAYER_TWO_MARKER, board, PLAYER_ONE_MARKER);
+        GameRecorder recorder = recordWriter == null ? null : new GameRecorder(recordWriter, PLAYER_ONE_MARKER, PLAYER_TWO_MARKER);
+        for (long game = 0; game < games; game++) {
+            HeadlessGame headlessGame = new HeadlessGame(board, playerOne, playerTwo);
+            if (recorder != null)
+                headlessGame.addGameListener(recorder);
+            headlessGame.start();
+            counts[outcomeOf(board)]++;
+            clear(board);
+        }
+        return counts;
+    }
+
+    private int outcomeOf(Board board) {
+        if (!board.hasWinner())
+            return DRAW;
+        return board.getWinner() == PLAYER_ONE_MARKER ? PLAYER_ONE_WIN : PLAYER_TWO_WIN;
+    }
+
+    private void clear(Board board) {
+        char[] cells = board.getStatus();
+        for (int position = 0; position < cells.length; position++) {
+            if (cells[position] != 0)
+                board.unmark(position);
+        }
+    }
+}
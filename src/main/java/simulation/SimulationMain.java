@@ -0,0 +1,47 @@
+package simulation;
+
+import application.BoardFactory;
+import boards.DefaultBoardFactory;
+import players.DefaultPlayerFactory;
+import players.OpeningBook;
+import records.GameRecordWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+public class SimulationMain {
+    private static final String USAGE =
+            "Usage: SimulationMain <playerOneType> <playerTwoType> <games> [threads] [width height winLength]";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3 && args.length != 4 && args.length != 7)
+            throw new IllegalArgumentException(USAGE);
+        long games = Long.parseLong(args[2]);
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        BoardFactory boardFactory = DefaultBoardFactory.fromArguments(Arrays.asList(args).subList(Math.min(4, args.length), args.length));
+        String openingBookPath = System.getProperty("openingBook");
+        OpeningBook openingBook = openingBookPath == null ? null : OpeningBook.open(Paths.get(openingBookPath));
+        Simulation simulation = new Simulation(new DefaultPlayerFactory(System.in, System.out, null, openingBook),
+                boardFactory, args[0], args[1]);
+        String recordsPath = System.getProperty("records");
+        if (recordsPath == null) {
+            print(System.out, args[0], args[1], threads, simulation.run(games, threads));
+            return;
+        }
+        try (GameRecordWriter recordWriter = new GameRecordWriter(Paths.get(recordsPath))) {
+            simulation.recordGamesTo(recordWriter);
+            print(System.out, args[0], args[1], threads, simulation.run(games, threads));
+        }
+    }
+
+    private static void print(PrintStream out, String playerOneType, String playerTwoType, int threads,
+                              SimulationResult result) {
+        out.println("Games: " + result.games() + " (" + threads + " threads)");
+        out.println(Simulation.PLAYER_ONE_MARKER + " (" + playerOneType + ") wins: " + result.playerOneWins);
+        out.println(Simulation.PLAYER_TWO_MARKER + " (" + playerTwoType + ") wins: " + result.playerTwoWins);
+        out.println("Draws: " + result.draws);
+        out.println(String.format("Games per second: %.1f", result.gamesPerSecond()));
+    }
+}
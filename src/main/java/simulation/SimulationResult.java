@@ -0,0 +1,27 @@
+package simulation;
+
+import java.util.concurrent.TimeUnit;
+
+public class SimulationResult {
+    public final long playerOneWins;
+    public final long playerTwoWins;
+    public final long draws;
+    public final long elapsedNanos;
+
+    public SimulationResult(long playerOneWins, long playerTwoWins, long draws, long elapsedNanos) {
+        this.playerOneWins = playerOneWins;
+        this.playerTwoWins = playerTwoWins;
+        this.draws = draws;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long games() {
+        return playerOneWins + playerTwoWins + draws;
+    }
+
+    public double gamesPerSecond() {
+        if (elapsedNanos <= 0)
+            return 0;
+        return games() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+}
@@ -0,0 +1,58 @@
+package analysis;
+
+import org.junit.Test;
+import players.SearchResult;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class AnalysisCacheTest {
+    @Test
+    public void get_shouldReturnStoredResult() {
+        AnalysisCache cache = new AnalysisCache(2);
+        cache.put("a", new SearchResult(4, 0));
+
+        assertEquals(4, cache.get("a").move);
+        assertEquals(1, cache.hits());
+        assertEquals(0, cache.misses());
+    }
+
+    @Test
+    public void get_missingKey_shouldCountMiss() {
+        AnalysisCache cache = new AnalysisCache(2);
+
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    public void peek_shouldNotCountHitOrMiss() {
+        AnalysisCache cache = new AnalysisCache(2);
+        cache.put("a", new SearchResult(4, 0));
+
+        assertEquals(4, cache.peek("a").move);
+        assertNull(cache.peek("b"));
+        assertEquals(0, cache.hits());
+        assertEquals(0, cache.misses());
+    }
+
+    @Test
+    public void put_overCapacity_shouldEvictLeastRecentlyUsed() {
+        AnalysisCache cache = new AnalysisCache(2);
+        cache.put("a", new SearchResult(0, 0));
+        cache.put("b", new SearchResult(1, 0));
+        cache.get("a");
+
+        cache.put("c", new SearchResult(2, 0));
+
+        assertEquals(2, cache.size());
+        assertEquals(0, cache.get("a").move);
+        assertNull(cache.get("b"));
+        assertEquals(2, cache.get("c").move);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidCapacity_shouldThrowException() {
+        new AnalysisCache(0);
+    }
+}
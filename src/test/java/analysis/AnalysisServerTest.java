@@ -0,0 +1,155 @@
+package analysis;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+
+public class AnalysisServerTest {
+    private AnalysisCache cache;
+    private AnalysisServer server;
+    private int lastStatus;
+
+    @Before
+    public void setUp() throws Exception {
+        cache = new AnalysisCache();
+        server = new AnalysisServer(0, new PositionAnalyzer(cache));
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+    }
+
+    @Test
+    public void post_shouldReturnBestMoveAndScore() throws Exception {
+        String response = post("board=XX..O.O..&player=X");
+
+        assertEquals(200, lastStatus);
+        assertEquals("{\"move\":2,\"score\":1000}", response);
+    }
+
+    @Test
+    public void repeatedPost_shouldHitCache() throws Exception {
+        post("board=X........&player=O");
+        post("board=..X......&player=O");
+
+        assertEquals(1, cache.hits());
+    }
+
+    @Test
+    public void rectangularBoard_shouldUseWidthAndWinLength() throws Exception {
+        String response = post("board=XX..OO..&player=X&width=4&winLength=3");
+
+        assertEquals(200, lastStatus);
+        assertThat(response, containsString("\"move\":2"));
+    }
+
+    @Test
+    public void missingBoard_shouldReturnBadRequest() throws Exception {
+        String response = post("player=X");
+
+        assertEquals(400, lastStatus);
+        assertEquals("{\"error\":\"Missing parameter: board\"}", response);
+    }
+
+    @Test
+    public void invalidMarker_shouldReturnBadRequest() throws Exception {
+        post("board=Z........&player=X");
+
+        assertEquals(400, lastStatus);
+    }
+
+    @Test
+    public void tooManyEmptyCells_shouldReturnBadRequestWithoutSearching() throws Exception {
+        String response = post("board=.........................&player=X&width=5&winLength=4");
+
+        assertEquals(400, lastStatus);
+        assertThat(response, containsString("25 empty cells exceeds limit"));
+    }
+
+    @Test
+    public void tooManyCells_shouldReturnBadRequest() throws Exception {
+        String response = post("board=" + repeat('X', 65) + "&player=X&width=5");
+
+        assertEquals(400, lastStatus);
+        assertThat(response, containsString("65 cells exceeds limit"));
+    }
+
+    @Test
+    public void zeroWidth_shouldReturnBadRequest() throws Exception {
+        String response = post("board=X........&player=O&width=0");
+
+        assertEquals(400, lastStatus);
+        assertEquals("{\"error\":\"Invalid width: 0\"}", response);
+    }
+
+    @Test
+    public void invalidWinLength_shouldReturnBadRequest() throws Exception {
+        String response = post("board=X........&player=O&winLength=0");
+
+        assertEquals(400, lastStatus);
+        assertThat(response, containsString("Invalid win length for 3x3 board: 0"));
+    }
+
+    @Test
+    public void endedBoard_shouldReturnConflict() throws Exception {
+        String response = post("board=XXXOO....&player=O");
+
+        assertEquals(409, lastStatus);
+        assertThat(response, containsString("board has already ended"));
+    }
+
+    @Test
+    public void get_shouldReturnMethodNotAllowed() throws Exception {
+        HttpURLConnection connection = open();
+        connection.setRequestMethod("GET");
+
+        assertEquals(405, connection.getResponseCode());
+    }
+
+    private String post(String form) throws IOException {
+        HttpURLConnection connection = open();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
+        try (OutputStream requestBody = connection.getOutputStream()) {
+            requestBody.write(form.getBytes(StandardCharsets.UTF_8));
+        }
+        lastStatus = connection.getResponseCode();
+        return read(lastStatus < 400 ? connection.getInputStream() : connection.getErrorStream());
+    }
+
+    private String repeat(char c, int count) {
+        StringBuilder repeated = new StringBuilder();
+        for (int i = 0; i < count; i++)
+            repeated.append(c);
+        return repeated.toString();
+    }
+
+    private HttpURLConnection open() throws IOException {
+        return (HttpURLConnection) new URL("http://localhost:" + server.port() + AnalysisServer.ANALYZE_PATH)
+                .openConnection();
+    }
+
+    private String read(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1)
+            body.write(buffer, 0, read);
+        return body.toString(StandardCharsets.UTF_8.name());
+    }
+}
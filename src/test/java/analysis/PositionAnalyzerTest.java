@@ -0,0 +1,151 @@
+package analysis;
+
+import boards.BoardSymmetry;
+import boards.NByNBoard;
+import boards.ThreeByThreeBoard;
+import game.Board;
+import org.junit.Before;
+import org.junit.Test;
+import players.ComputerPlayer;
+import players.SearchResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class PositionAnalyzerTest {
+    private AnalysisCache cache;
+    private PositionAnalyzer analyzer;
+
+    @Before
+    public void setUp() throws Exception {
+        cache = new AnalysisCache();
+        analyzer = new PositionAnalyzer(cache);
+    }
+
+    @Test
+    public void cacheMiss_shouldSelectSameMoveAsComputerPlayer() {
+        for (int first = 0; first < 9; first++) {
+            Board board = boardWith(first);
+            Board expectedBoard = boardWith(first);
+            new ComputerPlayer('O', expectedBoard, 'X').makeMove();
+
+            SearchResult result = new PositionAnalyzer(new AnalysisCache()).analyze(board, 'O', 'X');
+
+            board.mark(result.move, 'O');
+            assertEquals(new String(expectedBoard.getStatus()), new String(board.getStatus()));
+        }
+    }
+
+    @Test
+    public void repeatedPosition_shouldBeServedFromCache() {
+        SearchResult first = analyzer.analyze(boardWith(0, 4), 'X', 'O');
+        SearchResult second = analyzer.analyze(boardWith(0, 4), 'X', 'O');
+
+        assertEquals(first.move, second.move);
+        assertEquals(first.score, second.score);
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void symmetricPosition_shouldMapCachedMoveBack() {
+        BoardSymmetry symmetry = new BoardSymmetry(3, 3);
+        SearchResult originalResult = analyzer.analyze(boardWith(0, 4, 5), 'O', 'X');
+
+        for (int t = 1; t < symmetry.transformCount(); t++) {
+            Board transformed = boardWith(symmetry.transform(t, 0), symmetry.transform(t, 4), symmetry.transform(t, 5));
+
+            SearchResult result = analyzer.analyze(transformed, 'O', 'X');
+
+            assertEquals(symmetry.transform(t, originalResult.move), result.move);
+            assertEquals(originalResult.score, result.score);
+        }
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void consecutiveMisses_shouldReuseTableWithoutStaleEntries() {
+        int[][] distinctPositions = {{0}, {1}, {4}, {0, 4, 8}, {0, 1, 4}, {1, 4, 7}};
+        for (int[] position : distinctPositions) {
+            Board board = boardWith(position);
+            Board expectedBoard = boardWith(position);
+            new ComputerPlayer('O', expectedBoard, 'X').makeMove();
+
+            SearchResult result = analyzer.analyze(board, 'O', 'X');
+
+            board.mark(result.move, 'O');
+            assertEquals(new String(expectedBoard.getStatus()), new String(board.getStatus()));
+        }
+        assertEquals(distinctPositions.length, analyzer.searches());
+    }
+
+    @Test
+    public void concurrentMissesOnSamePosition_shouldSearchOnce() throws Exception {
+        BoardSymmetry symmetry = new BoardSymmetry(4, 4);
+        int[] opening = {0, 5, 2};
+        ExecutorService executor = Executors.newFixedThreadPool(symmetry.transformCount());
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<SearchResult>> results = new ArrayList<>();
+            for (int t = 0; t < symmetry.transformCount(); t++) {
+                Board board = fourByFourBoardWith(symmetry, t, opening);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return analyzer.analyze(board, 'O', 'X');
+                }));
+            }
+            start.countDown();
+
+            SearchResult original = results.get(0).get(60, TimeUnit.SECONDS);
+            for (int t = 1; t < results.size(); t++) {
+                SearchResult result = results.get(t).get(60, TimeUnit.SECONDS);
+                assertEquals(symmetry.transform(t, original.move), result.move);
+                assertEquals(original.score, result.score);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, analyzer.searches());
+        assertEquals(1, cache.size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void endedBoard_shouldThrowException() {
+        analyzer.analyze(boardWith(0, 3, 1, 4, 2), 'O', 'X');
+    }
+
+    @Test
+    public void tooManyEmptyCells_shouldBeRejected() {
+        Board board = new NByNBoard(5, 5, 4);
+        board.mark(0, 'X');
+
+        try {
+            analyzer.analyze(board, 'O', 'X');
+            fail("Should reject boards with more than " + PositionAnalyzer.MAX_EMPTY_CELLS + " empty cells.");
+        } catch (IllegalArgumentException e) {
+            assertEquals("Unable to analyze: 24 empty cells exceeds limit of 16.", e.getMessage());
+        }
+    }
+
+    private Board fourByFourBoardWith(BoardSymmetry symmetry, int transform, int... moves) {
+        Board board = new NByNBoard(4, 4, 4);
+        for (int i = 0; i < moves.length; i++)
+            board.mark(symmetry.transform(transform, moves[i]), i % 2 == 0 ? 'X' : 'O');
+        return board;
+    }
+
+    private Board boardWith(int... moves) {
+        Board board = new ThreeByThreeBoard();
+        for (int i = 0; i < moves.length; i++)
+            board.mark(moves[i], i % 2 == 0 ? 'X' : 'O');
+        return board;
+    }
+}
@@ -0,0 +1,65 @@
+package boards;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import game.Board;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class BitBoardTest extends ThreeByThreeBoardTest {
+	@Override
+	protected Board createBoard() {
+		return new BitBoard();
+	}
+
+	@Test
+	public void copy_shouldNotShareMarksWithOriginal() throws Exception {
+		Board original = new BitBoard();
+		original.mark(0, 'X');
+
+		Board copy = original.copy();
+		copy.mark(1, 'O');
+
+		assertEquals('X', copy.getStatus()[0]);
+		assertFalse(original.isMarked(1));
+	}
+
+	@Test
+	public void copy_shouldKeepWinner() throws Exception {
+		Board original = new BitBoard();
+		original.mark(0, 'X');
+		original.mark(1, 'X');
+		original.mark(2, 'X');
+
+		Board copy = original.copy();
+
+		assertTrue(copy.hasWinner());
+		assertEquals('X', copy.getWinner());
+	}
+
+	@Test
+	public void possibleMoves_shouldListUnmarkedPositionsInOrder() throws Exception {
+		Board board = new BitBoard();
+		board.mark(0, 'X');
+		board.mark(4, 'O');
+
+		assertEquals(Arrays.asList(1, 2, 3, 5, 6, 7, 8), board.possibleMoves());
+	}
+
+	@Test
+	public void exceptionOnMarkingWithThirdMarker() throws Exception {
+		Board board = new BitBoard();
+		board.mark(0, 'X');
+		board.mark(1, 'O');
+		try {
+			board.mark(2, 'Z');
+			fail("Should throw exception on marking with a third marker.");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Board already has two markers, unable to mark with: Z", e.getMessage());
+		}
+	}
+}
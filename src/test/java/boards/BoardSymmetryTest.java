@@ -0,0 +1,141 @@
+package boards;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import boards.BoardSymmetry.CanonicalPosition;
+import game.Board;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class BoardSymmetryTest {
+	private BoardSymmetry symmetry;
+
+	@Before
+	public void setUp() throws Exception {
+		symmetry = new BoardSymmetry(3, 3);
+	}
+
+	@Test
+	public void squareBoard_shouldHaveEightTransforms() {
+		assertEquals(8, symmetry.transformCount());
+	}
+
+	@Test
+	public void rectangularBoard_shouldHaveFourTransforms() {
+		assertEquals(4, new BoardSymmetry(4, 3).transformCount());
+	}
+
+	@Test
+	public void inverse_shouldUndoTransform() {
+		for (int t = 0; t < symmetry.transformCount(); t++) {
+			for (int position = 0; position < 9; position++)
+				assertEquals(position, symmetry.inverse(t, symmetry.transform(t, position)));
+		}
+	}
+
+	@Test
+	public void apply_shouldKeepCentreInPlace() {
+		char[] cells = cellsOf("    X    ");
+		for (int t = 0; t < symmetry.transformCount(); t++)
+			assertArrayEquals(cells, symmetry.apply(t, cells));
+	}
+
+	@Test
+	public void canonicalize_allCorners_shouldHaveSameCanonicalCells() {
+		char[] canonicalCells = symmetry.canonicalize(cellsOf("X        ")).cells;
+
+		assertArrayEquals(canonicalCells, symmetry.canonicalize(cellsOf("  X      ")).cells);
+		assertArrayEquals(canonicalCells, symmetry.canonicalize(cellsOf("      X  ")).cells);
+		assertArrayEquals(canonicalCells, symmetry.canonicalize(cellsOf("        X")).cells);
+	}
+
+	@Test
+	public void canonicalize_shouldMapMovesBackToOriginalPosition() {
+		char[] cells = cellsOf("  X O    ");
+		CanonicalPosition canonical = symmetry.canonicalize(cells);
+
+		for (int position = 0; position < cells.length; position++) {
+			int canonicalPosition = canonical.toCanonical(position);
+			assertEquals(cells[position], canonical.cells[canonicalPosition]);
+			assertEquals(position, canonical.fromCanonical(canonicalPosition));
+		}
+	}
+
+	@Test
+	public void canonicalHash_symmetricPositions_shouldBeEqual() {
+		assertEquals(symmetry.canonicalHash(cellsOf("XO       ")), symmetry.canonicalHash(cellsOf("X  O     ")));
+	}
+
+	@Test
+	public void canonicalHash_distinctPositions_shouldDiffer() {
+		assertNotEquals(symmetry.canonicalHash(cellsOf("XO       ")), symmetry.canonicalHash(cellsOf("X O      ")));
+	}
+
+	@Test
+	public void symmetricHash_shouldMatchCanonicalHashWhenUpdatedIncrementally() {
+		SymmetricHash symmetricHash = new SymmetricHash(symmetry, new char[9]);
+
+		symmetricHash.toggle(2, 'X');
+		symmetricHash.toggle(4, 'O');
+		symmetricHash.toggle(7, 'X');
+		symmetricHash.toggle(7, 'X');
+
+		assertEquals(symmetry.canonicalHash(cellsOf("  X O    ")), symmetricHash.canonicalHash());
+	}
+
+	@Test
+	public void hashOf_shouldMatchSymmetricHashOfCanonicalTransform() {
+		char[] cells = cellsOf("X  O    X");
+		SymmetricHash symmetricHash = new SymmetricHash(symmetry, cells);
+
+		assertEquals(symmetricHash.canonicalHash(), symmetry.hashOf(symmetricHash.canonicalTransform(), cells));
+	}
+
+	@Test
+	public void symmetricHash_reset_shouldMatchCanonicalHashOfNewCells() {
+		SymmetricHash symmetricHash = new SymmetricHash(symmetry, cellsOf("XO       "));
+
+		symmetricHash.reset(cellsOf("  X O    "));
+
+		assertEquals(symmetry.canonicalHash(cellsOf("  X O    ")), symmetricHash.canonicalHash());
+	}
+
+	@Test
+	public void reachableThreeByThreePositions_shouldReduceToCanonicalPositions() {
+		Set<String> positions = new HashSet<>();
+		Set<String> canonicalPositions = new HashSet<>();
+		collectReachablePositions(new ThreeByThreeBoard(), 'X', 'O', positions, canonicalPositions);
+
+		assertEquals(5478, positions.size());
+		assertEquals(765, canonicalPositions.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canonicalize_mismatchedCellCount_shouldThrowException() {
+		symmetry.canonicalize(new char[16]);
+	}
+
+	private void collectReachablePositions(Board board, char marker, char nextMarker,
+										   Set<String> positions, Set<String> canonicalPositions) {
+		char[] cells = board.getStatus();
+		if (!positions.add(new String(cells)))
+			return;
+		canonicalPositions.add(new String(symmetry.canonicalize(cells).cells));
+		if (board.hasEnded())
+			return;
+		for (int move : board.possibleMoves()) {
+			board.mark(move, marker);
+			collectReachablePositions(board, nextMarker, marker, positions, canonicalPositions);
+			board.unmark(move);
+		}
+	}
+
+	private char[] cellsOf(String cells) {
+		return cells.replace(' ', '\0').toCharArray();
+	}
+}
@@ -0,0 +1,85 @@
+package boards;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import game.Board;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class DefaultBoardFactoryTest {
+	@Test
+	public void defaultFactory_shouldCreateThreeByThreeBoard() throws Exception {
+		Board board = new DefaultBoardFactory().createBoard();
+
+		assertTrue(board instanceof ThreeByThreeBoard);
+	}
+
+	@Test
+	public void otherDimensions_shouldCreateNByNBoard() throws Exception {
+		Board board = new DefaultBoardFactory(5, 4, 4).createBoard();
+
+		assertTrue(board instanceof NByNBoard);
+		assertEquals(5, ((NByNBoard) board).width());
+		assertEquals(4, ((NByNBoard) board).height());
+		assertEquals(4, ((NByNBoard) board).winLength());
+	}
+
+	@Test
+	public void createBoard_shouldReturnNewBoardEachTime() throws Exception {
+		DefaultBoardFactory factory = new DefaultBoardFactory(4, 4, 3);
+		Board first = factory.createBoard();
+		first.mark(0, 'X');
+
+		assertFalse(factory.createBoard().isMarked(0));
+	}
+
+	@Test
+	public void fromArguments_noArguments_shouldUseDefault() throws Exception {
+		Board board = DefaultBoardFactory.fromArguments(Collections.<String>emptyList()).createBoard();
+
+		assertTrue(board instanceof ThreeByThreeBoard);
+	}
+
+	@Test
+	public void fromArguments_shouldParseWidthHeightAndWinLength() throws Exception {
+		Board board = DefaultBoardFactory.fromArguments(Arrays.asList("7", "6", "4")).createBoard();
+
+		assertEquals(7, board.size());
+		assertEquals(42, board.getStatus().length);
+	}
+
+	@Test
+	public void fromArguments_wrongArgumentCount_shouldThrowException() throws Exception {
+		try {
+			DefaultBoardFactory.fromArguments(Arrays.asList("4", "4"));
+			fail("Should throw exception on wrong number of board arguments.");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Expected board arguments: width height winLength, but was: [4, 4]", e.getMessage());
+		}
+	}
+
+	@Test
+	public void fromArguments_nonInteger_shouldThrowException() throws Exception {
+		try {
+			DefaultBoardFactory.fromArguments(Arrays.asList("4", "four", "3"));
+			fail("Should throw exception on non-integer board arguments.");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid board arguments: [4, four, 3]", e.getMessage());
+		}
+	}
+
+	@Test
+	public void invalidWinLength_shouldThrowException() throws Exception {
+		try {
+			new DefaultBoardFactory(3, 3, 5);
+			fail("Should throw exception on win length longer than board.");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid win length for 3x3 board: 5", e.getMessage());
+		}
+	}
+}
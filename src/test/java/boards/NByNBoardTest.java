@@ -0,0 +1,168 @@
+package boards;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import game.Board;
+import org.junit.Test;
+
+public class NByNBoardTest extends ThreeByThreeBoardTest {
+	@Override
+	protected Board createBoard() {
+		return new NByNBoard(3, 3, 3);
+	}
+
+	@Test
+	public void fourByFour_rowOfThree_shouldNotWin() throws Exception {
+		Board board = new NByNBoard(4, 4, 4);
+		markAll(board, 'X', 0, 1, 2);
+
+		assertFalse(board.hasWinner());
+		assertFalse(board.hasEnded());
+	}
+
+	@Test
+	public void fourByFour_rowOfFour_shouldWin() throws Exception {
+		Board board = new NByNBoard(4, 4, 4);
+		markAll(board, 'X', 4, 5, 6, 7);
+
+		assertTrue(board.hasWinner());
+		assertEquals('X', board.getWinner());
+	}
+
+	@Test
+	public void fiveByFive_diagonalOfFour_shouldWin() throws Exception {
+		Board board = new NByNBoard(5, 5, 4);
+		markAll(board, 'O', 6, 12, 18, 24);
+
+		assertTrue(board.hasWinner());
+		assertEquals('O', board.getWinner());
+	}
+
+	@Test
+	public void fiveByFive_antiDiagonalOfFour_shouldWin() throws Exception {
+		Board board = new NByNBoard(5, 5, 4);
+		markAll(board, 'X', 4, 8, 12, 16);
+
+		assertTrue(board.hasWinner());
+	}
+
+	@Test
+	public void fiveByFive_columnOfFour_shouldWin() throws Exception {
+		Board board = new NByNBoard(5, 5, 4);
+		markAll(board, 'X', 2, 7, 12, 17);
+
+		assertTrue(board.hasWinner());
+	}
+
+	@Test
+	public void lineWrappingAcrossRows_shouldNotWin() throws Exception {
+		Board board = new NByNBoard(4, 4, 3);
+		markAll(board, 'X', 2, 3, 4);
+
+		assertFalse(board.hasWinner());
+	}
+
+	@Test
+	public void winLength_shouldBeConfiguredWinLength() throws Exception {
+		assertEquals(4, new NByNBoard(5, 5, 4).winLength());
+	}
+
+	@Test
+	public void rectangularBoard_shouldUseWidthAsSize() throws Exception {
+		NByNBoard board = new NByNBoard(5, 3, 3);
+
+		assertEquals(5, board.size());
+		assertEquals(15, board.getStatus().length);
+		assertEquals(15, board.possibleMoves().size());
+	}
+
+	@Test
+	public void rectangularBoard_columnOfHeight_shouldWin() throws Exception {
+		Board board = new NByNBoard(5, 3, 3);
+		markAll(board, 'X', 4, 9, 14);
+
+		assertTrue(board.hasWinner());
+	}
+
+	@Test
+	public void rectangularBoard_allMarked_shouldEnd() throws Exception {
+		Board board = new NByNBoard(2, 1, 2);
+		board.mark(0, 'X');
+		board.mark(1, 'O');
+
+		assertFalse(board.hasWinner());
+		assertTrue(board.hasEnded());
+	}
+
+	@Test
+	public void unmarkWinningMove_shouldClearWinner() throws Exception {
+		Board board = new NByNBoard(5, 5, 4);
+		markAll(board, 'X', 0, 1, 2, 3);
+
+		board.unmark(3);
+
+		assertFalse(board.hasWinner());
+		assertFalse(board.hasEnded());
+	}
+
+	@Test
+	public void unmarkMoveAfterWin_shouldKeepWinner() throws Exception {
+		Board board = new NByNBoard(5, 5, 4);
+		markAll(board, 'X', 0, 1, 2, 3);
+		board.mark(10, 'O');
+
+		board.unmark(10);
+
+		assertTrue(board.hasWinner());
+		assertEquals('X', board.getWinner());
+	}
+
+	@Test
+	public void unmarkPartOfEarlierWin_shouldFindRemainingWin() throws Exception {
+		Board board = new NByNBoard(4, 4, 3);
+		markAll(board, 'X', 0, 1, 2);
+		markAll(board, 'X', 4, 8);
+
+		board.unmark(1);
+
+		assertTrue(board.hasWinner());
+		assertEquals('X', board.getWinner());
+	}
+
+	@Test
+	public void copy_shouldKeepDimensionsAndMarks() throws Exception {
+		NByNBoard original = new NByNBoard(4, 4, 3);
+		original.mark(5, 'X');
+
+		Board copy = original.copy();
+		copy.mark(6, 'O');
+
+		assertEquals(16, copy.getStatus().length);
+		assertEquals('X', copy.getStatus()[5]);
+		assertFalse(original.isMarked(6));
+	}
+
+	@Test
+	public void invalidDimensions_shouldThrowException() throws Exception {
+		assertInvalidDimensions(0, 3, 3);
+		assertInvalidDimensions(3, -1, 3);
+		assertInvalidDimensions(3, 3, 0);
+		assertInvalidDimensions(3, 3, 4);
+	}
+
+	private void assertInvalidDimensions(int width, int height, int winLength) {
+		try {
+			new NByNBoard(width, height, winLength);
+			fail("Expected IllegalArgumentException for " + width + "x" + height + "x" + winLength);
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+	private void markAll(Board board, char marker, int... positions) {
+		for (int position : positions)
+			board.mark(position, marker);
+	}
+}
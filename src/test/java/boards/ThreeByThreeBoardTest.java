@@ -1,7 +1,9 @@
 package boards;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -9,13 +11,19 @@ import game.Board;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
+
 public class ThreeByThreeBoardTest {
 	private Board board;
 	private char[] statusCells;
 
 	@Before
 	public void setUp() throws Exception {
-		board = new ThreeByThreeBoard();
+		board = createBoard();
+	}
+
+	protected Board createBoard() {
+		return new ThreeByThreeBoard();
 	}
 
 	@Test
@@ -147,6 +155,202 @@ public class ThreeByThreeBoardTest {
 		assertExceptionOnInvalidPosition(9);
 	}
 
+	@Test
+	public void unmark_shouldClearPosition() throws Exception {
+		board.mark(0, 'X');
+		board.mark(5, 'O');
+
+		board.unmark(5);
+
+		assertEquals(0, board.getStatus()[5]);
+		assertTrue(board.isValid(5));
+		assertEquals('X', board.getStatus()[0]);
+	}
+
+	@Test
+	public void unmark_winningMove_shouldRemoveWinner() throws Exception {
+		markBoardAtPositions('X', 0, 1, 2);
+		markBoardAtPositions('O', 4, 5);
+
+		board.unmark(2);
+
+		assertFalse(board.hasWinner());
+		assertFalse(board.hasEnded());
+	}
+
+	@Test
+	public void unmark_nonWinningMove_shouldKeepWinner() throws Exception {
+		markBoardAtPositions('X', 0, 1, 2);
+		markBoardAtPositions('O', 4, 5);
+
+		board.unmark(4);
+
+		assertWinnerIs('X');
+	}
+
+	@Test
+	public void unmark_lastMoveOfFullBoard_shouldNotHaveEnded() throws Exception {
+		markBoardAtPositions('X', 0, 1, 4, 5, 6);
+		markBoardAtPositions('O', 2, 3, 7, 8);
+
+		board.unmark(8);
+
+		assertFalse(board.hasEnded());
+	}
+
+	@Test
+	public void markAfterUnmark_shouldDetermineNewWinner() throws Exception {
+		markBoardAtPositions('X', 0, 1);
+		markBoardAtPositions('O', 3, 4, 8);
+		board.unmark(8);
+
+		board.mark(5, 'O');
+
+		assertWinnerIs('O');
+	}
+
+	@Test
+	public void unmark_oneOfTwoWinningLines_shouldKeepWinner() throws Exception {
+		markBoardAtPositions('X', 0, 1, 2, 3, 6);
+
+		board.unmark(1);
+
+		assertWinnerIs('X');
+		board.unmark(3);
+		assertFalse(board.hasWinner());
+	}
+
+	@Test
+	public void fullBoardWithoutWinner_shouldHaveEnded() throws Exception {
+		markBoardAtPositions('X', 0, 1, 4, 5, 6);
+		markBoardAtPositions('O', 2, 3, 7);
+
+		assertFalse(board.hasEnded());
+		board.mark(8, 'O');
+		assertTrue(board.hasEnded());
+	}
+
+	@Test
+	public void copy_shouldTrackWinnerIndependently() throws Exception {
+		markBoardAtPositions('X', 0, 1);
+
+		Board copy = board.copy();
+		copy.mark(2, 'X');
+
+		assertTrue(copy.hasWinner());
+		assertFalse(board.hasWinner());
+		board.mark(2, 'O');
+		assertFalse(board.hasWinner());
+	}
+
+	@Test
+	public void possibleMovesIntoArray_shouldFillUnmarkedPositionsInOrder() throws Exception {
+		markBoardAtPositions('X', 0, 4);
+		markBoardAtPositions('O', 8);
+		int[] moves = new int[9];
+
+		int moveCount = board.possibleMoves(moves);
+
+		assertEquals(6, moveCount);
+		assertArrayEquals(new int[]{1, 2, 3, 5, 6, 7}, Arrays.copyOf(moves, moveCount));
+	}
+
+	@Test
+	public void possibleMovesIntoArray_shouldMatchPossibleMovesList() throws Exception {
+		markBoardAtPositions('O', 2, 3);
+		int[] moves = new int[9];
+
+		int moveCount = board.possibleMoves(moves);
+
+		assertEquals(board.possibleMoves().size(), moveCount);
+		for (int i = 0; i < moveCount; i++)
+			assertEquals((int) board.possibleMoves().get(i), moves[i]);
+	}
+
+	@Test
+	public void exceptionOnPossibleMovesIntoTooSmallArray() throws Exception {
+		markBoardAtPositions('X', 0);
+		try {
+			board.possibleMoves(new int[7]);
+			fail("Should throw exception on moves array too small for possible moves.");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Moves array too small: 7 < 8", e.getMessage());
+		}
+	}
+
+	@Test
+	public void winLength_shouldBeBoardSize() throws Exception {
+		assertEquals(3, board.winLength());
+	}
+
+	@Test
+	public void exceptionOnUnmarkingEmptyPosition() throws Exception {
+		try {
+			board.unmark(0);
+			fail("Should throw exception on unmarking empty position.");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Position 0 is not marked.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void exceptionOnUnmarkingInvalidPosition() throws Exception {
+		try {
+			board.unmark(9);
+			fail("Should throw exception on unmarking invalid position.");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid position: 9", e.getMessage());
+		}
+	}
+
+	@Test
+	public void hash_emptyBoard_shouldBeZero() throws Exception {
+		assertEquals(0, board.hash());
+	}
+
+	@Test
+	public void hash_samePositionInDifferentMoveOrder_shouldBeEqual() throws Exception {
+		Board otherBoard = createBoard();
+		board.mark(0, 'X');
+		board.mark(4, 'O');
+		board.mark(8, 'X');
+		otherBoard.mark(8, 'X');
+		otherBoard.mark(4, 'O');
+		otherBoard.mark(0, 'X');
+
+		assertEquals(board.hash(), otherBoard.hash());
+	}
+
+	@Test
+	public void hash_differentMarkersAtSamePositions_shouldDiffer() throws Exception {
+		Board otherBoard = createBoard();
+		board.mark(0, 'X');
+		board.mark(4, 'O');
+		otherBoard.mark(0, 'O');
+		otherBoard.mark(4, 'X');
+
+		assertNotEquals(board.hash(), otherBoard.hash());
+	}
+
+	@Test
+	public void hash_afterUnmark_shouldRestorePreviousHash() throws Exception {
+		board.mark(0, 'X');
+		long hashBeforeMark = board.hash();
+
+		board.mark(4, 'O');
+		board.unmark(4);
+
+		assertEquals(hashBeforeMark, board.hash());
+	}
+
+	@Test
+	public void hash_copy_shouldKeepHash() throws Exception {
+		board.mark(0, 'X');
+		board.mark(4, 'O');
+
+		assertEquals(board.hash(), board.copy().hash());
+	}
+
 	private void assertExceptionOnInvalidPosition(int position) {
 		try {
 			board.mark(position, 'X');
@@ -1,14 +1,18 @@
 package console;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import game.Board;
-import game.Player;
+import game.GameEvent;
+import boards.NByNBoard;
 import boards.ThreeByThreeBoard;
 import org.junit.After;
 import org.junit.Before;
@@ -29,6 +33,7 @@ public class ConsoleGameTest {
 												"---------" + NEW_LINE +
 												"O | X | O" + NEW_LINE +
 												"The game is a Draw!" + NEW_LINE;
+	private static final String X_TURN = "X Turn" + NEW_LINE;
 	private ConsoleGame game;
 	private ByteArrayOutputStream outputStream;
 	private Board board;
@@ -46,23 +51,30 @@ public class ConsoleGameTest {
 	}
 
 	@Test
-	public void displayCurrentPlayerTurn() throws Exception {
-		Player player = new TestPlayer('X', board);
+	public void turnChanged_displayCurrentPlayerTurn() throws Exception {
+		game.display(turnChanged('O'));
 
-		game.displayCurrentTurn(player);
+		assertOutputStreamWithClearScreenPrepend(EMPTY_BOARD + "O Turn" + NEW_LINE);
+	}
+
+	@Test
+	public void turnChanged_emptyBoard() throws Exception {
+		game.display(turnChanged('X'));
 
-		assertOutputStream("X Turn" + NEW_LINE);
+		assertOutputStreamWithClearScreenPrepend(EMPTY_BOARD + X_TURN);
 	}
 
 	@Test
-	public void displayBoardStatus_emptyBoard() throws Exception {
-		game.displayBoardStatus();
+	public void moveMade_displayNothing() throws Exception {
+		board.mark(0, 'X');
 
-		assertOutputStreamWithClearScreenPrepend(EMPTY_BOARD);
+		game.display(GameEvent.moveMade(0, 'X', board.getStatus(), board.size()));
+
+		assertOutputStream("");
 	}
 
 	@Test
-	public void displayBoardStatus_filledBoard() throws Exception {
+	public void turnChanged_filledBoard() throws Exception {
 		board.mark(0, 'X');
 		board.mark(1, 'O');
 		board.mark(2, 'X');
@@ -72,18 +84,19 @@ public class ConsoleGameTest {
 		board.mark(6, 'O');
 		board.mark(7, 'X');
 
-		game.displayBoardStatus();
+		game.display(turnChanged('X'));
 		
 		String expectedString = "X | O | X" + NEW_LINE +
 								"---------" + NEW_LINE +
 								"O | X | O" + NEW_LINE +
 								"---------" + NEW_LINE +
-								"O | X | 9" + NEW_LINE;
+								"O | X | 9" + NEW_LINE +
+								X_TURN;
 		assertOutputStreamWithClearScreenPrepend(expectedString);
 	}
 
 	@Test
-	public void displayEndStatus_crossWins() throws Exception {
+	public void gameEnded_crossWins() throws Exception {
 		board.mark(0, 'X');
 		board.mark(1, 'O');
 		board.mark(2, 'X');
@@ -94,7 +107,7 @@ public class ConsoleGameTest {
 		board.mark(7, 'X');
 		board.mark(8, 'X');
 		
-		game.displayEndStatus();
+		game.display(gameEnded());
 		
 		String expectedString = "X | O | X" + NEW_LINE +
 								"---------" + NEW_LINE +
@@ -106,7 +119,7 @@ public class ConsoleGameTest {
 	}
 
 	@Test
-	public void displayEndStatus_circleWins() throws Exception {
+	public void gameEnded_circleWins() throws Exception {
 		board.mark(1, 'X');
 		board.mark(0, 'O');
 		board.mark(2, 'X');
@@ -116,7 +129,7 @@ public class ConsoleGameTest {
 		board.mark(8, 'X');
 		board.mark(6, 'O');
 		
-		game.displayEndStatus();
+		game.display(gameEnded());
 		
 		String expectedString = "O | X | X" + NEW_LINE +
 								"---------" + NEW_LINE +
@@ -128,7 +141,7 @@ public class ConsoleGameTest {
 	}
 
 	@Test
-	public void displayEndStatus_drawGame() throws Exception {
+	public void gameEnded_drawGame() throws Exception {
 		board.mark(0, 'X');
 		board.mark(1, 'O');
 		board.mark(2, 'X');
@@ -139,23 +152,24 @@ public class ConsoleGameTest {
 		board.mark(7, 'X');
 		board.mark(8, 'O');
 		
-		game.displayEndStatus();
+		game.display(gameEnded());
 		
 		assertOutputStreamWithClearScreenPrepend(DRAW_BOARD);
 	}
 	
 
 	@Test
-	public void displayBoardStatus_clearOutputForEachCall() throws Exception {
-		game.displayBoardStatus();
-		game.displayBoardStatus();
+	public void turnChanged_clearOutputForEachEvent() throws Exception {
+		game.display(turnChanged('X'));
+		game.display(turnChanged('X'));
 
-		assertOutputStream(ConsoleGame.ANSI_CLEAR_SCREEN + EMPTY_BOARD + ConsoleGame.ANSI_CLEAR_SCREEN + EMPTY_BOARD);
+		assertOutputStream(ConsoleGame.ANSI_CLEAR_SCREEN + EMPTY_BOARD + X_TURN
+				+ ConsoleGame.ANSI_CLEAR_SCREEN + EMPTY_BOARD + X_TURN);
 	}
 
 	@Test
-	public void displayEndStatus_clearOutputForEachCall() throws Exception {
-		game.displayBoardStatus();
+	public void gameEnded_clearOutputForEachEvent() throws Exception {
+		game.display(turnChanged('X'));
 		board.mark(0, 'X');
 		board.mark(1, 'O');
 		board.mark(2, 'X');
@@ -165,9 +179,73 @@ public class ConsoleGameTest {
 		board.mark(6, 'O');
 		board.mark(7, 'X');
 		board.mark(8, 'O');
-		game.displayEndStatus();
+		game.display(gameEnded());
 		
-		assertOutputStream(ConsoleGame.ANSI_CLEAR_SCREEN + EMPTY_BOARD + ConsoleGame.ANSI_CLEAR_SCREEN + DRAW_BOARD);
+		assertOutputStream(ConsoleGame.ANSI_CLEAR_SCREEN + EMPTY_BOARD + X_TURN + ConsoleGame.ANSI_CLEAR_SCREEN + DRAW_BOARD);
+	}
+
+	@Test
+	public void turnChanged_largerBoard_shouldAlignCellsAndSizeSeparator() throws Exception {
+		board = new NByNBoard(4, 3, 3);
+		board.mark(0, 'X');
+		board.mark(11, 'O');
+
+		game.display(turnChanged('X'));
+
+		String expectedString = " X |  2 |  3 |  4" + NEW_LINE +
+								"-----------------" + NEW_LINE +
+								" 5 |  6 |  7 |  8" + NEW_LINE +
+								"-----------------" + NEW_LINE +
+								" 9 | 10 | 11 |  O" + NEW_LINE +
+								X_TURN;
+		assertOutputStreamWithClearScreenPrepend(expectedString);
+	}
+
+	@Test
+	public void turnChanged_afterBoardDimensionsChange_shouldLayOutNewFrame() throws Exception {
+		game.display(turnChanged('X'));
+		board = new NByNBoard(2, 2, 2);
+		game.display(turnChanged('X'));
+
+		String smallBoard = "1 | 2" + NEW_LINE +
+							"-----" + NEW_LINE +
+							"3 | 4" + NEW_LINE;
+		assertOutputStream(ConsoleGame.ANSI_CLEAR_SCREEN + EMPTY_BOARD + X_TURN
+				+ ConsoleGame.ANSI_CLEAR_SCREEN + smallBoard + X_TURN);
+	}
+
+	@Test
+	public void start_withDisplayExecutor_shouldDisplayWholeGameBeforeReturning() throws Exception {
+		TestPlayer playerOne = new TestPlayer('X', board);
+		TestPlayer playerTwo = new TestPlayer('O', board);
+		playerOne.enqueueMoves(0, 1, 2);
+		playerTwo.enqueueMoves(3, 4);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			game = new ConsoleGame(new PrintStream(outputStream), board, playerOne, playerTwo, executor);
+
+			game.start();
+
+			String output = outputStream.toString(StandardCharsets.UTF_8.name());
+			assertTrue(output.startsWith(ConsoleGame.ANSI_CLEAR_SCREEN + EMPTY_BOARD + X_TURN));
+			assertTrue(output.endsWith("X | X | X" + NEW_LINE +
+										"---------" + NEW_LINE +
+										"O | O | 6" + NEW_LINE +
+										"---------" + NEW_LINE +
+										"7 | 8 | 9" + NEW_LINE +
+										"X has Won!" + NEW_LINE));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private GameEvent turnChanged(char marker) {
+		return GameEvent.turnChanged(marker, board.getStatus(), board.size());
+	}
+
+	private GameEvent gameEnded() {
+		char winner = board.hasWinner() ? board.getWinner() : 0;
+		return GameEvent.gameEnded(winner, board.getStatus(), board.size());
 	}
 
 	private void assertOutputStreamWithClearScreenPrepend(String expectedString) throws UnsupportedEncodingException {
@@ -1,6 +1,10 @@
 package console;
 
+import application.BoardFactory;
 import application.MockPlayerFactory;
+import boards.DefaultBoardFactory;
+import boards.NByNBoard;
+import game.Board;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
@@ -14,6 +18,7 @@ import java.util.regex.Pattern;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class ConsoleTicTacToeApplicationTest {
     private static final String[] DEFAULT_INPUTS = {"1", "1", "n"};
@@ -106,18 +111,43 @@ public class ConsoleTicTacToeApplicationTest {
         assertEquals(3, countOf("Would you like to play again (y/n)? ", contentsOf(outputStream)));
     }
 
+    @Test
+    public void shouldCreatePlayersWithBoardFromBoardFactory() throws Exception {
+        Board board = new NByNBoard(3, 3, 3);
+        runWithInput(DEFAULT_INPUTS, DEFAULT_MOVES_QUEUE, () -> board);
+
+        assertEquals(2, mockPlayerFactory.boardsPassedToCreatePlayer.size());
+        assertSame(board, mockPlayerFactory.boardsPassedToCreatePlayer.get(0));
+        assertSame(board, mockPlayerFactory.boardsPassedToCreatePlayer.get(1));
+        assertOutputStreamContains("X has Won!");
+    }
+
+    @Test
+    public void shouldCreateTimeBoundedComputer_onLargerBoard() throws Exception {
+        Board board = new NByNBoard(4, 4, 4);
+        Queue<int[]> movesQueue = new ArrayDeque<>(Arrays.asList(new int[]{0, 1, 2, 3}, new int[]{4, 5, 6}));
+        runWithInput(new String[]{"1", "2", "n"}, movesQueue, () -> board);
+
+        assertPlayerTypes("consoleHuman", "timedComputer");
+    }
+
     private void runWithInput(String[] appInputs, Queue<int[]> playerMovesQueue) {
+        runWithInput(appInputs, playerMovesQueue, new DefaultBoardFactory());
+    }
+
+    private void runWithInput(String[] appInputs, Queue<int[]> playerMovesQueue, BoardFactory boardFactory) {
         String inputStr = InputTestUtil.toInputString(appInputs);
-        runUsing(inputStr, playerMovesQueue);
+        runUsing(inputStr, playerMovesQueue, boardFactory);
     }
 
-    private void runUsing(String inputStr, Queue<int[]> playerMovesQueue) {
+    private void runUsing(String inputStr, Queue<int[]> playerMovesQueue, BoardFactory boardFactory) {
         inputStream = new ByteArrayInputStream(
                 String.format(inputStr).getBytes(StandardCharsets.UTF_8));
         outputStream = new ByteArrayOutputStream();
         mockPlayerFactory = new MockPlayerFactory();
         mockPlayerFactory.playerMovesQueue.addAll(playerMovesQueue);
-        application = new ConsoleTicTacToeApplication(inputStream, new PrintStream(outputStream), mockPlayerFactory);
+        application = new ConsoleTicTacToeApplication(inputStream, new PrintStream(outputStream), mockPlayerFactory,
+                boardFactory);
         application.run();
     }
 
@@ -0,0 +1,115 @@
+package game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import boards.ThreeByThreeBoard;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AsyncGameTest {
+	private Board board;
+	private ScriptedAsyncPlayer playerOne;
+	private ScriptedAsyncPlayer playerTwo;
+
+	@Before
+	public void setUp() throws Exception {
+		board = new ThreeByThreeBoard();
+		playerOne = new ScriptedAsyncPlayer('X');
+		playerTwo = new ScriptedAsyncPlayer('O');
+	}
+
+	@Test
+	public void start_shouldAlternatePlayersUntilBoardEnds() throws Exception {
+		playerOne.enqueueMoves(0, 1, 2);
+		playerTwo.enqueueMoves(3, 4);
+
+		Board result = new AsyncGame(board, playerOne, playerTwo).start().get();
+
+		assertTrue(result.hasWinner());
+		assertEquals('X', result.getWinner());
+		assertEquals(3, playerOne.selectMoveCount);
+		assertEquals(2, playerTwo.selectMoveCount);
+	}
+
+	@Test
+	public void start_shouldNotCompleteUntilPendingMoveCompletes() throws Exception {
+		CompletableFuture<Integer> pendingMove = new CompletableFuture<>();
+		playerOne.enqueue(pendingMove);
+
+		CompletableFuture<Board> game = new AsyncGame(board, playerOne, playerTwo).start();
+
+		assertFalse(game.isDone());
+		assertFalse(board.isMarked(4));
+		playerTwo.enqueueMoves(0, 1, 2, 3);
+		playerOne.enqueueMoves(8, 5, 7, 6);
+		pendingMove.complete(4);
+		assertTrue(game.isDone());
+		assertEquals('O', game.get().getWinner());
+	}
+
+	@Test
+	public void alreadyEndedBoard_shouldCompleteImmediately() throws Exception {
+		board.mark(0, 'X');
+		board.mark(1, 'X');
+		board.mark(2, 'X');
+
+		CompletableFuture<Board> game = new AsyncGame(board, playerOne, playerTwo).start();
+
+		assertTrue(game.isDone());
+		assertEquals(0, playerOne.selectMoveCount);
+	}
+
+	@Test
+	public void invalidMove_shouldCompleteExceptionally() throws Exception {
+		playerOne.enqueueMoves(0);
+		playerTwo.enqueueMoves(0);
+
+		CompletableFuture<Board> game = new AsyncGame(board, playerOne, playerTwo).start();
+
+		try {
+			game.get();
+			fail("Should complete exceptionally on marking same position.");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalArgumentException);
+			assertEquals("Position 0 is already marked.", e.getCause().getMessage());
+		}
+	}
+
+	private static class ScriptedAsyncPlayer implements AsyncPlayer {
+		int selectMoveCount;
+		private final char marker;
+		private final Queue<CompletableFuture<Integer>> moves = new ArrayDeque<>();
+
+		ScriptedAsyncPlayer(char marker) {
+			this.marker = marker;
+		}
+
+		void enqueueMoves(Integer... positions) {
+			Arrays.stream(positions).forEach(position -> enqueue(CompletableFuture.completedFuture(position)));
+		}
+
+		void enqueue(CompletableFuture<Integer> move) {
+			moves.add(move);
+		}
+
+		@Override
+		public char getMarker() {
+			return marker;
+		}
+
+		@Override
+		public CompletableFuture<Integer> selectMove() {
+			selectMoveCount++;
+			return moves.remove();
+		}
+	}
+}
@@ -0,0 +1,152 @@
+package game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GameEventBusTest {
+	private GameEventBus eventBus;
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() throws Exception {
+		eventBus = new GameEventBus();
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void noSubscribers() throws Exception {
+		assertFalse(eventBus.hasSubscribers());
+		eventBus.subscribe(event -> {
+		});
+		assertTrue(eventBus.hasSubscribers());
+	}
+
+	@Test
+	public void subscribe_shouldDeliverOnPublishingThread() throws Exception {
+		List<Thread> threads = new ArrayList<>();
+		eventBus.subscribe(event -> threads.add(Thread.currentThread()));
+
+		eventBus.publish(moveMade(0));
+
+		assertEquals(Collections.singletonList(Thread.currentThread()), threads);
+	}
+
+	@Test
+	public void subscribeAsync_shouldNotBlockPublisher() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		List<Integer> positions = Collections.synchronizedList(new ArrayList<>());
+		eventBus.subscribeAsync(event -> {
+			awaitQuietly(release);
+			positions.add(event.position);
+		}, executor);
+
+		eventBus.publish(moveMade(0));
+		eventBus.publish(moveMade(1));
+		assertTrue(positions.isEmpty());
+
+		release.countDown();
+		eventBus.awaitDelivery();
+		assertEquals(Arrays.asList(0, 1), positions);
+	}
+
+	@Test
+	public void subscribeAsync_shouldDeliverInPublishOrderOnMultiThreadedExecutor() throws Exception {
+		List<Integer> positions = Collections.synchronizedList(new ArrayList<>());
+		eventBus.subscribeAsync(event -> positions.add(event.position), executor);
+
+		List<Integer> expected = new ArrayList<>();
+		for (int position = 0; position < 10000; position++) {
+			eventBus.publish(moveMade(position));
+			expected.add(position);
+		}
+		eventBus.awaitDelivery();
+
+		assertEquals(expected, positions);
+	}
+
+	@Test
+	public void subscribeAsync_whenSubscriberFails_shouldKeepDeliveringLaterEvents() throws Exception {
+		List<Integer> positions = Collections.synchronizedList(new ArrayList<>());
+		eventBus.subscribeAsync(event -> {
+			if (event.position == 0)
+				throw new IllegalStateException("Display failed.");
+			positions.add(event.position);
+		}, executor);
+
+		eventBus.publish(moveMade(0));
+		eventBus.publish(moveMade(1));
+		eventBus.awaitDelivery();
+
+		assertEquals(Arrays.asList(1), positions);
+	}
+
+	@Test
+	public void subscribeAsync_whenExecutorRejects_shouldDeliverOnPublishingThread() throws Exception {
+		List<Thread> threads = new ArrayList<>();
+		List<Integer> positions = new ArrayList<>();
+		executor.shutdown();
+		eventBus.subscribeAsync(event -> {
+			threads.add(Thread.currentThread());
+			positions.add(event.position);
+		}, executor);
+
+		eventBus.publish(moveMade(0));
+		eventBus.publish(moveMade(1));
+		eventBus.awaitDelivery();
+
+		assertEquals(Arrays.asList(0, 1), positions);
+		assertEquals(Arrays.asList(Thread.currentThread(), Thread.currentThread()), threads);
+	}
+
+	@Test
+	public void subscribe_nullSubscriber() throws Exception {
+		try {
+			eventBus.subscribe(null);
+			fail("Should throw exception for null subscriber.");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Subscriber must not be null.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void subscribeAsync_nullExecutor() throws Exception {
+		try {
+			eventBus.subscribeAsync(event -> {
+			}, null);
+			fail("Should throw exception for null executor.");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Subscriber and executor must not be null.", e.getMessage());
+		}
+	}
+
+	private static GameEvent moveMade(int position) {
+		return GameEvent.moveMade(position, 'X', new char[0], 0);
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
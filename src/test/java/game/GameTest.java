@@ -1,11 +1,12 @@
 package game;
 
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -14,7 +15,8 @@ public class GameTest {
 	private TestBoard board;
 	private TestPlayer playerTwo;
 	private TestPlayer playerOne;
-	private TestGame game;
+	private Game game;
+	private TestSubscriber subscriber;
 
 	@Before
 	public void setUp() throws Exception {
@@ -26,7 +28,9 @@ public class GameTest {
 		board = new TestBoard();
 		playerOne = new TestPlayer('X', board);
 		playerTwo = new TestPlayer('O', board);
-		game = new TestGame(board, playerOne, playerTwo);
+		game = new Game(board, playerOne, playerTwo);
+		subscriber = new TestSubscriber();
+		game.subscribe(subscriber);
 	}
 
 	private void setUpPlayerMoves() {
@@ -38,28 +42,60 @@ public class GameTest {
 	public void boardEnds() throws Exception {
 		board.turnsToRun = 0;
 		game.start();
-		assertTrue(game.printEndStatusCalled);
+		assertEquals(Arrays.asList("GAME_ENDED"), subscriber.eventsReceived);
 	}
 
 	@Test
-	public void oneTurn_printBoardStatusOnce() throws Exception {
+	public void oneTurn_publishTurnChangedOnce() throws Exception {
 		board.turnsToRun = 1;
 		game.start();
-		assertEquals(1, game.printBoardStatusCount);
+		assertEquals(1, subscriber.countOf(GameEvent.Type.TURN_CHANGED));
 	}
 
 	@Test
-	public void threeTurns_printBoardStatusThrice() throws Exception {
+	public void threeTurns_publishTurnChangedThrice() throws Exception {
 		board.turnsToRun = 3;
 		game.start();
-		assertEquals(3, game.printBoardStatusCount);
+		assertEquals(3, subscriber.countOf(GameEvent.Type.TURN_CHANGED));
 	}
 
 	@Test
-	public void printTurnPlayer() throws Exception {
+	public void publishTurnPlayer() throws Exception {
 		board.turnsToRun = 1;
 		game.start();
-		assertEquals(playerOne, game.lastPlayerPrinted);
+		assertEquals("TURN_CHANGEDX", subscriber.eventsReceived.get(0));
+	}
+
+	@Test
+	public void publishEventsInGameOrder() throws Exception {
+		board.turnsToRun = 2;
+		game.start();
+		assertEquals(Arrays.asList("TURN_CHANGEDX", "MOVE_MADE1X", "TURN_CHANGEDO", "MOVE_MADE3O", "GAME_ENDED"),
+				subscriber.eventsReceived);
+	}
+
+	@Test
+	public void moveMade_shouldCarrySnapshotOfCells() throws Exception {
+		board.turnsToRun = 2;
+		game.start();
+		assertEquals('X', subscriber.lastMoveCells[1]);
+		assertEquals('O', subscriber.lastMoveCells[3]);
+		board.cells[5] = 'X';
+		assertEquals(0, subscriber.lastMoveCells[5]);
+	}
+
+	@Test
+	public void asyncSubscriber_shouldReceiveAllEventsInOrderBeforeGameReturns() throws Exception {
+		board.turnsToRun = 5;
+		TestSubscriber asyncSubscriber = new TestSubscriber();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			game.subscribeAsync(asyncSubscriber, executor);
+			game.start();
+			assertEquals(subscriber.eventsReceived, asyncSubscriber.eventsReceived);
+		} finally {
+			executor.shutdownNow();
+		}
 	}
 
 	@Test
@@ -71,43 +107,75 @@ public class GameTest {
 		assertEquals(Arrays.asList(1, 3, 2, 4, 5), board.markedPositionsInOrder);
 	}
 
-	private static class TestGame extends Game {
-		Player lastPlayerPrinted;
-		int printBoardStatusCount;
-		boolean printEndStatusCalled;
+	@Test
+	public void listener_shouldBeNotifiedOfEachMoveAndEnd() throws Exception {
+		board.turnsToRun = 5;
+		TestGameListener listener = new TestGameListener();
+		game.addGameListener(listener);
+		game.start();
+		assertEquals(Arrays.asList("1X", "3O", "2X", "4O", "5X"), listener.movesMade);
+		assertEquals(board, listener.endedBoard);
+	}
 
-		public TestGame(Board board, Player playerOne, Player playerTwo) {
-			super(board, playerOne, playerTwo);
-		}
+	private static class TestGameListener implements GameListener {
+		List<String> movesMade = new ArrayList<>();
+		Board endedBoard;
 
 		@Override
-		public void displayBoardStatus() {
-			this.printBoardStatusCount++;
+		public void moveMade(int position, char marker) {
+			movesMade.add("" + position + marker);
 		}
 
 		@Override
-		public void displayCurrentTurn(Player currentPlayer) {
-			this.lastPlayerPrinted = currentPlayer;
+		public void gameEnded(Board board) {
+			endedBoard = board;
 		}
+	}
+
+	private static class TestSubscriber implements GameEventSubscriber {
+		List<String> eventsReceived = new ArrayList<>();
+		char[] lastMoveCells;
 
 		@Override
-		public void displayEndStatus() {
-			this.printEndStatusCalled = true;
+		public void onEvent(GameEvent event) {
+			if (event.type == GameEvent.Type.GAME_ENDED) {
+				eventsReceived.add(event.type.name());
+			} else if (event.type == GameEvent.Type.MOVE_MADE) {
+				eventsReceived.add(event.type.name() + event.position + event.marker);
+				lastMoveCells = event.cells;
+			} else {
+				eventsReceived.add(event.type.name() + event.marker);
+			}
+		}
+
+		int countOf(GameEvent.Type type) {
+			int count = 0;
+			for (String event : eventsReceived) {
+				if (event.startsWith(type.name()))
+					count++;
+			}
+			return count;
 		}
 	}
 
 	private static class TestBoard implements Board {
 		int turnsToRun;
 		private List<Integer> markedPositionsInOrder = new ArrayList<>();
+		private char[] cells = new char[9];
 
 		@Override
 		public char[] getStatus() {
-			return null;
+			return cells.clone();
 		}
 
 		@Override
 		public void mark(int position, char playerMark) {
 			markedPositionsInOrder.add(position);
+			cells[position] = playerMark;
+		}
+
+		@Override
+		public void unmark(int position) {
 		}
 
 		@Override
@@ -142,7 +210,12 @@ public class GameTest {
 
 		@Override
 		public boolean isMarked(int i) {
-			return false;
+			return cells[i] != 0;
+		}
+
+		@Override
+		public int winLength() {
+			return 0;
 		}
 
 		@Override
@@ -154,5 +227,15 @@ public class GameTest {
 		public List<Integer> possibleMoves() {
 			return null;
 		}
+
+		@Override
+		public int possibleMoves(int[] moves) {
+			return 0;
+		}
+
+		@Override
+		public long hash() {
+			return 0;
+		}
 	}
 }
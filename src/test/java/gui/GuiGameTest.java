@@ -2,6 +2,7 @@ package gui;
 
 import boards.ThreeByThreeBoard;
 import game.Board;
+import game.GameEvent;
 import game.TestPlayer;
 import org.junit.Before;
 import org.junit.Test;
@@ -31,24 +32,24 @@ public class GuiGameTest {
     }
 
     @Test
-    public void displayBoardStatus_shouldViewDisplayBoardWithEmptyCells() {
-        game.displayBoardStatus();
+    public void turnChanged_shouldViewDisplayBoardWithEmptyCells() {
+        game.display(turnChanged());
 
         assertCellsHaveMarker(" ", IntStream.range(0, 9).toArray());
     }
 
     @Test
-    public void displayBoardStatus_shouldViewDisplayBoardWithMarkedCells() {
+    public void turnChanged_shouldViewDisplayBoardWithMarkedCells() {
         markBoardAtPositions('X', 0, 1, 2);
 
-        game.displayBoardStatus();
+        game.display(turnChanged());
 
         assertCellsHaveMarker("X", 0, 1, 2);
     }
 
     @Test
-    public void displayBoardStatus_shouldSetActionHandlerOnCells() {
-        game.displayBoardStatus();
+    public void turnChanged_shouldSetActionHandlerOnCells() {
+        game.display(turnChanged());
 
         DisplayBoard displayBoard = mockView.displayBoard;
         for (DisplayCell cell : displayBoard.cells) {
@@ -59,17 +60,17 @@ public class GuiGameTest {
     }
 
     @Test
-    public void displayBoardStatus_whenCellAlreadyMarked_shouldHaveNullActionHandler() {
+    public void turnChanged_whenCellAlreadyMarked_shouldHaveNullActionHandler() {
         board.mark(0, 'X');
-        game.displayBoardStatus();
+        game.display(turnChanged());
 
         DisplayCell displayCell = mockView.displayBoard.cells.get(0);
         assertNull(displayCell.actionHandler);
     }
 
     @Test
-    public void displayBoardStatus_whenCellActivatedAndMoveIsStillOnQueue_shouldThrowException() {
-        game.displayBoardStatus();
+    public void turnChanged_whenCellActivatedAndMoveIsStillOnQueue_shouldThrowException() {
+        game.display(turnChanged());
 
         try {
             DisplayCell displayCell = mockView.displayBoard.cells.get(0);
@@ -83,43 +84,61 @@ public class GuiGameTest {
     }
 
     @Test
-    public void displayCurrentTurn_shouldDelegateMarkerToView() {
-        game.displayCurrentTurn(player);
+    public void turnChanged_shouldDelegateMarkerToView() {
+        game.display(turnChanged());
 
         assertEquals("X", mockView.displayedMarker);
     }
 
     @Test
-    public void displayEndStatus_shouldDelegateWinnerToView() {
+    public void gameEnded_shouldDelegateWinnerToView() {
         markBoardAtPositions('X', 0, 1, 2);
         markBoardAtPositions('O', 3, 4);
 
-        game.displayEndStatus();
+        game.display(gameEnded());
 
         assertEquals("X", mockView.displayedWinner);
     }
 
     @Test
-    public void displayEndStatus_shouldDelegateDrawStatusToView() {
+    public void gameEnded_shouldDelegateDrawStatusToView() {
         markBoardAtPositions('X', 0, 1, 4, 5, 6);
         markBoardAtPositions('O', 2, 3, 7, 8);
 
-        game.displayEndStatus();
+        game.display(gameEnded());
 
         assertTrue(mockView.displayDrawCalled);
     }
 
     @Test
-    public void displayEndStatus_shouldDisplayEndStatusBoard() {
+    public void gameEnded_shouldDisplayEndStatusBoard() {
         markBoardAtPositions('X', 0, 1, 4, 5, 6);
         markBoardAtPositions('O', 2, 3, 7, 8);
 
-        game.displayEndStatus();
+        game.display(gameEnded());
 
         assertCellsHaveMarker("X", 0, 1, 4, 5, 6);
         assertCellsHaveMarker("O", 2, 3, 7, 8);
     }
 
+    @Test
+    public void moveMade_shouldNotUpdateView() {
+        board.mark(0, 'X');
+
+        game.display(GameEvent.moveMade(0, 'X', board.getStatus(), board.size()));
+
+        assertNull(mockView.displayBoard);
+    }
+
+    private GameEvent turnChanged() {
+        return GameEvent.turnChanged(player.getMarker(), board.getStatus(), board.size());
+    }
+
+    private GameEvent gameEnded() {
+        char winner = board.hasWinner() ? board.getWinner() : 0;
+        return GameEvent.gameEnded(winner, board.getStatus(), board.size());
+    }
+
     private void assertCellsHaveMarker(String expectedMarker, int... expectedPositions) {
         DisplayBoard displayBoard = mockView.displayBoard;
         for (DisplayCell cell: displayBoard.cells) {
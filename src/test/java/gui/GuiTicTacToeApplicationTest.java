@@ -2,6 +2,7 @@ package gui;
 
 import application.MockPlayerFactory;
 import application.PlayerNumber;
+import boards.NByNBoard;
 import boards.ThreeByThreeBoard;
 import org.junit.Before;
 import org.junit.Test;
@@ -72,13 +73,28 @@ public class GuiTicTacToeApplicationTest {
         playerTypeQueue.add("computer");
         mockPlayerFactory.playerMovesQueue.addAll(Arrays.asList(new int[0], new int[0]));
 
-        application.configurePlayer(PlayerNumber.ONE, null);
-        application.configurePlayer(PlayerNumber.TWO, null);
+        ThreeByThreeBoard board = new ThreeByThreeBoard();
+        application.configurePlayer(PlayerNumber.ONE, board);
+        application.configurePlayer(PlayerNumber.TWO, board);
 
         assertEquals("guiHuman", mockPlayerFactory.playerTypesCreated.get(0));
         assertEquals("computer", mockPlayerFactory.playerTypesCreated.get(1));
     }
 
+    @Test
+    public void configurePlayer_onLargerBoard_shouldCreateTimeBoundedComputer() {
+        playerTypeQueue.add("guiHuman");
+        playerTypeQueue.add("computer");
+        mockPlayerFactory.playerMovesQueue.addAll(Arrays.asList(new int[0], new int[0]));
+
+        NByNBoard board = new NByNBoard(4, 4, 4);
+        application.configurePlayer(PlayerNumber.ONE, board);
+        application.configurePlayer(PlayerNumber.TWO, board);
+
+        assertEquals("guiHuman", mockPlayerFactory.playerTypesCreated.get(0));
+        assertEquals("timedComputer", mockPlayerFactory.playerTypesCreated.get(1));
+    }
+
     @Test
     public void configurePlayer_shouldCreatePlayerWithCorrectMarkersAndBoard() {
         playerTypeQueue.add("guiHuman");
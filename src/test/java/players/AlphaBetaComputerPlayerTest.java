@@ -0,0 +1,45 @@
+package players;
+
+import boards.ThreeByThreeBoard;
+import game.Board;
+import game.Player;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class AlphaBetaComputerPlayerTest extends ComputerPlayerTest {
+    @Override
+    protected Player createComputer(char marker, Board board, char opponentMarker) {
+        return new AlphaBetaComputerPlayer(marker, board, opponentMarker, new TranspositionTable());
+    }
+
+    @Test
+    public void shouldSelectSameMovesAsComputerPlayer_forAllTwoMoveOpenings() {
+        for (int first = 0; first < 9; first++) {
+            for (int second = 0; second < 9; second++) {
+                if (first != second)
+                    assertSameMoveAsComputerPlayer(first, second);
+            }
+        }
+    }
+
+    private void assertSameMoveAsComputerPlayer(int first, int second) {
+        Board expectedBoard = openingBoard(first, second);
+        Board actualBoard = openingBoard(first, second);
+        Board actualBoardWithTable = openingBoard(first, second);
+
+        new ComputerPlayer('X', expectedBoard, 'O').makeMove();
+        new AlphaBetaComputerPlayer('X', actualBoard, 'O').makeMove();
+        new AlphaBetaComputerPlayer('X', actualBoardWithTable, 'O', new TranspositionTable()).makeMove();
+
+        assertArrayEquals(expectedBoard.getStatus(), actualBoard.getStatus());
+        assertArrayEquals(expectedBoard.getStatus(), actualBoardWithTable.getStatus());
+    }
+
+    private Board openingBoard(int first, int second) {
+        Board board = new ThreeByThreeBoard();
+        board.mark(first, 'X');
+        board.mark(second, 'O');
+        return board;
+    }
+}
@@ -0,0 +1,96 @@
+package players;
+
+import boards.ThreeByThreeBoard;
+import game.Board;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AlphaBetaSearchTest {
+    private Board board;
+    private AlphaBetaSearch search;
+
+    @Before
+    public void setUp() throws Exception {
+        board = new ThreeByThreeBoard();
+        search = new AlphaBetaSearch('O', 'X');
+    }
+
+    @Test
+    public void emptyBoard_shouldScoreDraw() {
+        SearchResult result = search.search(board);
+
+        assertEquals(ComputerPlayer.DRAW_VALUE, result.score);
+    }
+
+    @Test
+    public void emptyBoard_shouldVisitAnOrderOfMagnitudeFewerNodesThanMinimax() {
+        List<SearchStatistics> minimaxStatistics = new ArrayList<>();
+        ComputerPlayer minimax = new ComputerPlayer('O', new ThreeByThreeBoard(), 'X');
+        minimax.addSearchListener(minimaxStatistics::add);
+        minimax.makeMove();
+
+        search.search(board);
+
+        long minimaxNodes = minimaxStatistics.get(0).nodes;
+        long alphaBetaNodes = search.lastStatistics().nodes;
+        assertTrue("alpha-beta visited " + alphaBetaNodes + " of minimax's " + minimaxNodes + " nodes",
+                alphaBetaNodes * 10 <= minimaxNodes);
+    }
+
+    @Test
+    public void winMoveAvailable_shouldScoreImmediateWin() {
+        setupBoard('X', 'O', ' ',
+                   'X', 'O', ' ',
+                   ' ', ' ', ' ');
+
+        SearchResult result = search.search(board);
+
+        assertEquals(7, result.move);
+        assertEquals(ComputerPlayer.WIN_VALUE, result.score);
+    }
+
+    @Test
+    public void opponentHasDoubleWinTrap_shouldScoreLossAfterOpponentMove() {
+        setupBoard('X', ' ', ' ',
+                   ' ', 'O', ' ',
+                   'X', ' ', 'X');
+
+        SearchResult result = search.search(board);
+
+        assertEquals(ComputerPlayer.LOSE_VALUE + 1, result.score);
+    }
+
+    @Test
+    public void search_shouldLeaveBoardUnchanged() {
+        setupBoard('X', ' ', ' ',
+                   ' ', ' ', ' ',
+                   ' ', ' ', ' ');
+        char[] statusBeforeSearch = board.getStatus();
+
+        search.search(board);
+
+        assertArrayEquals(statusBeforeSearch, board.getStatus());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void endedBoard_shouldThrowException() {
+        setupBoard('X', 'X', 'X',
+                   'O', 'O', ' ',
+                   ' ', ' ', ' ');
+
+        search.search(board);
+    }
+
+    private void setupBoard(char... cells) {
+        for (int i = 0; i < cells.length; i++)
+            if (cells[i] != ' ')
+                board.mark(i, cells[i]);
+    }
+}
@@ -0,0 +1,66 @@
+package players;
+
+import boards.ThreeByThreeBoard;
+import game.AsyncGame;
+import game.Board;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class AsyncComputerPlayerTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void selectMove_shouldMatchComputerPlayer() throws Exception {
+        Board board = new ThreeByThreeBoard();
+        board.mark(0, 'X');
+        Board expectedBoard = board.copy();
+        new ComputerPlayer('O', expectedBoard, 'X').makeMove();
+
+        int move = new AsyncComputerPlayer('O', board, 'X', executor).selectMove().get(5, TimeUnit.SECONDS);
+
+        board.mark(move, 'O');
+        assertArrayEquals(expectedBoard.getStatus(), board.getStatus());
+    }
+
+    @Test
+    public void selectMove_shouldNotModifyBoard() throws Exception {
+        Board board = new ThreeByThreeBoard();
+        board.mark(4, 'X');
+
+        new AsyncComputerPlayer('O', board, 'X', executor).selectMove().get(5, TimeUnit.SECONDS);
+
+        assertEquals(8, board.possibleMoves().size());
+    }
+
+    @Test
+    public void manyGamesOnFewThreads_shouldAllEndInDraws() throws Exception {
+        List<CompletableFuture<Board>> games = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Board board = new ThreeByThreeBoard();
+            games.add(new AsyncGame(board,
+                    new AsyncComputerPlayer('X', board, 'O', executor),
+                    new AsyncComputerPlayer('O', board, 'X', executor)).start());
+        }
+
+        CompletableFuture.allOf(games.toArray(new CompletableFuture<?>[0])).get(60, TimeUnit.SECONDS);
+
+        for (CompletableFuture<Board> game : games)
+            assertFalse(game.get().hasWinner());
+    }
+}
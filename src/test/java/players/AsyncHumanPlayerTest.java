@@ -0,0 +1,70 @@
+package players;
+
+import boards.ThreeByThreeBoard;
+import game.AsyncGame;
+import game.Board;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncHumanPlayerTest {
+    private Board board;
+    private AsyncHumanPlayer player;
+
+    @Before
+    public void setUp() throws Exception {
+        board = new ThreeByThreeBoard();
+        player = new AsyncHumanPlayer('X', board);
+    }
+
+    @Test
+    public void submitMove_shouldCompleteRequestedMove() throws Exception {
+        CompletableFuture<Integer> move = player.selectMove();
+        assertTrue(player.isAwaitingMove());
+
+        player.submitMove(4);
+
+        assertEquals(4, (int) move.get());
+        assertFalse(player.isAwaitingMove());
+    }
+
+    @Test
+    public void humansGame_shouldAdvanceOnlyWhenMovesAreSubmitted() throws Exception {
+        AsyncHumanPlayer playerTwo = new AsyncHumanPlayer('O', board);
+        CompletableFuture<Board> game = new AsyncGame(board, player, playerTwo).start();
+
+        player.submitMove(0);
+        playerTwo.submitMove(3);
+        player.submitMove(1);
+        playerTwo.submitMove(4);
+        assertFalse(game.isDone());
+        player.submitMove(2);
+
+        assertTrue(game.isDone());
+        assertEquals('X', game.get().getWinner());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void submitMoveWithoutRequest_shouldThrowException() {
+        player.submitMove(0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void selectMoveTwice_shouldThrowException() {
+        player.selectMove();
+        player.selectMove();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void submitInvalidMove_shouldThrowException() {
+        board.mark(0, 'O');
+        player.selectMove();
+
+        player.submitMove(0);
+    }
+}
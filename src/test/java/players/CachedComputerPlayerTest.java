@@ -0,0 +1,59 @@
+package players;
+
+import boards.ThreeByThreeBoard;
+import game.Board;
+import game.Player;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CachedComputerPlayerTest extends ComputerPlayerTest {
+    private final EvaluationCache cache = new EvaluationCache(1 << 12);
+
+    @Override
+    protected Player createComputer(char marker, Board board, char opponentMarker) {
+        return new ComputerPlayer(marker, board, opponentMarker, null, cache);
+    }
+
+    @Test
+    public void playersSharingCache_shouldReuseEachOthersEvaluations() {
+        EvaluationCache sharedCache = new EvaluationCache(1 << 16);
+        Board board = new ThreeByThreeBoard();
+        new ComputerPlayer('X', board, 'O', null, sharedCache).makeMove();
+        long hitsAfterFirstPlayer = sharedCache.hits();
+        long missesAfterFirstPlayer = sharedCache.misses();
+
+        new ComputerPlayer('O', board, 'X', null, sharedCache).makeMove();
+
+        assertTrue(missesAfterFirstPlayer > 0);
+        assertTrue(sharedCache.hits() > hitsAfterFirstPlayer);
+        assertEquals(missesAfterFirstPlayer, sharedCache.misses());
+    }
+
+    @Test
+    public void secondGame_shouldBeServedFromCacheFilledByFirstGame() {
+        EvaluationCache sharedCache = new EvaluationCache(1 << 16);
+        Board firstGameBoard = playComputerVsComputer(sharedCache);
+        long hitsAfterFirstGame = sharedCache.hits();
+        long missesAfterFirstGame = sharedCache.misses();
+
+        Board secondGameBoard = playComputerVsComputer(sharedCache);
+
+        assertTrue(sharedCache.hits() > hitsAfterFirstGame);
+        assertEquals(missesAfterFirstGame, sharedCache.misses());
+        assertEquals(new String(firstGameBoard.getStatus()), new String(secondGameBoard.getStatus()));
+    }
+
+    private Board playComputerVsComputer(EvaluationCache sharedCache) {
+        Board board = new ThreeByThreeBoard();
+        Player playerOne = new ComputerPlayer('X', board, 'O', null, sharedCache);
+        Player playerTwo = new ComputerPlayer('O', board, 'X', null, sharedCache);
+        while (!board.hasEnded()) {
+            playerOne.makeMove();
+            if (!board.hasEnded())
+                playerTwo.makeMove();
+        }
+        return board;
+    }
+}
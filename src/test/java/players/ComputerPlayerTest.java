@@ -2,6 +2,7 @@ package players;
 
 import game.Board;
 import game.Player;
+import boards.BitBoard;
 import boards.ThreeByThreeBoard;
 import org.junit.After;
 import org.junit.Before;
@@ -17,7 +18,11 @@ public class ComputerPlayerTest {
     @Before
     public void setUp() throws Exception {
         board = new ThreeByThreeBoard();
-        computer = new ComputerPlayer('O', board, 'X');
+        computer = createComputer('O', board, 'X');
+    }
+
+    protected Player createComputer(char marker, Board board, char opponentMarker) {
+        return new ComputerPlayer(marker, board, opponentMarker);
     }
 
     @After
@@ -131,7 +136,7 @@ public class ComputerPlayerTest {
 
     @Test
     public void computerWithMarkerX_shouldProlongLosingGame() {
-        computer = new ComputerPlayer('X', board, 'O');
+        computer = createComputer('X', board, 'O');
         setupBoard(' ', 'O', ' ',
                    ' ', ' ', 'O',
                    'X', 'X', 'O');
@@ -139,6 +144,27 @@ public class ComputerPlayerTest {
         assertEquals('X', board.getStatus()[2]);
     }
 
+    @Test
+    public void makeMove_shouldOnlyLeaveSelectedMoveOnBoard() {
+        setupBoard('X', ' ', ' ',
+                   ' ', ' ', ' ',
+                   ' ', ' ', ' ');
+        computer.makeMove();
+        assertEquals(7, board.possibleMoves().size());
+        assertFalse(board.hasEnded());
+    }
+
+    @Test
+    public void bitBoard_shouldSelectSameMovesAsThreeByThreeBoard() {
+        board = new BitBoard();
+        computer = createComputer('O', board, 'X');
+        setupBoard('X', ' ', ' ',
+                   ' ', ' ', ' ',
+                   ' ', ' ', ' ');
+        computer.makeMove();
+        assertEquals('O', board.getStatus()[4]);
+    }
+
     private void setupBoard(char... cells) {
         for (int i = 0; i < cells.length; i++)
             if (cells[i] != ' ')
@@ -35,6 +35,13 @@ public class DefaultPlayerFactoryTest {
         assertEquals('X', player.getMarker());
     }
 
+    @Test
+    public void createRandomPlayer() {
+        Player player = playerFactory.createPlayer("random", 'X', board, 'O');
+        assertTrue(player instanceof RandomPlayer);
+        assertEquals('X', player.getMarker());
+    }
+
     @Test
     public void createComputerPlayer() {
         Player player = playerFactory.createPlayer("computer", 'X', board, 'O');
@@ -42,8 +49,81 @@ public class DefaultPlayerFactoryTest {
         assertEquals('X', player.getMarker());
     }
 
+    @Test
+    public void createAlphaBetaComputerPlayer() {
+        Player player = playerFactory.createPlayer("alphaBetaComputer", 'X', board, 'O');
+        assertTrue(player instanceof AlphaBetaComputerPlayer);
+        assertEquals('X', player.getMarker());
+    }
+
+    @Test
+    public void explicitCacheWithoutStatistics_shouldNotTouchSharedState() {
+        EvaluationCache cache = new EvaluationCache(1 << 10);
+        PlayerFactory isolatedFactory = new DefaultPlayerFactory(null, null, null, null, cache, false);
+        long sharedLookups = EvaluationCache.shared().hits() + EvaluationCache.shared().misses();
+        long publishedMoves = SearchMetrics.forPlayerType("alphaBetaComputer").getMoves();
+
+        isolatedFactory.createPlayer("alphaBetaComputer", 'X', board, 'O').makeMove();
+
+        assertTrue(cache.misses() > 0);
+        assertEquals(sharedLookups, EvaluationCache.shared().hits() + EvaluationCache.shared().misses());
+        assertEquals(publishedMoves, SearchMetrics.forPlayerType("alphaBetaComputer").getMoves());
+    }
+
+    @Test
+    public void createParallelComputerPlayer() {
+        Player player = playerFactory.createPlayer("parallelComputer", 'X', board, 'O');
+        assertTrue(player instanceof ParallelComputerPlayer);
+        assertEquals('X', player.getMarker());
+    }
+
+    @Test
+    public void createPerfectPlayComputerPlayer() {
+        Player player = playerFactory.createPlayer("perfectComputer", 'X', board, 'O');
+        assertTrue(player instanceof PerfectPlayComputerPlayer);
+        assertEquals('X', player.getMarker());
+    }
+
+    @Test
+    public void createTimedComputerPlayer() {
+        Player player = playerFactory.createPlayer("timedComputer", 'X', board, 'O');
+        assertTrue(player instanceof TimedComputerPlayer);
+        assertEquals('X', player.getMarker());
+    }
+
+    @Test
+    public void createTimedComputerPlayer_withBudget() {
+        Player player = playerFactory.createPlayer("timedComputer:250", 'O', board, 'X');
+        assertTrue(player instanceof TimedComputerPlayer);
+        assertEquals('O', player.getMarker());
+    }
+
+    @Test
+    public void createMctsComputerPlayer() {
+        Player player = playerFactory.createPlayer("mctsComputer", 'X', board, 'O');
+        assertTrue(player instanceof MctsComputerPlayer);
+        assertEquals('X', player.getMarker());
+    }
+
+    @Test
+    public void createMctsComputerPlayer_withBudget() {
+        Player player = playerFactory.createPlayer("mctsComputer:250", 'O', board, 'X');
+        assertTrue(player instanceof MctsComputerPlayer);
+        assertEquals('O', player.getMarker());
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void invalidType_shouldThrowException() {
         playerFactory.createPlayer("invalidType", 'X', board, 'O');
     }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void timedComputerWithInvalidBudget_shouldThrowException() {
+        playerFactory.createPlayer("timedComputer:soon", 'X', board, 'O');
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mctsComputerWithInvalidBudget_shouldThrowException() {
+        playerFactory.createPlayer("mctsComputer:0", 'X', board, 'O');
+    }
 }
@@ -0,0 +1,150 @@
+package players;
+
+import boards.ThreeByThreeBoard;
+import game.Board;
+import game.Player;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EvaluationCacheTest {
+    @Test
+    public void storedValue_shouldBeAdjustedForDepth() {
+        EvaluationCache cache = new EvaluationCache(16);
+        cache.store(42L, ComputerPlayer.WIN_VALUE - 5, 3);
+        cache.store(43L, ComputerPlayer.LOSE_VALUE + 4, 3);
+        cache.store(44L, ComputerPlayer.DRAW_VALUE, 3);
+
+        assertEquals(ComputerPlayer.WIN_VALUE - 3, cache.probe(42L, 1));
+        assertEquals(ComputerPlayer.LOSE_VALUE + 2, cache.probe(43L, 1));
+        assertEquals(ComputerPlayer.DRAW_VALUE, cache.probe(44L, 1));
+        assertEquals(3, cache.hits());
+    }
+
+    @Test
+    public void unknownKey_shouldNotBeFound() {
+        EvaluationCache cache = new EvaluationCache(16);
+        cache.store(42L, 7, 0);
+
+        assertEquals(EvaluationCache.NOT_FOUND, cache.probe(42L + 16, 0));
+        assertEquals(EvaluationCache.NOT_FOUND, cache.probe(43L, 0));
+        assertEquals(2, cache.misses());
+    }
+
+    @Test
+    public void collidingKey_shouldReplaceEntry() {
+        EvaluationCache cache = new EvaluationCache(16);
+        cache.store(1L, 7, 0);
+        cache.store(17L, 9, 0);
+
+        assertEquals(EvaluationCache.NOT_FOUND, cache.probe(1L, 0));
+        assertEquals(9, cache.probe(17L, 0));
+    }
+
+    @Test
+    public void capacity_shouldRoundUpToPowerOfTwo() {
+        assertEquals(128, new EvaluationCache(100).capacity());
+    }
+
+    @Test
+    public void clear_shouldRemoveEntriesAndStatistics() {
+        EvaluationCache cache = new EvaluationCache(16);
+        cache.store(42L, 7, 0);
+        cache.probe(42L, 0);
+
+        cache.clear();
+
+        assertEquals(EvaluationCache.NOT_FOUND, cache.probe(42L, 0));
+        assertEquals(0, cache.hits());
+    }
+
+    @Test
+    public void concurrentWriters_shouldNeverReturnAnotherKeysValue() throws Exception {
+        EvaluationCache cache = new EvaluationCache(64);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> workers = new ArrayList<>();
+            for (int worker = 0; worker < 4; worker++) {
+                workers.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 200_000; i++) {
+                        long key = random.nextInt(1024) * 0x9E3779B97F4A7C15L;
+                        if (random.nextBoolean()) {
+                            cache.store(key, valueFor(key), 0);
+                        } else {
+                            int value = cache.probe(key, 0);
+                            if (value != EvaluationCache.NOT_FOUND && value != valueFor(key))
+                                return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> worker : workers)
+                assertTrue(worker.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int valueFor(long key) {
+        return (int) (key >>> 40) % 500;
+    }
+
+    @Test
+    public void sharedCache_shouldServeRepeatedGamesWithSameMoves() {
+        EvaluationCache cache = new EvaluationCache();
+        char[] uncachedGame = playComputerGame(null);
+        char[] firstCachedGame = playComputerGame(cache);
+        long missesAfterFirstGame = cache.misses();
+        char[] secondCachedGame = playComputerGame(cache);
+
+        assertArrayEquals(uncachedGame, firstCachedGame);
+        assertArrayEquals(uncachedGame, secondCachedGame);
+        assertTrue(cache.hits() > 0);
+        assertEquals(missesAfterFirstGame, cache.misses());
+    }
+
+    @Test
+    public void sharedCache_shouldGiveSameMovesToComputerAndAlphaBetaPlayers() {
+        EvaluationCache cache = new EvaluationCache();
+        for (int first = 0; first < 9; first++) {
+            Board expected = new ThreeByThreeBoard();
+            Board fromComputer = new ThreeByThreeBoard();
+            Board fromAlphaBeta = new ThreeByThreeBoard();
+            expected.mark(first, 'X');
+            fromComputer.mark(first, 'X');
+            fromAlphaBeta.mark(first, 'X');
+
+            new ComputerPlayer('O', expected, 'X').makeMove();
+            new ComputerPlayer('O', fromComputer, 'X', null, cache).makeMove();
+            new AlphaBetaComputerPlayer('O', fromAlphaBeta, 'X', new TranspositionTable(), null, cache).makeMove();
+
+            assertArrayEquals(expected.getStatus(), fromComputer.getStatus());
+            assertArrayEquals(expected.getStatus(), fromAlphaBeta.getStatus());
+        }
+    }
+
+    private char[] playComputerGame(EvaluationCache cache) {
+        Board board = new ThreeByThreeBoard();
+        Player playerOne = new ComputerPlayer('X', board, 'O', null, cache);
+        Player playerTwo = new ComputerPlayer('O', board, 'X', null, cache);
+        Player current = playerOne;
+        StringBuilder moves = new StringBuilder();
+        while (!board.hasEnded()) {
+            current.makeMove();
+            moves.append(board.getStatus());
+            current = current == playerOne ? playerTwo : playerOne;
+        }
+        return moves.toString().toCharArray();
+    }
+}
@@ -0,0 +1,126 @@
+package players;
+
+import boards.NByNBoard;
+import boards.ThreeByThreeBoard;
+import game.Board;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class IterativeDeepeningSearchTest {
+    private Board board;
+    private IterativeDeepeningSearch search;
+
+    @Before
+    public void setUp() throws Exception {
+        board = new ThreeByThreeBoard();
+        search = new IterativeDeepeningSearch('O', 'X', 5000);
+    }
+
+    @Test
+    public void emptyBoard_shouldSearchToEndAndScoreDraw() {
+        SearchResult result = search.search(board);
+
+        assertEquals(ComputerPlayer.DRAW_VALUE, result.score);
+        assertEquals(9, search.completedDepth());
+    }
+
+    @Test
+    public void winMoveAvailable_shouldStopAtFirstDepth() {
+        setupBoard('X', 'O', ' ',
+                   'X', 'O', ' ',
+                   ' ', ' ', 'X');
+
+        SearchResult result = search.search(board);
+
+        assertEquals(7, result.move);
+        assertTrue(result.score > IterativeDeepeningSearch.MATE_THRESHOLD);
+        assertEquals(1, search.completedDepth());
+    }
+
+    @Test
+    public void opponentWinMoveAvailable_shouldBlock() {
+        setupBoard('X', ' ', ' ',
+                   'X', 'O', ' ',
+                   ' ', ' ', ' ');
+
+        SearchResult result = search.search(board);
+
+        assertEquals(6, result.move);
+    }
+
+    @Test
+    public void search_shouldNotModifyBoard() {
+        setupBoard('X', ' ', ' ',
+                   ' ', 'O', ' ',
+                   ' ', ' ', 'X');
+        char[] before = board.getStatus();
+
+        search.search(board);
+
+        assertArrayEquals(before, board.getStatus());
+    }
+
+    @Test
+    public void expiredBudget_shouldReturnValidMoveFromCompletedDepth() {
+        Board largeBoard = new NByNBoard(7, 7, 5);
+        FakeClock clock = new FakeClock();
+        IterativeDeepeningSearch expiringSearch =
+                new IterativeDeepeningSearch('X', 'O', 10, new TranspositionTable(), clock);
+
+        SearchResult result = expiringSearch.search(largeBoard);
+
+        assertTrue(largeBoard.isValid(result.move));
+        assertTrue(expiringSearch.completedDepth() < 49);
+    }
+
+    @Test
+    public void largeBoard_shouldReturnWithinBudget() {
+        Board largeBoard = new NByNBoard(7, 7, 5);
+        IterativeDeepeningSearch timedSearch = new IterativeDeepeningSearch('X', 'O', 100);
+
+        long start = System.nanoTime();
+        SearchResult result = timedSearch.search(largeBoard);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(largeBoard.isValid(result.move));
+        assertTrue("Search took " + elapsedMillis + "ms", elapsedMillis < 1000);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void endedBoard_shouldThrowException() {
+        setupBoard('X', 'X', 'X',
+                   'O', 'O', ' ',
+                   ' ', ' ', ' ');
+
+        search.search(board);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeBudget_shouldThrowException() {
+        new IterativeDeepeningSearch('X', 'O', -1);
+    }
+
+    private void setupBoard(char... cells) {
+        for (int position = 0; position < cells.length; position++) {
+            if (cells[position] != ' ')
+                board.mark(position, cells[position]);
+        }
+    }
+
+    private static class FakeClock implements LongSupplier {
+        private long nanos;
+
+        @Override
+        public long getAsLong() {
+            nanos += TimeUnit.MILLISECONDS.toNanos(1);
+            return nanos;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package players;
+
+import boards.NByNBoard;
+import boards.ThreeByThreeBoard;
+import game.Board;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LineHeuristicTest {
+    private final LineHeuristic heuristic = new LineHeuristic(3, 3, 3);
+
+    @Test
+    public void emptyBoard_shouldScoreZero() {
+        assertEquals(0, heuristic.valueOf(new char[9], 'X'));
+    }
+
+    @Test
+    public void centre_shouldScoreHigherThanCorner() {
+        char[] centre = new char[9];
+        centre[4] = 'X';
+        char[] corner = new char[9];
+        corner[0] = 'X';
+
+        assertTrue(heuristic.valueOf(centre, 'X') > heuristic.valueOf(corner, 'X'));
+    }
+
+    @Test
+    public void value_shouldBeNegatedForOpponent() {
+        char[] cells = {'X', 'X', 0,
+                        0, 'O', 0,
+                        0, 0, 0};
+
+        assertEquals(-heuristic.valueOf(cells, 'X'), heuristic.valueOf(cells, 'O'));
+    }
+
+    @Test
+    public void blockedLines_shouldNotScore() {
+        char[] cells = {'X', 'O', 'X',
+                        'O', 'X', 'O',
+                        'O', 'X', 'O'};
+
+        assertEquals(0, heuristic.valueOf(cells, 'X'));
+    }
+
+    @Test
+    public void value_shouldBeClampedBelowWinValue() {
+        NByNBoard board = new NByNBoard(9, 9, 9);
+        char[] cells = new char[81];
+        for (int position = 0; position < cells.length; position += 2)
+            cells[position] = 'X';
+
+        assertEquals(LineHeuristic.MAX_VALUE, LineHeuristic.of(board).valueOf(cells, 'X'));
+    }
+
+    @Test
+    public void of_shouldUseBoardDimensionsAndWinLength() {
+        Board board = new ThreeByThreeBoard();
+        board.mark(4, 'X');
+
+        assertEquals(heuristic.valueOf(board.getStatus(), 'X'), LineHeuristic.of(board).valueOf(board.getStatus(), 'X'));
+    }
+}
@@ -0,0 +1,41 @@
+package players;
+
+import boards.NByNBoard;
+import boards.ThreeByThreeBoard;
+import game.Board;
+import game.Player;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class MctsComputerPlayerTest {
+    @Test
+    public void makeMove_shouldMarkExactlyOneCell() {
+        Board board = new NByNBoard(7, 7, 5);
+        Player computer = new MctsComputerPlayer('X', board, 'O', 50);
+
+        computer.makeMove();
+
+        assertEquals(48, board.possibleMoves().size());
+    }
+
+    @Test
+    public void againstPerfectPlay_shouldNotLose() {
+        for (int game = 0; game < 4; game++) {
+            Board board = new ThreeByThreeBoard();
+            Player mcts = new MctsComputerPlayer('X', board,
+                    new MctsSearch('X', 'O', MctsSearch.UNLIMITED_TIME, 20000, new Random(game)));
+            Player perfect = new PerfectPlayComputerPlayer('O', board);
+            Player current = game % 2 == 0 ? mcts : perfect;
+            while (!board.hasEnded()) {
+                current.makeMove();
+                current = current == mcts ? perfect : mcts;
+            }
+
+            assertFalse("Lost game " + game, board.hasWinner() && board.getWinner() == 'O');
+        }
+    }
+}
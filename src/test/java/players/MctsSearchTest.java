@@ -0,0 +1,166 @@
+package players;
+
+import boards.NByNBoard;
+import boards.ThreeByThreeBoard;
+import game.Board;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MctsSearchTest {
+    private static final long SEED = 42;
+    private Board board;
+    private MctsSearch search;
+
+    @Before
+    public void setUp() throws Exception {
+        board = new ThreeByThreeBoard();
+        search = iterationBoundSearch('X', 'O', 5000);
+    }
+
+    @Test
+    public void winMoveAvailable_shouldSelectWinMove() {
+        setupBoard('X', 'O', ' ',
+                   'X', 'O', ' ',
+                   ' ', ' ', ' ');
+
+        SearchResult result = search.search(board);
+
+        assertEquals(6, result.move);
+        assertTrue(result.score > 0);
+    }
+
+    @Test
+    public void opponentWinMoveAvailable_shouldBlock() {
+        setupBoard('X', ' ', ' ',
+                   'O', 'O', ' ',
+                   'X', ' ', ' ');
+
+        assertEquals(5, search.search(board).move);
+    }
+
+    @Test
+    public void search_shouldNotModifyBoard() {
+        setupBoard('X', ' ', ' ',
+                   ' ', 'O', ' ',
+                   ' ', ' ', 'X');
+        char[] before = board.getStatus();
+
+        search.search(board);
+
+        assertArrayEquals(before, board.getStatus());
+    }
+
+    @Test
+    public void iterationBudget_shouldRunExactlyThatManyPlayouts() {
+        search.search(board);
+
+        assertEquals(5000, search.lastIterations());
+        assertEquals(5000, search.rootVisits());
+    }
+
+    @Test
+    public void expiredTimeBudget_shouldStopAndReturnValidMove() {
+        Board largeBoard = new NByNBoard(7, 7, 5);
+        MctsSearch timedSearch = new MctsSearch('X', 'O', 10, MctsSearch.UNLIMITED_ITERATIONS, SEED,
+                MctsSearch.DEFAULT_MAX_NODES, MctsSearch.DEFAULT_EXPLORATION, new FakeClock());
+
+        SearchResult result = timedSearch.search(largeBoard);
+
+        assertTrue(largeBoard.isValid(result.move));
+        assertEquals(10 * 256, timedSearch.lastIterations());
+    }
+
+    @Test
+    public void largeBoard_shouldReturnWithinBudget() {
+        Board largeBoard = new NByNBoard(9, 9, 5);
+        MctsSearch timedSearch = new MctsSearch('X', 'O', 100, MctsSearch.UNLIMITED_ITERATIONS);
+
+        long start = System.nanoTime();
+        SearchResult result = timedSearch.search(largeBoard);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(largeBoard.isValid(result.move));
+        assertTrue(timedSearch.lastIterations() > 0);
+        assertTrue("Search took " + elapsedMillis + "ms", elapsedMillis < 1000);
+    }
+
+    @Test
+    public void nextSearchAfterOpponentReply_shouldReuseSubtree() {
+        Board largeBoard = new NByNBoard(5, 5, 4);
+        MctsSearch reusingSearch = iterationBoundSearch('X', 'O', 3000);
+        largeBoard.mark(reusingSearch.search(largeBoard).move, 'X');
+        largeBoard.mark(largeBoard.possibleMoves().get(0), 'O');
+
+        reusingSearch.search(largeBoard);
+
+        assertTrue(reusingSearch.rootVisits() > reusingSearch.lastIterations());
+    }
+
+    @Test
+    public void unrelatedPosition_shouldStartNewTree() {
+        MctsSearch reusingSearch = iterationBoundSearch('X', 'O', 1000);
+        int move = reusingSearch.search(board).move;
+        board.mark(move, 'O');
+        board.mark(move == 0 ? 1 : 0, 'X');
+
+        reusingSearch.search(board);
+
+        assertEquals(1000, reusingSearch.rootVisits());
+    }
+
+    @Test
+    public void tinyNodeLimit_shouldStillReturnValidMove() {
+        MctsSearch limitedSearch = new MctsSearch('X', 'O', MctsSearch.UNLIMITED_TIME, 2000, SEED,
+                1, MctsSearch.DEFAULT_EXPLORATION, System::nanoTime);
+
+        assertTrue(board.isValid(limitedSearch.search(board).move));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void endedBoard_shouldThrowException() {
+        setupBoard('X', 'X', 'X',
+                   'O', 'O', ' ',
+                   ' ', ' ', ' ');
+
+        search.search(board);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noBudget_shouldThrowException() {
+        new MctsSearch('X', 'O', MctsSearch.UNLIMITED_TIME, MctsSearch.UNLIMITED_ITERATIONS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeTimeBudget_shouldThrowException() {
+        new MctsSearch('X', 'O', -1, 100);
+    }
+
+    private MctsSearch iterationBoundSearch(char marker, char opponentMarker, int iterations) {
+        return new MctsSearch(marker, opponentMarker, MctsSearch.UNLIMITED_TIME, iterations, SEED,
+                MctsSearch.DEFAULT_MAX_NODES, MctsSearch.DEFAULT_EXPLORATION, System::nanoTime);
+    }
+
+    private void setupBoard(char... cells) {
+        for (int position = 0; position < cells.length; position++) {
+            if (cells[position] != ' ')
+                board.mark(position, cells[position]);
+        }
+    }
+
+    private static class FakeClock implements LongSupplier {
+        private long nanos;
+
+        @Override
+        public long getAsLong() {
+            nanos += TimeUnit.MILLISECONDS.toNanos(1);
+            return nanos;
+        }
+    }
+}
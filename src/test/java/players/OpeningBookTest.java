@@ -0,0 +1,154 @@
+package players;
+
+import boards.NByNBoard;
+import boards.ThreeByThreeBoard;
+import game.Board;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class OpeningBookTest {
+    private static final OpeningBook THREE_PLY_BOOK = new OpeningBookBuilder(new ThreeByThreeBoard(), 'X', 'O', 3).build();
+    private Path path;
+
+    @Before
+    public void setUp() throws IOException {
+        path = Files.createTempFile("opening", ".book");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    public void bookMoves_shouldKeepPerfectPlayOutcome() {
+        OpeningBook book = new OpeningBookBuilder(new ThreeByThreeBoard(), 'X', 'O', 9).build();
+        assertKeepsOutcome(book, new ThreeByThreeBoard(), 'X', 'O');
+    }
+
+    private void assertKeepsOutcome(OpeningBook book, Board board, char marker, char opponentMarker) {
+        if (board.hasEnded())
+            return;
+        PerfectPlayTable table = PerfectPlayTable.threeByThree();
+        int move = book.bestMove(board, marker);
+        assertTrue(board.isValid(move));
+        int expectedOutcome = Integer.signum(table.valueOf(board.getStatus(), marker));
+        board.mark(move, marker);
+        int actualOutcome = board.hasWinner() ? 1 : board.hasEnded() ? 0
+                : -Integer.signum(table.valueOf(board.getStatus(), opponentMarker));
+        board.unmark(move);
+        assertEquals(expectedOutcome, actualOutcome);
+
+        for (int next : board.possibleMoves()) {
+            board.mark(next, marker);
+            if (!board.hasEnded()) {
+                for (int reply : board.possibleMoves()) {
+                    board.mark(reply, opponentMarker);
+                    assertKeepsOutcome(book, board, marker, opponentMarker);
+                    board.unmark(reply);
+                }
+            }
+            board.unmark(next);
+        }
+    }
+
+    @Test
+    public void positionsBeyondPlies_shouldHaveNoBookMove() {
+        Board board = new ThreeByThreeBoard();
+        board.mark(0, 'X');
+        board.mark(4, 'O');
+        assertNotEquals(OpeningBook.NO_MOVE, THREE_PLY_BOOK.bestMove(board, 'X'));
+        board.mark(8, 'X');
+
+        assertEquals(OpeningBook.NO_MOVE, THREE_PLY_BOOK.bestMove(board, 'O'));
+    }
+
+    @Test
+    public void wrongSideToMove_shouldHaveNoBookMove() {
+        assertEquals(OpeningBook.NO_MOVE, THREE_PLY_BOOK.bestMove(new ThreeByThreeBoard(), 'O'));
+    }
+
+    @Test
+    public void otherBoardDimensions_shouldHaveNoBookMove() {
+        assertEquals(OpeningBook.NO_MOVE, THREE_PLY_BOOK.bestMove(new NByNBoard(3, 3, 2), 'X'));
+    }
+
+    @Test
+    public void symmetricPositions_shouldGetSymmetricMoves() {
+        Board topLeft = new ThreeByThreeBoard();
+        topLeft.mark(0, 'X');
+        Board bottomRight = new ThreeByThreeBoard();
+        bottomRight.mark(8, 'X');
+
+        assertEquals(4, THREE_PLY_BOOK.bestMove(topLeft, 'O'));
+        assertEquals(4, THREE_PLY_BOOK.bestMove(bottomRight, 'O'));
+    }
+
+    @Test
+    public void writtenBook_shouldLoadLazilyWithSameMoves() throws IOException {
+        new OpeningBookBuilder(new ThreeByThreeBoard(), 'X', 'O', 3).write(path);
+        OpeningBook loaded = OpeningBook.open(path);
+
+        assertEquals(THREE_PLY_BOOK.size(), loaded.size());
+        for (int first = 0; first < 9; first++) {
+            Board board = new ThreeByThreeBoard();
+            board.mark(first, 'X');
+            assertEquals(THREE_PLY_BOOK.bestMove(board, 'O'), loaded.bestMove(board, 'O'));
+        }
+    }
+
+    @Test
+    public void missingBook_shouldOnlyFailOnFirstLookup() throws IOException {
+        Files.delete(path);
+        OpeningBook book = OpeningBook.open(path);
+
+        try {
+            book.bestMove(new ThreeByThreeBoard(), 'X');
+            fail("Expected UncheckedIOException");
+        } catch (UncheckedIOException e) {
+            assertTrue(e.getMessage().startsWith("Unable to load opening book"));
+        }
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void corruptBook_shouldThrowException() throws IOException {
+        Files.write(path, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+        OpeningBook.open(path).size();
+    }
+
+    @Test
+    public void computerPlayers_shouldPlayBookMoveWithoutSearching() {
+        CountingBoard board = new CountingBoard();
+        new ComputerPlayer('X', board, 'O', THREE_PLY_BOOK).makeMove();
+        new AlphaBetaComputerPlayer('O', board, 'X', null, THREE_PLY_BOOK).makeMove();
+
+        assertEquals(2, board.markCount);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativePlies_shouldThrowException() {
+        new OpeningBookBuilder(new ThreeByThreeBoard(), 'X', 'O', -1);
+    }
+
+    private static class CountingBoard extends ThreeByThreeBoard {
+        int markCount;
+
+        @Override
+        public void mark(int position, char playerMark) {
+            markCount++;
+            super.mark(position, playerMark);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package players;
+
+import boards.NByNBoard;
+import boards.ThreeByThreeBoard;
+import game.Board;
+import game.Player;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ParallelComputerPlayerTest extends ComputerPlayerTest {
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Override
+    protected Player createComputer(char marker, Board board, char opponentMarker) {
+        return new ParallelComputerPlayer(marker, board, opponentMarker);
+    }
+
+    @Test
+    public void shouldSelectSameMovesAsComputerPlayer_forAllTwoMoveOpenings() {
+        for (int first = 0; first < 9; first++) {
+            for (int second = 0; second < 9; second++) {
+                if (first != second)
+                    assertSameMoveAsComputerPlayer(first, second);
+            }
+        }
+    }
+
+    private void assertSameMoveAsComputerPlayer(int first, int second) {
+        Board expectedBoard = openingBoard(first, second);
+        Board actualBoard = openingBoard(first, second);
+        Board actualBoardSplitAtEveryNode = openingBoard(first, second);
+
+        new ComputerPlayer('X', expectedBoard, 'O').makeMove();
+        new ParallelComputerPlayer('X', actualBoard, 'O').makeMove();
+        new ParallelComputerPlayer('X', actualBoardSplitAtEveryNode, new ParallelSearch('X', 'O', pool, 0)).makeMove();
+
+        assertArrayEquals(expectedBoard.getStatus(), actualBoard.getStatus());
+        assertArrayEquals(expectedBoard.getStatus(), actualBoardSplitAtEveryNode.getStatus());
+    }
+
+    private Board openingBoard(int first, int second) {
+        Board board = new ThreeByThreeBoard();
+        board.mark(first, 'X');
+        board.mark(second, 'O');
+        return board;
+    }
+
+    @Test
+    public void fourByFour_shouldSelectSameMoveAndScoreAsSequentialSearch() {
+        int[][] openings = {{5}, {0, 5}, {5, 6, 10}, {0, 1, 4, 5}};
+        for (int[] opening : openings) {
+            Board sequentialBoard = fourByFourBoard(opening);
+            Board parallelBoard = fourByFourBoard(opening);
+            char marker = opening.length % 2 == 0 ? 'X' : 'O';
+            char opponentMarker = marker == 'X' ? 'O' : 'X';
+
+            SearchResult expected = new AlphaBetaSearch(marker, opponentMarker, new TranspositionTable()).search(sequentialBoard);
+            SearchResult actual = new ParallelSearch(marker, opponentMarker, pool, 11).search(parallelBoard);
+
+            assertEquals(expected.move, actual.move);
+            assertEquals(expected.score, actual.score);
+        }
+    }
+
+    @Test
+    public void emptyFourByFour_withDefaultThreshold_shouldSplitBelowRootAndMatchSequentialSearch() {
+        for (int winLength = 3; winLength <= 4; winLength++) {
+            Board sequentialBoard = new NByNBoard(4, 4, winLength);
+            Board parallelBoard = new NByNBoard(4, 4, winLength);
+
+            SearchResult expected = new AlphaBetaSearch('X', 'O', new TranspositionTable()).search(sequentialBoard);
+            SearchResult actual = new ParallelSearch('X', 'O', pool, ParallelSearch.DEFAULT_SPLIT_THRESHOLD)
+                    .search(parallelBoard);
+
+            assertEquals(expected.move, actual.move);
+            assertEquals(expected.score, actual.score);
+        }
+    }
+
+    @Test
+    public void consecutiveSearchesOnDifferentBoards_shouldNotReuseEarlierWorkerEntries() {
+        Board[] boards = {openingBoard(0, 4), fourByFourBoard(0, 5), openingBoard(0, 4), fourByFourBoard(0, 5)};
+        for (Board board : boards) {
+            SearchResult expected = new AlphaBetaSearch('X', 'O', new TranspositionTable()).search(board);
+            SearchResult actual = new ParallelSearch('X', 'O', pool, 11).search(board);
+
+            assertEquals(expected.move, actual.move);
+            assertEquals(expected.score, actual.score);
+        }
+    }
+
+    private Board fourByFourBoard(int... opening) {
+        Board board = new NByNBoard(4, 4, 3);
+        for (int i = 0; i < opening.length; i++)
+            board.mark(opening[i], i % 2 == 0 ? 'X' : 'O');
+        return board;
+    }
+
+    @Test
+    public void search_shouldNotModifyBoard() {
+        Board board = openingBoard(0, 4);
+        char[] before = board.getStatus();
+
+        new ParallelSearch('X', 'O', pool, 0).search(board);
+
+        assertArrayEquals(before, board.getStatus());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void endedBoard_shouldThrowException() {
+        Board board = openingBoard(0, 3);
+        board.mark(1, 'X');
+        board.mark(4, 'O');
+        board.mark(2, 'X');
+
+        new ParallelSearch('X', 'O', pool, 0).search(board);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeSplitThreshold_shouldThrowException() {
+        new ParallelSearch('X', 'O', pool, -1);
+    }
+}
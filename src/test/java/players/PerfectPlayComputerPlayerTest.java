@@ -0,0 +1,72 @@
+package players;
+
+import boards.ThreeByThreeBoard;
+import game.Board;
+import game.Player;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class PerfectPlayComputerPlayerTest extends ComputerPlayerTest {
+    @Override
+    protected Player createComputer(char marker, Board board, char opponentMarker) {
+        return new PerfectPlayComputerPlayer(marker, board);
+    }
+
+    @Test
+    public void shouldSelectSameMovesAsComputerPlayer_forAllReachablePositions() {
+        assertSameMovesFromPosition(new ThreeByThreeBoard(), 'X', 'O', new HashSet<>());
+    }
+
+    private void assertSameMovesFromPosition(Board board, char marker, char opponentMarker, Set<String> visited) {
+        if (board.hasEnded() || !visited.add(new String(board.getStatus())))
+            return;
+        assertSameMoveAsComputerPlayer(board, marker, opponentMarker);
+        for (int move : board.possibleMoves()) {
+            board.mark(move, marker);
+            assertSameMovesFromPosition(board, opponentMarker, marker, visited);
+            board.unmark(move);
+        }
+    }
+
+    private void assertSameMoveAsComputerPlayer(Board board, char marker, char opponentMarker) {
+        Board expectedBoard = board.copy();
+        Board actualBoard = board.copy();
+
+        new ComputerPlayer(marker, expectedBoard, opponentMarker).makeMove();
+        new PerfectPlayComputerPlayer(marker, actualBoard).makeMove();
+
+        assertArrayEquals(expectedBoard.getStatus(), actualBoard.getStatus());
+    }
+
+    @Test
+    public void table_emptyBoard_shouldScoreDraw() {
+        assertEquals(ComputerPlayer.DRAW_VALUE, PerfectPlayTable.threeByThree().valueOf(new char[9], 'X'));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void endedBoard_shouldThrowException() {
+        Board board = new ThreeByThreeBoard();
+        board.mark(0, 'X');
+        board.mark(1, 'X');
+        board.mark(2, 'X');
+
+        new PerfectPlayComputerPlayer('O', board).makeMove();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonThreeByThreeBoard_shouldThrowException() {
+        Board board = new ThreeByThreeBoard() {
+            @Override
+            public int size() {
+                return 4;
+            }
+        };
+
+        new PerfectPlayComputerPlayer('O', board);
+    }
+}
@@ -0,0 +1,69 @@
+package players;
+
+import boards.NByNBoard;
+import boards.ThreeByThreeBoard;
+import game.Board;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RandomPlayerTest {
+    @Test
+    public void makeMove_shouldMarkOneEmptyPosition() {
+        Board board = new ThreeByThreeBoard();
+        board.mark(4, 'O');
+
+        new RandomPlayer('X', board).makeMove();
+
+        assertEquals(7, board.possibleMoves().size());
+        assertEquals('O', board.getStatus()[4]);
+    }
+
+    @Test
+    public void sameSeed_shouldMakeSameMoves() {
+        Board boardOne = new NByNBoard(5, 5, 4);
+        Board boardTwo = new NByNBoard(5, 5, 4);
+        RandomPlayer playerOne = new RandomPlayer('X', boardOne, new Random(42));
+        RandomPlayer playerTwo = new RandomPlayer('X', boardTwo, new Random(42));
+
+        for (int i = 0; i < 5; i++) {
+            playerOne.makeMove();
+            playerTwo.makeMove();
+        }
+
+        assertArrayEquals(boardOne.getStatus(), boardTwo.getStatus());
+    }
+
+    @Test
+    public void makeMove_shouldEventuallyChooseEveryEmptyPosition() {
+        Random random = new Random(7);
+        Set<Integer> chosenMoves = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            Board board = new ThreeByThreeBoard();
+            new RandomPlayer('X', board, random).makeMove();
+            for (int position = 0; position < 9; position++) {
+                if (board.isMarked(position))
+                    chosenMoves.add(position);
+            }
+        }
+
+        assertEquals(9, chosenMoves.size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void endedBoard_shouldThrowException() {
+        Board board = new ThreeByThreeBoard();
+        board.mark(0, 'O');
+        board.mark(1, 'O');
+        board.mark(2, 'O');
+        assertTrue(board.hasEnded());
+
+        new RandomPlayer('X', board).makeMove();
+    }
+}
@@ -0,0 +1,141 @@
+package players;
+
+import boards.ThreeByThreeBoard;
+import game.Board;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SearchMetricsTest {
+    @Test
+    public void searchCompleted_shouldAggregateStatistics() {
+        SearchMetrics metrics = new SearchMetrics("computer");
+        metrics.searchCompleted(new SearchStatistics('X', 4, 100, 40, 5, 8, 3, 1, 2000));
+        metrics.searchCompleted(new SearchStatistics('O', 0, 50, 10, 0, 6, 1, 3, 1000));
+
+        assertEquals(2, metrics.getMoves());
+        assertEquals(150, metrics.getNodes());
+        assertEquals(50, metrics.getTerminalNodes());
+        assertEquals(5, metrics.getCutoffs());
+        assertEquals(8, metrics.getMaxDepth());
+        assertEquals(0.5, metrics.getCacheHitRate(), 1e-9);
+        assertEquals(1500, metrics.getAverageNanosPerMove(), 1e-9);
+        assertEquals(2000, metrics.getMaxNanosPerMove());
+        assertEquals(1000, metrics.getLastNanosPerMove());
+        assertEquals(150 * 1e9 / 3000, metrics.getNodesPerSecond(), 1e-3);
+    }
+
+    @Test
+    public void reset_shouldClearStatistics() {
+        SearchMetrics metrics = new SearchMetrics("computer");
+        metrics.searchCompleted(new SearchStatistics('X', 4, 100, 40, 5, 8, 3, 1, 2000));
+
+        metrics.reset();
+
+        assertEquals(0, metrics.getMoves());
+        assertEquals(0, metrics.getMaxDepth());
+        assertEquals(0, metrics.getCacheHitRate(), 1e-9);
+        assertEquals(0, metrics.getAverageNanosPerMove(), 1e-9);
+    }
+
+    @Test
+    public void forPlayerType_shouldRegisterOneMBeanPerType() throws Exception {
+        SearchMetrics metrics = SearchMetrics.forPlayerType("metricsTestPlayer");
+        metrics.searchCompleted(new SearchStatistics('X', 4, 100, 40, 5, 8, 3, 1, 2000));
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertSame(metrics, SearchMetrics.forPlayerType("metricsTestPlayer"));
+        assertEquals(1L, server.getAttribute(SearchMetrics.objectNameOf("metricsTestPlayer"), "Moves"));
+        assertEquals("metricsTestPlayer", server.getAttribute(SearchMetrics.objectNameOf("metricsTestPlayer"), "PlayerType"));
+    }
+
+    @Test
+    public void forPlayerType_whenNameAlreadyRegistered_shouldReplaceExistingMBean() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        server.registerMBean(new SearchMetrics("staleMetricsTestPlayer"), SearchMetrics.objectNameOf("staleMetricsTestPlayer"));
+
+        SearchMetrics metrics = SearchMetrics.forPlayerType("staleMetricsTestPlayer");
+        metrics.searchCompleted(new SearchStatistics('X', 4, 100, 40, 5, 8, 3, 1, 2000));
+
+        assertEquals(1L, server.getAttribute(SearchMetrics.objectNameOf("staleMetricsTestPlayer"), "Moves"));
+    }
+
+    @Test
+    public void computerPlayer_shouldReportEachMove() {
+        Board board = new ThreeByThreeBoard();
+        board.mark(0, 'X');
+        List<SearchStatistics> reported = new ArrayList<>();
+        ComputerPlayer computer = new ComputerPlayer('O', board, 'X');
+        computer.addSearchListener(reported::add);
+
+        computer.makeMove();
+
+        assertEquals(1, reported.size());
+        SearchStatistics statistics = reported.get(0);
+        assertEquals('O', statistics.marker);
+        assertEquals('O', board.getStatus()[statistics.move]);
+        assertTrue(statistics.nodes > statistics.terminalNodes);
+        assertTrue(statistics.terminalNodes > 0);
+        assertEquals(8, statistics.maxDepth);
+        assertEquals(0, statistics.cutoffs);
+        assertTrue(statistics.elapsedNanos > 0);
+    }
+
+    @Test
+    public void computerPlayerWithCache_shouldReportCacheHits() {
+        EvaluationCache cache = new EvaluationCache(1 << 12);
+        List<SearchStatistics> reported = new ArrayList<>();
+        for (int game = 0; game < 2; game++) {
+            Board board = new ThreeByThreeBoard();
+            board.mark(0, 'X');
+            ComputerPlayer computer = new ComputerPlayer('O', board, 'X', null, cache);
+            computer.addSearchListener(reported::add);
+            computer.makeMove();
+        }
+
+        assertTrue(reported.get(0).cacheMisses > 0);
+        assertTrue(reported.get(1).cacheHitRate() > reported.get(0).cacheHitRate());
+        assertTrue(reported.get(1).nodes < reported.get(0).nodes);
+    }
+
+    @Test
+    public void alphaBetaComputerPlayer_shouldReportCutoffs() {
+        Board board = new ThreeByThreeBoard();
+        List<SearchStatistics> reported = new ArrayList<>();
+        AlphaBetaComputerPlayer computer = new AlphaBetaComputerPlayer('X', board, 'O', new TranspositionTable());
+        computer.addSearchListener(reported::add);
+
+        computer.makeMove();
+
+        SearchStatistics statistics = reported.get(0);
+        assertEquals('X', board.getStatus()[statistics.move]);
+        assertTrue(statistics.cutoffs > 0);
+        assertTrue(statistics.cacheHits > 0);
+        assertEquals(9, statistics.maxDepth);
+    }
+
+    @Test
+    public void jfrEvents_shouldBeCommittedWithoutError() {
+        JfrSearchEvents events = new JfrSearchEvents("computer");
+
+        events.searchCompleted(new SearchStatistics('X', 4, 100, 40, 5, 8, 3, 1, 2000));
+
+        assertEquals(classExists("jdk.jfr.EventFactory"), JfrSearchEvents.isAvailable());
+    }
+
+    private static boolean classExists(String name) {
+        try {
+            Class.forName(name);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package players;
+
+import boards.NByNBoard;
+import game.Board;
+import game.Player;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TimedComputerPlayerTest extends ComputerPlayerTest {
+    private static final long BUDGET_MILLIS = 250;
+
+    @Override
+    protected Player createComputer(char marker, Board board, char opponentMarker) {
+        return new TimedComputerPlayer(marker, board, opponentMarker, 5000);
+    }
+
+    @Test
+    public void largeBoard_shouldMoveWithinBudget() {
+        Board board = new NByNBoard(7, 7, 5);
+        Player computer = new TimedComputerPlayer('X', board, 'O', BUDGET_MILLIS);
+
+        long start = System.nanoTime();
+        computer.makeMove();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(48, board.possibleMoves().size());
+        assertTrue("move took " + elapsedMillis + " ms", elapsedMillis < 3 * BUDGET_MILLIS);
+    }
+}
@@ -0,0 +1,137 @@
+package players;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static players.TranspositionTable.EXACT;
+import static players.TranspositionTable.LOWER_BOUND;
+import static players.TranspositionTable.NOT_FOUND;
+import static players.TranspositionTable.NO_MOVE;
+import static players.TranspositionTable.UPPER_BOUND;
+
+public class TranspositionTableTest {
+    private TranspositionTable table;
+
+    @Before
+    public void setUp() throws Exception {
+        table = new TranspositionTable(16);
+    }
+
+    @Test
+    public void probe_emptyTable_shouldNotFindEntry() {
+        assertEquals(NOT_FOUND, table.probe(42L));
+    }
+
+    @Test
+    public void probe_storedKey_shouldReturnStoredEntry() {
+        table.store(42L, -995, 7, LOWER_BOUND, 4);
+
+        long entry = table.probe(42L);
+
+        assertEquals(-995, TranspositionTable.valueOf(entry));
+        assertEquals(7, TranspositionTable.draftOf(entry));
+        assertEquals(LOWER_BOUND, TranspositionTable.boundOf(entry));
+        assertEquals(4, TranspositionTable.bestMoveOf(entry));
+    }
+
+    @Test
+    public void probe_storedWithoutBestMove_shouldReturnNoMove() {
+        table.store(42L, 0, 1, EXACT, NO_MOVE);
+
+        assertEquals(NO_MOVE, TranspositionTable.bestMoveOf(table.probe(42L)));
+    }
+
+    @Test
+    public void probe_shouldCountHitsAndMisses() {
+        table.store(42L, 0, 1, EXACT, 0);
+
+        table.probe(42L);
+        table.probe(42L);
+        table.probe(43L);
+
+        assertEquals(2, table.hits());
+        assertEquals(1, table.misses());
+    }
+
+    @Test
+    public void store_collidingKeyWithSmallerDraft_shouldKeepDeeperEntry() {
+        long key = 3L;
+        long collidingKey = key + table.capacity();
+        table.store(key, 10, 5, EXACT, 1);
+
+        table.store(collidingKey, 20, 4, EXACT, 2);
+
+        assertEquals(10, TranspositionTable.valueOf(table.probe(key)));
+        assertEquals(NOT_FOUND, table.probe(collidingKey));
+    }
+
+    @Test
+    public void store_collidingKeyWithGreaterOrEqualDraft_shouldReplaceEntry() {
+        long key = 3L;
+        long collidingKey = key + table.capacity();
+        table.store(key, 10, 5, EXACT, 1);
+
+        table.store(collidingKey, 20, 5, UPPER_BOUND, 2);
+
+        assertEquals(NOT_FOUND, table.probe(key));
+        assertEquals(20, TranspositionTable.valueOf(table.probe(collidingKey)));
+    }
+
+    @Test
+    public void capacity_shouldRoundUpToPowerOfTwo() {
+        assertEquals(16, new TranspositionTable(9).capacity());
+        assertEquals(16, new TranspositionTable(16).capacity());
+    }
+
+    @Test
+    public void clear_shouldRemoveEntriesAndResetCounters() {
+        table.store(42L, 0, 1, EXACT, 0);
+        table.probe(42L);
+
+        table.clear();
+
+        assertEquals(NOT_FOUND, table.probe(42L));
+        assertEquals(0, table.hits());
+        assertEquals(1, table.misses());
+    }
+
+    @Test
+    public void newGeneration_shouldHideEarlierEntriesAndResetCounters() {
+        table.store(42L, 0, 1, EXACT, 0);
+        table.probe(42L);
+
+        table.newGeneration();
+
+        assertEquals(NOT_FOUND, table.probe(42L));
+        assertEquals(0, table.hits());
+        assertEquals(1, table.misses());
+    }
+
+    @Test
+    public void newGeneration_shouldLetShallowerEntriesReplaceEarlierOnes() {
+        long key = 3L;
+        long collidingKey = key + table.capacity();
+        table.store(key, 10, 5, EXACT, 1);
+
+        table.newGeneration();
+        table.store(collidingKey, 20, 4, EXACT, 2);
+
+        assertEquals(20, TranspositionTable.valueOf(table.probe(collidingKey)));
+    }
+
+    @Test
+    public void newGeneration_afterWrapAround_shouldNotRevealOldEntries() {
+        table.store(42L, 10, 1, EXACT, 0);
+
+        for (int i = 0; i < 256; i++)
+            table.newGeneration();
+
+        assertEquals(NOT_FOUND, table.probe(42L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidCapacity_shouldThrowException() {
+        new TranspositionTable(0);
+    }
+}
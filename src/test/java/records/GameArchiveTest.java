@@ -0,0 +1,190 @@
+package records;
+
+import boards.ThreeByThreeBoard;
+import game.Board;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class GameArchiveTest {
+    private static final GameRecord X_WINS_ACROSS_TOP = new GameRecord(3, 3, 3, 'X', 'O', 'X', new int[]{0, 3, 1, 4, 2});
+    private static final GameRecord O_WINS_DOWN_MIDDLE = new GameRecord(3, 3, 3, 'X', 'O', 'O', new int[]{0, 1, 2, 4, 8, 7});
+    private static final GameRecord DRAW = new GameRecord(3, 3, 3, 'X', 'O', GameRecord.NO_WINNER,
+            new int[]{4, 0, 8, 2, 1, 7, 6, 3, 5});
+    private Path archivePath;
+    private Path indexPath;
+
+    @Before
+    public void setUp() throws IOException {
+        archivePath = Files.createTempFile("archive", ".bin");
+        indexPath = Files.createTempFile("archive", ".idx");
+        Files.delete(archivePath);
+        Files.delete(indexPath);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(archivePath);
+        Files.deleteIfExists(indexPath);
+    }
+
+    @Test
+    public void emptyPosition_shouldCountEveryGame() throws IOException {
+        try (GameArchive archive = new GameArchive(archivePath, indexPath)) {
+            archive.append(X_WINS_ACROSS_TOP);
+            archive.append(O_WINS_DOWN_MIDDLE);
+            archive.append(DRAW);
+            assertEquals(3, archive.update());
+
+            PositionStats stats = archive.statsOf(new char[9], 3, 3);
+            assertEquals(3, stats.games());
+            assertEquals(1, stats.playerOneWins);
+            assertEquals(1, stats.playerTwoWins);
+            assertEquals(1, stats.draws);
+        }
+    }
+
+    @Test
+    public void symmetricPositions_shouldShareStats() throws IOException {
+        try (GameArchive archive = new GameArchive(archivePath, indexPath)) {
+            archive.append(X_WINS_ACROSS_TOP);
+            archive.append(O_WINS_DOWN_MIDDLE);
+            archive.update();
+
+            assertEquals(2, archive.statsOf(cells("X........"), 3, 3).games());
+            assertEquals(2, archive.statsOf(cells("..X......"), 3, 3).games());
+            assertEquals(2, archive.statsOf(cells("........X"), 3, 3).games());
+            assertEquals(0, archive.statsOf(cells("....X...."), 3, 3).games());
+            PositionStats afterReply = archive.statsOf(cells("XX.O....."), 3, 3);
+            assertEquals(1, afterReply.playerOneWins);
+            assertEquals(0, afterReply.playerTwoWins);
+        }
+    }
+
+    @Test
+    public void statsOfBoard_shouldUseBoardDimensions() throws IOException {
+        try (GameArchive archive = new GameArchive(archivePath, indexPath)) {
+            archive.append(DRAW);
+            archive.append(new GameRecord(4, 4, 3, 'X', 'O', 'X', new int[]{0, 15, 1, 14, 2}));
+            archive.update();
+
+            Board board = new ThreeByThreeBoard();
+            board.mark(4, 'X');
+            assertEquals(1, archive.statsOf(board).draws);
+            assertEquals(1, archive.statsOf(new char[16], 4, 3).playerOneWins);
+            assertEquals(0, archive.statsOf(new char[16], 4, 4).games());
+        }
+    }
+
+    @Test
+    public void update_shouldOnlyIndexNewGames() throws IOException {
+        try (GameArchive archive = new GameArchive(archivePath, indexPath)) {
+            archive.append(X_WINS_ACROSS_TOP);
+            assertEquals(1, archive.update());
+            assertEquals(0, archive.update());
+            archive.append(DRAW);
+            assertEquals(1, archive.update());
+
+            assertEquals(2, archive.statsOf(new char[9], 3, 3).games());
+        }
+    }
+
+    @Test
+    public void reopenedArchive_shouldKeepIndexAndContinue() throws IOException {
+        try (GameArchive archive = new GameArchive(archivePath, indexPath)) {
+            archive.append(X_WINS_ACROSS_TOP);
+            archive.update();
+        }
+        try (GameArchive archive = new GameArchive(archivePath, indexPath)) {
+            assertEquals(1, archive.statsOf(new char[9], 3, 3).playerOneWins);
+            archive.append(O_WINS_DOWN_MIDDLE);
+            assertEquals(1, archive.update());
+
+            PositionStats stats = archive.statsOf(new char[9], 3, 3);
+            assertEquals(1, stats.playerOneWins);
+            assertEquals(1, stats.playerTwoWins);
+        }
+    }
+
+    @Test
+    public void manyPositions_shouldGrowIndex() throws IOException {
+        try (GameArchive archive = new GameArchive(archivePath, indexPath)) {
+            for (int first = 0; first < 16; first++) {
+                for (int second = 0; second < 16; second++) {
+                    if (first != second)
+                        archive.append(new GameRecord(4, 4, 4, 'X', 'O', GameRecord.NO_WINNER, new int[]{first, second}));
+                }
+            }
+            assertEquals(240, archive.update());
+
+            assertEquals(240, archive.statsOf(new char[16], 4, 4).draws);
+            assertEquals(4 * 15, archive.statsOf(cells("X..............."), 4, 4).games());
+            assertTrue(archive.positionCount() > 3);
+        }
+    }
+
+    @Test
+    public void smallIndex_shouldGrowPastInitialCapacity() throws IOException {
+        try (PositionIndex index = new PositionIndex(indexPath, 4)) {
+            index.add(DRAW);
+            index.add(X_WINS_ACROSS_TOP);
+
+            assertEquals(1, index.statsOf(new char[9], 3, 3).draws);
+            assertEquals(1, index.statsOf(cells("XXXOO...."), 3, 3).playerOneWins);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void differentMarkers_shouldThrowException() throws IOException {
+        try (PositionIndex index = new PositionIndex(indexPath)) {
+            index.add(DRAW);
+            index.add(new GameRecord(3, 3, 3, 'A', 'B', 'A', new int[]{0, 3, 1, 4, 2}));
+        }
+    }
+
+    @Test
+    public void failedUpdate_shouldKeepGamesIndexedBeforeFailureAndNotCountThemAgain() throws IOException {
+        try (GameArchive archive = new GameArchive(archivePath, indexPath)) {
+            archive.append(X_WINS_ACROSS_TOP);
+            archive.append(DRAW);
+            archive.append(new GameRecord(3, 3, 3, 'A', 'B', 'A', new int[]{0, 3, 1, 4, 2}));
+            for (int attempt = 0; attempt < 2; attempt++) {
+                try {
+                    archive.update();
+                    fail("Should reject record with different markers.");
+                } catch (IllegalArgumentException e) {
+                    assertEquals(2, archive.statsOf(new char[9], 3, 3).games());
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void capacityNotPowerOfTwo_shouldThrowException() throws IOException {
+        new PositionIndex(indexPath, 100);
+    }
+
+    @Test(expected = IOException.class)
+    public void foreignIndexFile_shouldThrowException() throws IOException {
+        Files.write(indexPath, new byte[128]);
+
+        new PositionIndex(indexPath);
+    }
+
+    private static char[] cells(String board) {
+        char[] cells = board.toCharArray();
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] == '.')
+                cells[i] = 0;
+        }
+        return cells;
+    }
+}
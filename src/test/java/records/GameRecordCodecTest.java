@@ -0,0 +1,80 @@
+package records;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+
+public class GameRecordCodecTest {
+    @Test
+    public void threeByThree_shouldPackFourBitsPerMove() {
+        GameRecord record = new GameRecord(3, 3, 3, 'X', 'O', 'X', new int[]{4, 0, 2, 6, 8, 1, 5});
+
+        assertEquals(4, GameRecordCodec.bitsPerMove(9));
+        assertEquals(6 + 1 + 4, GameRecordCodec.encodedSize(record));
+        assertEquals(record, roundTrip(record));
+    }
+
+    @Test
+    public void largerBoard_shouldPackEnoughBitsForEveryCell() {
+        int[] moves = new int[256];
+        for (int i = 0; i < moves.length; i++)
+            moves[i] = 255 - i;
+        GameRecord record = new GameRecord(16, 16, 5, 'A', 'B', GameRecord.NO_WINNER, moves);
+
+        assertEquals(8, GameRecordCodec.bitsPerMove(256));
+        assertEquals(6 + 2 + 256, GameRecordCodec.encodedSize(record));
+        assertEquals(record, roundTrip(record));
+    }
+
+    @Test
+    public void oddBitWidths_shouldRoundTrip() {
+        GameRecord record = new GameRecord(5, 5, 4, 'X', 'O', 'O', new int[]{24, 0, 12, 13, 7, 18, 3});
+
+        assertEquals(5, GameRecordCodec.bitsPerMove(25));
+        assertEquals(record, roundTrip(record));
+    }
+
+    @Test
+    public void encodedSizeAt_shouldReportIncompleteHeader() {
+        GameRecord record = new GameRecord(3, 3, 3, 'X', 'O', 'O', new int[]{0, 4, 1, 2, 3, 6});
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        GameRecordCodec.encode(record, buffer);
+        buffer.flip();
+
+        assertEquals(GameRecordCodec.encodedSize(record), GameRecordCodec.encodedSizeAt(buffer));
+        buffer.limit(5);
+        assertEquals(GameRecordCodec.INCOMPLETE, GameRecordCodec.encodedSizeAt(buffer));
+    }
+
+    @Test(expected = IOException.class)
+    public void wrongMagic_shouldThrowException() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(GameRecordCodec.FILE_HEADER_SIZE);
+        buffer.putInt(0xCAFEBABE).put(GameRecordCodec.VERSION).flip();
+
+        GameRecordCodec.readFileHeader(buffer);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonAsciiMarker_shouldThrowException() {
+        GameRecordCodec.encode(new GameRecord(3, 3, 3, '\u00d7', 'O', GameRecord.NO_WINNER, new int[0]),
+                ByteBuffer.allocate(64));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void winnerNotAPlayer_shouldThrowException() {
+        new GameRecord(3, 3, 3, 'X', 'O', 'Z', new int[0]);
+    }
+
+    private GameRecord roundTrip(GameRecord record) {
+        ByteBuffer buffer = ByteBuffer.allocate(GameRecordCodec.encodedSize(record));
+        GameRecordCodec.encode(record, buffer);
+        assertEquals(0, buffer.remaining());
+        buffer.flip();
+        GameRecord decoded = GameRecordCodec.decode(buffer);
+        assertEquals(0, buffer.remaining());
+        return decoded;
+    }
+}
@@ -0,0 +1,155 @@
+package records;
+
+import boards.ThreeByThreeBoard;
+import game.Board;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import players.PerfectPlayComputerPlayer;
+import players.RandomPlayer;
+import simulation.HeadlessGame;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class GameRecordWriterTest {
+    private Path path;
+
+    @Before
+    public void setUp() throws IOException {
+        path = Files.createTempFile("games", ".bin");
+        Files.delete(path);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    public void writtenRecords_shouldBeReadBackInOrder() throws IOException {
+        List<GameRecord> written = new ArrayList<>();
+        try (GameRecordWriter writer = new GameRecordWriter(path)) {
+            for (int i = 0; i < 3; i++) {
+                GameRecord record = new GameRecord(3, 3, 3, 'X', 'O', GameRecord.NO_WINNER, new int[]{i, 4, 8});
+                writer.write(record);
+                written.add(record);
+            }
+            assertEquals(3, writer.recordsWritten());
+        }
+
+        assertEquals(written, readAll(GameRecordReader.DEFAULT_BUFFER_SIZE));
+    }
+
+    @Test
+    public void reopenedFile_shouldAppendRecords() throws IOException {
+        GameRecord first = new GameRecord(3, 3, 3, 'X', 'O', 'X', new int[]{0, 3, 1, 4, 2});
+        GameRecord second = new GameRecord(4, 4, 3, 'X', 'O', 'O', new int[]{15, 0, 14, 1, 12, 2});
+        try (GameRecordWriter writer = new GameRecordWriter(path)) {
+            writer.write(first);
+        }
+        try (GameRecordWriter writer = new GameRecordWriter(path)) {
+            writer.write(second);
+        }
+
+        List<GameRecord> read = readAll(GameRecordReader.DEFAULT_BUFFER_SIZE);
+        assertEquals(2, read.size());
+        assertEquals(first, read.get(0));
+        assertEquals(second, read.get(1));
+    }
+
+    @Test
+    public void manyRecords_shouldStreamThroughSmallBuffers() throws IOException {
+        Random random = new Random(17);
+        List<GameRecord> written = new ArrayList<>();
+        try (GameRecordWriter writer = new GameRecordWriter(path, 32)) {
+            for (int i = 0; i < 5000; i++) {
+                int width = 3 + random.nextInt(8);
+                int[] moves = new int[random.nextInt(width * width + 1)];
+                for (int m = 0; m < moves.length; m++)
+                    moves[m] = random.nextInt(width * width);
+                GameRecord record = new GameRecord(width, width, 3, 'X', 'O', GameRecord.NO_WINNER, moves);
+                writer.write(record);
+                written.add(record);
+            }
+        }
+
+        assertEquals(written, readAll(16));
+    }
+
+    @Test
+    public void recorder_shouldCaptureGamesPlayed() throws IOException {
+        Board board = new ThreeByThreeBoard();
+        try (GameRecordWriter writer = new GameRecordWriter(path)) {
+            HeadlessGame game = new HeadlessGame(board,
+                    new RandomPlayer('X', board, new Random(3)), new PerfectPlayComputerPlayer('O', board));
+            game.addGameListener(new GameRecorder(writer, 'X', 'O'));
+            game.start();
+        }
+
+        List<GameRecord> read = readAll(GameRecordReader.DEFAULT_BUFFER_SIZE);
+        assertEquals(1, read.size());
+        GameRecord record = read.get(0);
+        assertEquals(3, record.width);
+        assertEquals(3, record.height);
+        assertEquals(board.hasWinner() ? board.getWinner() : GameRecord.NO_WINNER, record.winner);
+        assertArrayEquals(board.getStatus(), record.finalCells());
+    }
+
+    @Test(expected = IOException.class)
+    public void appendingToForeignFile_shouldThrowException() throws IOException {
+        Files.write(path, new byte[]{1, 2, 3, 4, 5, 6});
+
+        new GameRecordWriter(path).close();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void readingPastEnd_shouldThrowException() throws IOException {
+        new GameRecordWriter(path).close();
+
+        try (GameRecordReader reader = new GameRecordReader(path)) {
+            assertFalse(reader.hasNext());
+            reader.next();
+        }
+    }
+
+    @Test
+    public void truncatedRecord_shouldFailToRead() throws IOException {
+        try (GameRecordWriter writer = new GameRecordWriter(path)) {
+            writer.write(new GameRecord(3, 3, 3, 'X', 'O', GameRecord.NO_WINNER, new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8}));
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        byte[] truncated = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        Files.write(path, truncated);
+
+        try (GameRecordReader reader = new GameRecordReader(path)) {
+            assertTrue(reader.hasNext());
+            reader.next();
+            fail("Expected UncheckedIOException");
+        } catch (UncheckedIOException e) {
+            assertTrue(e.getMessage().contains("Truncated game record"));
+        }
+    }
+
+    private List<GameRecord> readAll(int bufferSize) throws IOException {
+        List<GameRecord> read = new ArrayList<>();
+        try (GameRecordReader reader = new GameRecordReader(path, bufferSize)) {
+            while (reader.hasNext())
+                read.add(reader.next());
+        }
+        return read;
+    }
+}
@@ -0,0 +1,179 @@
+package server;
+
+import boards.DefaultBoardFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class GameServerTest {
+    private static final String COMPUTER_VS_COMPUTER_ONCE = "2\n2\nn\n";
+    private GameServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new GameServer(0, new DefaultBoardFactory());
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+    }
+
+    @Test
+    public void session_shouldPlayConsoleGameOverSocket() throws Exception {
+        try (Socket client = connect()) {
+            send(client, COMPUTER_VS_COMPUTER_ONCE);
+
+            String output = readUntilClosed(client);
+
+            assertThat(output, containsString("===== Welcome to Tic-Tac-Toe ====="));
+            assertThat(output, containsString("The game is a Draw!"));
+            assertThat(output, containsString("Would you like to play again (y/n)? "));
+        }
+    }
+
+    @Test
+    public void concurrentSessions_shouldEachPlayTheirOwnGame() throws Exception {
+        List<Socket> clients = new ArrayList<>();
+        try {
+            for (int i = 0; i < 20; i++)
+                clients.add(connect());
+            awaitActiveSessions(20);
+
+            for (Socket client : clients)
+                send(client, "2\n1\n1\n2\n3\n5\n6\nn\n");
+            for (Socket client : clients)
+                assertThat(readUntilClosed(client), containsString("X has Won!"));
+        } finally {
+            for (Socket client : clients)
+                client.close();
+        }
+        awaitActiveSessions(0);
+    }
+
+    @Test
+    public void disconnectedClient_shouldEndSession() throws Exception {
+        Socket client = connect();
+        awaitActiveSessions(1);
+
+        client.close();
+
+        awaitActiveSessions(0);
+    }
+
+    @Test
+    public void close_shouldEndIdleSessions() throws Exception {
+        try (Socket client = connect()) {
+            awaitActiveSessions(1);
+            String prompt = readUntil(client, "type (1 - Human, 2 - Computer): ");
+
+            server.close();
+
+            awaitActiveSessions(0);
+            assertThat(prompt + readUntilClosed(client), containsString("===== Welcome to Tic-Tac-Toe ====="));
+        }
+    }
+
+    @Test
+    public void close_shouldShutDownSessionExecutor() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        GameServer otherServer = new GameServer(0, new DefaultBoardFactory(), executor);
+        otherServer.start();
+
+        otherServer.close();
+
+        assertTrue(executor.isShutdown());
+    }
+
+    @Test
+    public void close_shouldStopAcceptorThread() throws Exception {
+        server.close();
+
+        for (Thread thread : Thread.getAllStackTraces().keySet())
+            assertFalse(thread.getName().equals("game-server-acceptor") && thread.isAlive());
+    }
+
+    @Test
+    public void rejectedSession_shouldCloseSocketAndNotCountAsActive() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        executor.shutdown();
+        try (GameServer otherServer = new GameServer(0, new DefaultBoardFactory(), executor)) {
+            otherServer.start();
+            try (Socket client = new Socket("localhost", otherServer.port())) {
+                client.setSoTimeout((int) TimeUnit.SECONDS.toMillis(30));
+
+                assertEquals("", readUntilClosed(client));
+                assertEquals(0, otherServer.activeSessions());
+            }
+        }
+    }
+
+    @Test
+    public void newSessionExecutor_shouldRunTasks() throws Exception {
+        ExecutorService executor = GameServer.newSessionExecutor();
+        try {
+            assertNotNull(executor.submit(() -> "ran").get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Socket connect() throws IOException {
+        Socket client = new Socket("localhost", server.port());
+        client.setSoTimeout((int) TimeUnit.SECONDS.toMillis(30));
+        return client;
+    }
+
+    private void send(Socket client, String input) throws IOException {
+        OutputStream outputStream = client.getOutputStream();
+        outputStream.write(input.getBytes(StandardCharsets.UTF_8));
+        outputStream.flush();
+    }
+
+    private String readUntilClosed(Socket client) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        InputStream inputStream = client.getInputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1)
+            output.write(buffer, 0, read);
+        return output.toString(StandardCharsets.UTF_8.name());
+    }
+
+    private String readUntil(Socket client, String expected) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        InputStream inputStream = client.getInputStream();
+        int read;
+        while (!output.toString(StandardCharsets.UTF_8.name()).contains(expected)
+                && (read = inputStream.read()) != -1)
+            output.write(read);
+        return output.toString(StandardCharsets.UTF_8.name());
+    }
+
+    private void awaitActiveSessions(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (server.activeSessions() != expected && System.nanoTime() < deadline)
+            Thread.sleep(10);
+        assertEquals(expected, server.activeSessions());
+    }
+}
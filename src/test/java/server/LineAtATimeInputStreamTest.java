@@ -0,0 +1,41 @@
+package server;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+
+import static org.junit.Assert.assertEquals;
+
+public class LineAtATimeInputStreamTest {
+    @Test
+    public void read_shouldStopAfterEachLine() throws Exception {
+        InputStream inputStream = lineAtATime("1\n22\n3");
+        byte[] buffer = new byte[16];
+
+        assertEquals(2, inputStream.read(buffer, 0, buffer.length));
+        assertEquals(3, inputStream.read(buffer, 0, buffer.length));
+        assertEquals(1, inputStream.read(buffer, 0, buffer.length));
+        assertEquals(-1, inputStream.read(buffer, 0, buffer.length));
+    }
+
+    @Test
+    public void separateScanners_shouldEachReadOnlyTheirOwnLine() throws Exception {
+        InputStream inputStream = lineAtATime("first\nsecond\nthird\n");
+
+        assertEquals("first", new Scanner(inputStream).nextLine());
+        assertEquals("second", new Scanner(inputStream).nextLine());
+        assertEquals("third", new Scanner(inputStream).nextLine());
+    }
+
+    @Test
+    public void available_shouldAlwaysBeZero() throws Exception {
+        assertEquals(0, lineAtATime("buffered\n").available());
+    }
+
+    private InputStream lineAtATime(String input) {
+        return new LineAtATimeInputStream(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+    }
+}
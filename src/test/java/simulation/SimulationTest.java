@@ -0,0 +1,102 @@
+package simulation;
+
+import boards.DefaultBoardFactory;
+import org.junit.Test;
+import players.DefaultPlayerFactory;
+import records.GameRecord;
+import records.GameRecordReader;
+import records.GameRecordWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SimulationTest {
+    private final DefaultPlayerFactory playerFactory = new DefaultPlayerFactory(System.in, System.out);
+
+    @Test
+    public void perfectVsPerfect_shouldAlwaysDraw() {
+        SimulationResult result = simulationOf("perfectComputer", "perfectComputer").run(1000, 2);
+
+        assertEquals(1000, result.draws);
+        assertEquals(0, result.playerOneWins);
+        assertEquals(0, result.playerTwoWins);
+    }
+
+    @Test
+    public void randomVsPerfect_randomShouldNeverWin() {
+        SimulationResult result = simulationOf("random", "perfectComputer").run(5000, 3);
+
+        assertEquals(5000, result.games());
+        assertEquals(0, result.playerOneWins);
+        assertTrue(result.playerTwoWins > 0);
+    }
+
+    @Test
+    public void randomVsRandom_shouldCountEveryGame() {
+        SimulationResult result = new Simulation(playerFactory, new DefaultBoardFactory(4, 4, 3), "random", "random")
+                .run(1001, 4);
+
+        assertEquals(1001, result.playerOneWins + result.playerTwoWins + result.draws);
+        assertTrue(result.elapsedNanos > 0);
+        assertTrue(result.gamesPerSecond() > 0);
+    }
+
+    @Test
+    public void moreThreadsThanGames_shouldPlayRequestedGames() {
+        SimulationResult result = simulationOf("random", "random").run(2, 5);
+
+        assertEquals(2, result.games());
+    }
+
+    @Test
+    public void recordedSimulation_shouldWriteEveryGame() throws IOException {
+        Path path = Files.createTempFile("simulation", ".bin");
+        Files.delete(path);
+        try {
+            Simulation simulation = simulationOf("random", "perfectComputer");
+            SimulationResult result;
+            try (GameRecordWriter writer = new GameRecordWriter(path)) {
+                simulation.recordGamesTo(writer);
+                result = simulation.run(500, 3);
+            }
+
+            long records = 0;
+            long playerTwoWins = 0;
+            try (GameRecordReader reader = new GameRecordReader(path)) {
+                while (reader.hasNext()) {
+                    GameRecord record = reader.next();
+                    records++;
+                    if (record.winner == Simulation.PLAYER_TWO_MARKER)
+                        playerTwoWins++;
+                }
+            }
+            assertEquals(500, records);
+            assertEquals(result.playerTwoWins, playerTwoWins);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeGames_shouldThrowException() {
+        simulationOf("random", "random").run(-1, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noThreads_shouldThrowException() {
+        simulationOf("random", "random").run(10, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPlayerType_shouldThrowException() {
+        simulationOf("invalidType", "random").run(1, 1);
+    }
+
+    private Simulation simulationOf(String playerOneType, String playerTwoType) {
+        return new Simulation(playerFactory, new DefaultBoardFactory(), playerOneType, playerTwoType);
+    }
+}